@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.benchmark;
+
+import com.highmobility.autoapi.ColumnarDecoder;
+import com.highmobility.autoapi.CommandResolver;
+import com.highmobility.autoapi.Diagnostics;
+import com.highmobility.autoapi.Identifier;
+import com.highmobility.autoapi.value.measurement.Length;
+import com.highmobility.autoapi.value.measurement.Speed;
+import com.highmobility.utils.ByteUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the odometer, speed and battery level of a batch of diagnostics states, as columns and
+ * from the resolved states. One operation reads the whole batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ColumnarBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    private final List<byte[]> payloads = new ArrayList<>();
+    private final ColumnarDecoder decoder = new ColumnarDecoder.Builder(Identifier.DIAGNOSTICS)
+            .addMeasurementColumn(Diagnostics.PROPERTY_ODOMETER, Length.Unit.KILOMETERS)
+            .addMeasurementColumn(Diagnostics.PROPERTY_SPEED, Speed.Unit.KILOMETERS_PER_HOUR)
+            .addDoubleColumn(Diagnostics.PROPERTY_BATTERY_LEVEL)
+            .build();
+
+    @Setup
+    public void setup() {
+        CommandResolver.setRuntime(CommandResolver.RunTime.ANDROID);
+
+        for (String[] payload : Payloads.CAPABILITIES) {
+            if (payload[0].equals("Diagnostics")) {
+                byte[] bytes = ByteUtils.bytesFromHex(payload[1]);
+                for (int i = 0; i < BATCH_SIZE; i++) payloads.add(bytes);
+            }
+        }
+    }
+
+    @Benchmark
+    public ColumnarDecoder.Columns decodeColumns() {
+        return decoder.decode(payloads);
+    }
+
+    @Benchmark
+    public double[][] resolveStates() {
+        double[][] columns = new double[3][payloads.size()];
+
+        for (int i = 0; i < payloads.size(); i++) {
+            Diagnostics.State state = (Diagnostics.State) CommandResolver.resolve(payloads.get(i));
+            Length odometer = state.getOdometer().getValue();
+            Speed speed = state.getSpeed().getValue();
+            Double batteryLevel = state.getBatteryLevel().getValue();
+
+            if (odometer != null) columns[0][i] = odometer.inKilometers();
+            if (speed != null) columns[1][i] = speed.inKilometersPerHour();
+            if (batteryLevel != null) columns[2][i] = batteryLevel;
+        }
+
+        return columns;
+    }
+}
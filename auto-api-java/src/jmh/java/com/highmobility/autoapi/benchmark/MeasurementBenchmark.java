@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.benchmark;
+
+import com.highmobility.autoapi.property.MeasurementConverter;
+import com.highmobility.autoapi.property.Property;
+import com.highmobility.autoapi.value.measurement.Length;
+import com.highmobility.autoapi.value.measurement.Speed;
+import com.highmobility.autoapi.value.measurement.Temperature;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit conversions of the measurement values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MeasurementBenchmark {
+    private final Length length = new Length(432.1, Length.Unit.MILES);
+    private final Speed speed = new Speed(60.0, Speed.Unit.KILOMETERS_PER_HOUR);
+    private final Temperature temperature = new Temperature(38.4, Temperature.Unit.CELSIUS);
+    private final Property<Length> lengthProperty = new Property<>(length);
+
+    private final MeasurementConverter lengthConverter =
+            MeasurementConverter.forUnit(Length.Unit.class);
+    private final double[] lengths = new double[1024];
+    private final double[] kilometers = new double[1024];
+
+    {
+        Arrays.fill(lengths, 432.1);
+    }
+
+    @Benchmark
+    public double lengthInKilometers() {
+        return length.inKilometers();
+    }
+
+    @Benchmark
+    public double speedInMilesPerHour() {
+        return speed.inMilesPerHour();
+    }
+
+    @Benchmark
+    public double temperatureInFahrenheit() {
+        return temperature.inFahrenheit();
+    }
+
+    @Benchmark
+    public double propertyValueInKilometers() {
+        return lengthProperty.getValueIn(Length.Unit.KILOMETERS);
+    }
+
+    @Benchmark
+    public double[] lengthsInKilometers() {
+        for (int i = 0; i < lengths.length; i++) {
+            kilometers[i] = Length.convert(lengths[i], Length.Unit.MILES, Length.Unit.KILOMETERS);
+        }
+        return kilometers;
+    }
+
+    @Benchmark
+    public double[] lengthsInKilometersBulk() {
+        lengthConverter.convert(lengths, 0, kilometers, 0, lengths.length,
+                Length.Unit.MILES, Length.Unit.KILOMETERS);
+        return kilometers;
+    }
+}
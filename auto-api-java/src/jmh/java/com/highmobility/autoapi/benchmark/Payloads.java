@@ -0,0 +1,272 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.benchmark;
+
+/**
+ * Representative command bytes for every capability, mostly the full states from the capability
+ * tests. Capabilities that only have setters are represented by a setter.
+ */
+final class Payloads {
+    static final String[][] CAPABILITIES = new String[][]{
+            {"Browser",
+                    "0C00490101002201001F68747470733A2F2F61626F75742E686967682D6D6F62696C6974792E636F" +
+                    "6D"},
+            {"Capabilities",
+                    "0C00100101000C01000900200005020304050601000A010007002300030208110200050100020101" +
+                    "0200050100020102"},
+            {"Charging",
+                    "0C00230102000D01000A1204407B01999999999A03000B0100083FE000000000000004000D01000A" +
+                    "0900BFE333333333333305000D01000A0900BFE333333333333306000D01000A0A00407900000000" +
+                    "000007000D01000A0A00407900000000000008000B0100083FECCCCCCCCCCCCD09000D01000A0701" +
+                    "404E0000000000000A000D01000A1402400C0000000000000B0004010001010C0004010001010E00" +
+                    "0D01000A090040390000000000000F00040100010110000401000100110006010003011020110006" +
+                    "010003000B33130006010003001121130006010003010C3414000D01000A17014043333333333333" +
+                    "15000C01000900000001598938E78815000C0100090100000159893C910815000C01000902000001" +
+                    "59893C9108160004010001011700040100010118000D01000A14024062C0000000000019000D0100" +
+                    "0A0900BFE33333333333331A000D01000A0A0040790000000000001B0004010001001C000D01000A" +
+                    "120440815800000000001D0004010001021E0004010001011F000B0100083FECCCCCCCCCCCCD2000" +
+                    "0401000101210004010001012200040100010123000401000101"},
+            {"ChassisSettings",
+                    "0C005301010004010001010200040100010105000E01000B001801403500000000000005000E0100" +
+                    "0B011801403700000000000006000E01000B001801404280000000000006000E01000B0118014043" +
+                    "80000000000007000E01000B001801403000000000000007000E01000B0118014032000000000000" +
+                    "08000D01000A1201403966666666666609000D01000A1201404BC000000000000A000D01000A1201" +
+                    "C03C666666666666"},
+            {"Climate",
+                    "0C00240101000D01000A1701403319999999999A02000D01000A1701402866666666666603000D01" +
+                    "000A1701403580000000000004000D01000A17014035B33333333333050004010001010600040100" +
+                    "0100070004010001000800040100010009000D01000A170140353333333333330B00060100030010" +
+                    "000B00060100030110000B00060100030210000B00060100030310000B00060100030410000B0006" +
+                    "01000305121E0B000601000306131F0B00060100030710000C000D01000A1701403599999999999A"},
+            {"CruiseControl",
+                    "0C006201010004010001010200040100010103000D01000A1601404E800000000000040004010001" +
+                    "0005000D01000A16014050C00000000000"},
+            {"DashboardLights",
+                    "0C006101010005010002000001000501000201000100050100020201010005010002030001000501" +
+                    "00020400010005010002050001000501000206000100050100020700010005010002080001000501" +
+                    "000209000100050100020A000100050100020B000100050100020C000100050100020D0001000501" +
+                    "00020E000100050100020F0101000501000210000100050100021100010005010002120001000501" +
+                    "00021300010005010002140001000501000215010100050100021600010005010002170001000501" +
+                    "0002180001000501000219000100050100021A000100050100021B000100050100021C0001000501" +
+                    "00021D000100050100021E000100050100021F000100050100022000010005010002210001000501" +
+                    "00022200010005010002230001000501000224000100050100022500010005010002260001000501" +
+                    "00022700010005010002280001000501000229000100050100022A000100050100022B0001000501" +
+                    "00022C000100050100022D000100050100022E000100050100022F00010005010002300001000501" +
+                    "00023100010005010002320001000501000233000100050100023400010005010002350001000501" +
+                    "000236000100050100023700010005010002380001000501000239000100050100023A0001000501" +
+                    "00023B000100050100023C000100050100023D000100050100023E000100050100023F0001000501" +
+                    "00024000010005010002410001000501000242000100050100024300010005010002440001000501" +
+                    "00024500010005010002460001000501000247000100050100024800010005010002490001000501" +
+                    "00024A000100050100024B000100050100024C000100050100024D000100050100024E0001000501" +
+                    "00024F00010005010002500001000501000251000100050100025200010005010002530001000501" +
+                    "00025400010005010002550001000501000256000100050100025700010005010002580001000501" +
+                    "000259000100050100025A000100050100025B000100050100025C00"},
+            {"Diagnostics",
+                    "0C00330101000D01000A120441024F800000000002000D01000A17014058E0000000000003000D01" +
+                    "000A1601404E00000000000004000D01000A030040A388000000000005000B0100083FECCCCCCCCC" +
+                    "CCCD06000D01000A12044070900000000000090004010001010B000D01000A0A0040283333333333" +
+                    "330C000B0100083FECCCCCCCCCCCCD0D000D01000A120440977066666666660E000D01000A120440" +
+                    "28CCCCCCCCCCCD0F000D01000A19024041C000000000001000040100010111000D01000A17014034" +
+                    "00000000000012000D01000A0702409772999999999A13000D01000A190240DAF0C0000000001400" +
+                    "040100010015000B0100083FC999999999999A16000B0100083FB999999999999A17000D01000A16" +
+                    "01405040000000000018000B0100083FE1EB851EB851EC1900240100210001070140F9C780000000" +
+                    "00000C436865636B20656E67696E650005416C6572741A000E01000B00150640027AE147AE147B1A" +
+                    "000E01000B01150640027AE147AE147B1A000E01000B0215064001EB851EB851EC1A000E01000B03" +
+                    "15064001EB851EB851EC1A000E01000B04150640020000000000001A000E01000B05150640020000" +
+                    "000000001B000E01000B00170140440CCCCCCCCCCD1B000E01000B011701404419999999999A1B00" +
+                    "0E01000B02170140442666666666661B000E01000B03170140443333333333331B000E01000B0417" +
+                    "0140444000000000001B000E01000B05170140444CCCCCCCCCCD1C000E01000B0003004087080000" +
+                    "0000001C000E01000B01030040875800000000001C000E01000B02030040884800000000001C000E" +
+                    "01000B03030040889800000000001C000E01000B0403004088E800000000001C000E01000B050300" +
+                    "40893800000000001D002201001F0200074331313136464100095244555F3231324652000750454E" +
+                    "44494E47001D001F01001C020007433136334146410006445452323132000750454E44494E47011E" +
+                    "000D01000A120441024F88000000001F000D01000A1205401999999999999A20000D01000A070240" +
+                    "9772999999999A210005010002000021000501000201012100050100020202210005010002030021" +
+                    "0005010002040021000501000205002200040100010023000B0100083FEC28F5C28F5C2924002401" +
+                    "0021000531323349440018000A736F6D655F6572726F72000A736F6D655F76616C756524002D0100" +
+                    "2A0004314233430022000F696D706F7274616E745F6572726F72000F73797374656D206661756C74" +
+                    "20333225000D01000A120440A172000000000026000B0100083FC47AE147AE147B27001C01001900" +
+                    "06383031433130000231360003434153000641435449564527001C01001900064435324334340002" +
+                    "343800034341530006414354495645280006010003000100"},
+            {"Doors",
+                    "0C002001020005010002000102000501000201000200050100020200020005010002030003000501" +
+                    "00020000030005010002010003000501000202010300050100020301040005010002000104000501" +
+                    "00020100040005010002020004000501000203000400050100020500050004010001010600040100" +
+                    "0100"},
+            {"DriverFatigue", "0C00410101000401000101"},
+            {"Engine", "0C0069010100040100010002000401000101"},
+            {"FailureMessage",
+                    "0C0002010100050100020021020004010001010300040100010104000C0100095472792061676169" +
+                    "6E0500050100020102"},
+            {"FirmwareVersion",
+                    "0C000301010006010003010F2102000F01000C6274737461636B2D7561727403000C01000976312E" +
+                    "352D70726F64"},
+            {"Fueling", "0C0040010200040100010103000401000100"},
+            {"Graphics",
+                    "0C00510101003C01003968747470733A2F2F61626F75742E686967682D6D6F62696C6974792E636F" +
+                    "6D2F6173736574732F696D616765732F686D2D6C6F676F2E737667"},
+            {"HeartRate", "0C00290101000D01000A0E084050000000000000"},
+            {"Historical",
+                    "0C00120101002C0100290C0020010600040100010004000501000200010400050100020201A2000B" +
+                    "010008000001598938E7880100430100400C0023010B0004010001010C00040100010018000D0100" +
+                    "0A140240418000000000001C000D01000A12044081580000000000A2000B010008000001598938E7" +
+                    "88"},
+            {"HomeCharger",
+                    "0C00600101000401000102020004010001010300040100010104000D01000A140240270000000000" +
+                    "00050004010001010800040100010109000F01000C4368617267657220373631320A000401000103" +
+                    "0B000D01000A5A57337641524E5542650D0004010001010E000D01000A09003FE00000000000000F" +
+                    "000D01000A09003FF000000000000010000D01000A09003FB999999999999A110013010010404A42" +
+                    "8F9F44D445402ACF562174C4CE12001101000E004012000000000000000345555212001101000E01" +
+                    "3FD33333333333330003455552120014010011023FD33333333333330006526970706C6513000D01" +
+                    "000A14024075E00000000000"},
+            {"HonkHornFlashLights", "0C00260101000401000102"},
+            {"Hood", "0C00670101000401000101"},
+            {"Ignition", "0C003501010004010001000200040100010103000401000102"},
+            {"KeyfobPosition", "0C00480101000401000105"},
+            {"LightConditions", "0C00540101000D01000A110040FB19800000000002000D01000A11003FD0000000000000"},
+            {"Lights",
+                    "0C0036010100040100010202000401000101040006010003FF000005000401000100060004010001" +
+                    "00070005010002000007000501000201010800050100020001080005010002010108000501000202" +
+                    "000800050100020300090005010002000009000501000201010A000401000102"},
+            {"Maintenance",
+                    "0C00340101000D01000A0703407F50000000000002000D01000A120440ACC2000000000003000401" +
+                    "00010304000D01000A070540140000000000000500040100010206000D01000A120440B388000000" +
+                    "000007000D01000A0704401000000000000008000B010008000001674058F13009000B0100080000" +
+                    "01674024C1D00A000B01000800000166A15D20D80B004401004107E305000300000B4272616B6520" +
+                    "666C756964002C4E657874206368616E676520617420737065636966696564206461746520617420" +
+                    "746865206C61746573742E0C000B010008000001677C63D2800D000D01000A0703407F5000000000" +
+                    "000E000D01000A120440ACC200000000000F000D01000A0705401400000000000010000B01000800" +
+                    "0001677C63D280"},
+            {"Messaging", "0C00370101000B010008486579206D6F6D21020006010003457070"},
+            {"Mobile", "0C00660101000401000101"},
+            {"MultiCommand",
+                    "0C00130101002C0100290C0020010600040100010004000501000200010400050100020201A2000B" +
+                    "010008000001598938E7880100430100400C0023010B0004010001010C00040100010018000D0100" +
+                    "0A140240418000000000001C000D01000A12044081580000000000A2000B010008000001598938E7" +
+                    "88"},
+            {"NaviDestination",
+                    "0C003101010013010010404A428F9F44D445402ACF562174C4CE0200090100064265726C696E0300" +
+                    "040100010E0400040100011E05000D01000A07024004CCCCCCCCCCCD06000D01000A12044094E400" +
+                    "00000000"},
+            {"Notifications",
+                    "0C00380101000E01000B4F70656E2047617261676502000A0100071B00044F70656E02000C010009" +
+                    "1C000643616E63656C0300040100011B04000401000100"},
+            {"Offroad", "0C00520101000D01000A0200402433333333333302000B0100083FE0000000000000"},
+            {"ParkingBrake", "0C00580101000401000101"},
+            {"ParkingTicket",
+                    "0C0047010100040100010002001101000E4265726C696E205061726B696E6703000D01000A363438" +
+                    "3941423432333304000B0100080000015989DFCA3005000B0100080000016DAB1A8528"},
+            {"PowerTakeoff", "0C0065010100040100010102000401000101"},
+            {"Race",
+                    "0C00570101000E01000B0001013FEBA5E353F7CED901000E01000B010101BFE8189374BC6A7F0100" +
+                    "0E01000B0201013FE8189374BC6A7F01000E01000B030101BFEBA5E353F7CED902000B0100083FC8" +
+                    "51EB851EB85203000B0100083FA999999999999A04000B0100083FEF5C28F5C28F5C05000D01000A" +
+                    "0200402400000000000006000D01000A1506403400000000000007000D01000A0301401AA3D70A3D" +
+                    "70A408000D01000A0200400A666666666666090004010001010A000501000200010A000501000201" +
+                    "000B0004010001040C0004010001040D000B0100083FBEB851EB851EB80E0004010001010F000401" +
+                    "000101100004010001011100040100010112000401000101"},
+            {"RemoteControl", "0C0027010100040100010202000D01000A02004049000000000000"},
+            {"RooftopControl", "0C00250101000B0100083FF0000000000000"},
+            {"Seats",
+                    "0C005601020005010002000102000501000201000200050100020200020005010002030002000501" +
+                    "00020400030005010002000103000501000201000300050100020200030005010002030003000501" +
+                    "00020400"},
+            {"Tachograph",
+                    "0C006401010005010002010201000501000202000200050100020302020005010002040503000501" +
+                    "00020601030005010002070004000401000101050004010001000600040100010007000D01000A16" +
+                    "014054000000000000"},
+            {"TextInput", "0C00440101001701001452656E64657A766F757320776974682052616D61"},
+            {"TheftAlarm",
+                    "0C0046010100040100010102000401000102030004010001020400040100010605000B0100080000" +
+                    "0172BCD25B100600040100010007000401000105"},
+            {"Trips",
+                    "0C006A010100040100010002000E01000B486172692053656C646F6E030014010011546F20736176" +
+                    "652068756D616E6B696E6404000B01000800000172CC7E519005000B01000800000172CCB5401006" +
+                    "002E01002B536B616C69747A65722053747261C39F652036382C203130393937204265726C696E2C" +
+                    "204765726D616E7907002E01002B536B616C69747A65722053747261C39F652036382C2031303939" +
+                    "37204265726C696E2C204765726D616E79080013010010404A40090B417CA2402AE122D948DC1209" +
+                    "0013010010404A40090B417CA2402AE122D948DC120A000D01000A120440C48200000000000B000D" +
+                    "01000A120440C49780000000000C000D01000A0F00401D5C28F5C28F5C0D000D01000A1204404580" +
+                    "00000000000E000C0100090000064265726C696E0E000D01000A0100074765726D616E790E000801" +
+                    "000502000244450E000C0100090300064265726C696E0E000B01000804000531303131370E001A01" +
+                    "0017050014536B616C69747A65722053747261C39F652036380E001101000E06000B4272616E6465" +
+                    "6E627572670E000D01000A0700074765726D616E790F000C0100090000064265726C696E0F000D01" +
+                    "000A0100074765726D616E790F000801000502000244450F000C0100090300064265726C696E0F00" +
+                    "0B01000804000531303131370F001A010017050014536B616C69747A65722053747261C39F652036" +
+                    "380F001101000E06000B4272616E64656E627572670F000D01000A0700074765726D616E79"},
+            {"Trunk", "0C0021010100040100010002000401000101"},
+            {"Usage",
+                    "0C00680101000D01000A12044084D4CCCCCCCCCD02000D01000A120440884D999999999A03000B01" +
+                    "00083FE666666666666604000B0100083FEC28F5C28F5C2905000C010009003FC999999999999A05" +
+                    "000C010009013FD333333333333305000C010009023FB999999999999A05000C010009033FB99999" +
+                    "9999999A05000C010009043FD333333333333305000C01000905000000000000000006000E01000B" +
+                    "000C04403433333333333306000E01000B010C04404099999999999A06000E01000B020C04404B26" +
+                    "666666666606000E01000B030C04405033333333333306000E01000B040C04403200000000000006" +
+                    "000E01000B050C044040D9999999999A07000D01000A0C04405953333333333308000D01000A1902" +
+                    "403680000000000009000D01000A120440F75900000000000A000B0100083FE66666666666660B00" +
+                    "0D01000A0D004016B851EB851EB80C000B0100083FE00000000000000D000B010008000001668205" +
+                    "9D500E000D01000A0F00401A0000000000000F000D01000A0F00401E00000000000010000D01000A" +
+                    "120440F759000000000011000B0100083FE666666666666612000401000100130004010001011400" +
+                    "04010001001500170100141204409773851EB851EC0704402400000000000016000D01000A0D0040" +
+                    "2670A3D70A3D7117000D01000A0D004036547AE147AE1418000D01000A120040FB19800000000019" +
+                    "000D01000A1200410B1980000000001A000D01000A070140534000000000001B000D01000A070140" +
+                    "560000000000001C000D01000A0F00401599999999999A1D000D01000A0F0040153333333333331E" +
+                    "000D01000A1601404619999999999A1F000D01000A1601404619999999999A20000D01000A120040" +
+                    "FB19800000000021000D01000A1200410B19800000000022000D01000A0701405340000000000023" +
+                    "000D01000A0701405600000000000024000B0100083FE666666666666625000B0100083FE6666666" +
+                    "66666626000B0100083FE666666666666627000D01000A12043FE6666666666666"},
+            {"ValetMode", "0C00280101000401000101"},
+            {"VehicleInformation",
+                    "0C001401020004010001010300090100065479706520580400090100065370656564790500090100" +
+                    "0641424331323306000B0100085061636B6167652B07000501000207E308000F01000C4573746F72" +
+                    "696C20426C617509000D01000A1402406B8000000000000A0004010001050B0004010001050C000D" +
+                    "01000A190240040000000000000D000D01000A1800406EA000000000000E0004010001010F000401" +
+                    "0001001000040100010011001201000F5061726B696E672073656E736F7273"},
+            {"VehicleLocation",
+                    "0C003001040013010010404A428F9F44D445402ACF562174C4CE05000D01000A0200402ABD80C308" +
+                    "FEAC06000D01000A12004060B0000000000007000D01000A1200407F400000000000"},
+            {"VehicleStatus",
+                    "0C00110199002C0100290C0020010600040100010004000501000200010400050100020201A2000B" +
+                    "010008000001598938E7889900430100400C0023010B0004010001010C00040100010018000D0100" +
+                    "0A140240418000000000001C000D01000A12044081580000000000A2000B010008000001598938E7" +
+                    "88"},
+            {"VehicleTime", "0C0050010100050100021337"},
+            {"VideoHandover",
+                    "0C00430101001901001668747470733A2F2F6269742E6C792F326F62593747350300040100010104" +
+                    "000D01000A07004004000000000000"},
+            {"WakeUp", "0C00220101000401000100"},
+            {"WeatherConditions", "0C00550101000B0100083FF0000000000000"},
+            {"WiFi", "0C0059010100040100010102000401000101030007010004484F4D4504000401000103"},
+            {"Windows",
+                    "0C00450102000C010009003FC999999999999A02000C010009013FE000000000000002000C010009" +
+                    "023FE000000000000002000C010009033FB999999999999A02000C010009043FC70A3D70A3D70A03" +
+                    "000501000200010300050100020101030005010002020003000501000203010300050100020401"},
+            {"Windscreen",
+                    "0C004201010004010001020200040100010303000401000101040005010002040305000501000201" +
+                    "020600040100010107000B0100083FEE66666666666608000B010008000001598938E788"}
+    };
+
+    private Payloads() {
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.benchmark;
+
+import com.highmobility.autoapi.property.Property;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The primitive encoding and decoding helpers in {@link Property}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PropertyBenchmark {
+    private final byte[] bytes = new byte[]{
+            0x00, 0x00, 0x01, 0x59, (byte) 0x89, 0x38, (byte) 0xe7, (byte) 0x88 // 2017-01-10T16:32:05Z
+    };
+    private int value = 0x1598938e;
+
+    @Benchmark
+    public int getUnsignedInt() {
+        return Property.getUnsignedInt(bytes, 4, 4);
+    }
+
+    @Benchmark
+    public int getUnsignedIntShort() {
+        return Property.getUnsignedInt(bytes, 6, 2);
+    }
+
+    @Benchmark
+    public byte[] intToBytes() {
+        return Property.intToBytes(value, 4);
+    }
+
+    @Benchmark
+    public Calendar getCalendar() {
+        return Property.getCalendar(bytes, 0, 8);
+    }
+
+    @Benchmark
+    public double getDouble() {
+        return Property.getDouble(bytes, 0);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.benchmark;
+
+import com.highmobility.autoapi.Command;
+import com.highmobility.autoapi.CommandResolver;
+import com.highmobility.autoapi.property.Property;
+import com.highmobility.utils.ByteUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the capability payloads with {@link CommandResolver}. One operation resolves every
+ * selected payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResolveBenchmark {
+    /**
+     * The capability name in {@link Payloads}, or ALL for every capability.
+     */
+    @Param("ALL")
+    public String capability;
+
+    @Param({"false", "true"})
+    public boolean lazyDecoding;
+
+    private byte[][] payloads;
+
+    @Setup
+    public void setup() {
+        // the payloads are incoming states, as received on the device
+        CommandResolver.setRuntime(CommandResolver.RunTime.ANDROID);
+        CommandResolver.setLazyDecoding(lazyDecoding);
+
+        ArrayList<byte[]> selected = new ArrayList<>();
+        for (String[] payload : Payloads.CAPABILITIES) {
+            if (capability.equals("ALL") || capability.equals(payload[0])) {
+                selected.add(ByteUtils.bytesFromHex(payload[1]));
+            }
+        }
+
+        if (selected.size() == 0) {
+            throw new IllegalArgumentException("No payload for capability " + capability);
+        }
+
+        payloads = selected.toArray(new byte[0][]);
+    }
+
+    @Benchmark
+    public void resolve(Blackhole blackhole) {
+        for (byte[] payload : payloads) {
+            blackhole.consume(CommandResolver.resolve(payload));
+        }
+    }
+
+    @Benchmark
+    public void resolveReusing(Blackhole blackhole) {
+        for (byte[] payload : payloads) {
+            blackhole.consume(CommandResolver.resolveReusing(payload));
+        }
+    }
+
+    @Benchmark
+    public void resolveAndReadValues(Blackhole blackhole) {
+        for (byte[] payload : payloads) {
+            Command command = CommandResolver.resolve(payload);
+            for (Property property : command.getProperties()) {
+                blackhole.consume(property.getValue());
+            }
+        }
+    }
+}
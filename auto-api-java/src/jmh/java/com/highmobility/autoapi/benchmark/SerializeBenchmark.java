@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.benchmark;
+
+import com.highmobility.autoapi.Charging;
+import com.highmobility.autoapi.CommandResolver;
+import com.highmobility.autoapi.Doors;
+import com.highmobility.autoapi.VehicleStatus;
+import com.highmobility.autoapi.property.Property;
+import com.highmobility.autoapi.value.ActiveState;
+import com.highmobility.autoapi.value.DepartureTime;
+import com.highmobility.autoapi.value.DoorPosition;
+import com.highmobility.autoapi.value.EnabledState;
+import com.highmobility.autoapi.value.Location;
+import com.highmobility.autoapi.value.Lock;
+import com.highmobility.autoapi.value.LockState;
+import com.highmobility.autoapi.value.Position;
+import com.highmobility.autoapi.value.ReductionTime;
+import com.highmobility.autoapi.value.StartStop;
+import com.highmobility.autoapi.value.Time;
+import com.highmobility.autoapi.value.Timer;
+import com.highmobility.autoapi.value.measurement.Duration;
+import com.highmobility.autoapi.value.measurement.ElectricCurrent;
+import com.highmobility.autoapi.value.measurement.ElectricPotentialDifference;
+import com.highmobility.autoapi.value.measurement.Length;
+import com.highmobility.autoapi.value.measurement.Power;
+import com.highmobility.autoapi.value.measurement.Temperature;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the command bytes with the state builders and setter constructors. The builders are
+ * filled once, every operation builds the command from them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SerializeBenchmark {
+    private Charging.State.Builder chargingBuilder;
+    private Doors.State.Builder doorsBuilder;
+    private VehicleStatus.State.Builder vehicleStatusBuilder;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        CommandResolver.setRuntime(CommandResolver.RunTime.ANDROID);
+
+        chargingBuilder = new Charging.State.Builder();
+        chargingBuilder.setEstimatedRange(new Property<>(new Length(432.1, Length.Unit.KILOMETERS)));
+        chargingBuilder.setBatteryLevel(new Property<>(0.5));
+        chargingBuilder.setBatteryCurrentAC(new Property<>(new ElectricCurrent(-0.6,
+                ElectricCurrent.Unit.AMPERES)));
+        chargingBuilder.setChargerVoltageAC(new Property<>(new ElectricPotentialDifference(400.0,
+                ElectricPotentialDifference.Unit.VOLTS)));
+        chargingBuilder.setChargeLimit(new Property<>(0.9));
+        chargingBuilder.setTimeToCompleteCharge(new Property<>(new Duration(60.0,
+                Duration.Unit.MINUTES)));
+        chargingBuilder.setChargingRateKW(new Property<>(new Power(3.5, Power.Unit.KILOWATTS)));
+        chargingBuilder.setChargePortState(new Property<>(Position.OPEN));
+        chargingBuilder.setChargeMode(new Property<>(Charging.ChargeMode.TIMER_BASED));
+        chargingBuilder.setPlugType(new Property<>(Charging.PlugType.TYPE_2));
+        chargingBuilder.addDepartureTime(new Property<>(new DepartureTime(ActiveState.ACTIVE,
+                new Time(16, 32))));
+        chargingBuilder.addReductionTime(new Property<>(new ReductionTime(StartStop.START,
+                new Time(17, 33))));
+        chargingBuilder.setBatteryTemperature(new Property<>(new Temperature(38.4,
+                Temperature.Unit.CELSIUS)));
+        chargingBuilder.addTimer(new Property<>(new Timer(Timer.TimerType.PREFERRED_START_TIME,
+                getCalendar(1484065925000L))));
+        chargingBuilder.addTimer(new Property<>(new Timer(Timer.TimerType.PREFERRED_END_TIME,
+                getCalendar(1484066165000L))));
+        chargingBuilder.setPluggedIn(new Property<>(Charging.PluggedIn.PLUGGED_IN));
+        chargingBuilder.setStatus(new Property<>(Charging.Status.CHARGING));
+        chargingBuilder.setMaxRange(new Property<>(new Length(555.0, Length.Unit.KILOMETERS)));
+        chargingBuilder.setPreconditioningDepartureEnabled(new Property<>(EnabledState.ENABLED));
+
+        doorsBuilder = new Doors.State.Builder();
+        doorsBuilder.addInsideLock(new Property<>(new Lock(Location.FRONT_LEFT, LockState.LOCKED)));
+        doorsBuilder.addInsideLock(new Property<>(new Lock(Location.FRONT_RIGHT,
+                LockState.UNLOCKED)));
+        doorsBuilder.addLock(new Property<>(new Lock(Location.FRONT_LEFT, LockState.UNLOCKED)));
+        doorsBuilder.addLock(new Property<>(new Lock(Location.FRONT_RIGHT, LockState.UNLOCKED)));
+        doorsBuilder.addPosition(new Property<>(new DoorPosition(DoorPosition.Location.FRONT_LEFT,
+                Position.OPEN)));
+        doorsBuilder.addPosition(new Property<>(new DoorPosition(DoorPosition.Location.ALL,
+                Position.CLOSED)));
+        doorsBuilder.setInsideLocksState(new Property<>(LockState.LOCKED));
+        doorsBuilder.setLocksState(new Property<>(LockState.UNLOCKED));
+
+        vehicleStatusBuilder = new VehicleStatus.State.Builder();
+        vehicleStatusBuilder.addState(new Property<>(chargingBuilder.build()));
+        vehicleStatusBuilder.addState(new Property<>(doorsBuilder.build()));
+
+        buffer = ByteBuffer.allocate(chargingBuilder.getCommandLength());
+    }
+
+    @Benchmark
+    public Charging.State chargingState() {
+        return chargingBuilder.build();
+    }
+
+    @Benchmark
+    public ByteBuffer chargingStateToBuffer() {
+        buffer.clear();
+        chargingBuilder.writeTo(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Doors.State doorsState() {
+        return doorsBuilder.build();
+    }
+
+    @Benchmark
+    public VehicleStatus.State vehicleStatus() {
+        return vehicleStatusBuilder.build();
+    }
+
+    @Benchmark
+    public Charging.SetChargeMode setter() {
+        return new Charging.SetChargeMode(Charging.ChargeMode.IMMEDIATE);
+    }
+
+    private static Calendar getCalendar(long millis) {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+}
@@ -29,6 +29,7 @@ import com.highmobility.autoapi.value.Webhook;
 import com.highmobility.value.Bytes;
 import java.util.ArrayList;
 import java.util.List;
+import javax.annotation.Nullable;
 
 /**
  * The Capabilities capability
@@ -105,6 +106,9 @@ public class Capabilities {
     public static class State extends SetCommand {
         List<Property<SupportedCapability>> capabilities;
         List<Property<Webhook>> webhooks;
+        // the supported property identifiers of each capability as a 256 bit set, created on the
+        // first getSupported() call
+        @Nullable private volatile long[][] supported;
     
         /**
          * @return The capabilities
@@ -128,6 +132,43 @@ public class Capabilities {
          * @return The supported state.
          */
         public boolean getSupported(Integer identifier, byte propertyID) {
+            if (identifier < 0 || identifier >= CommandResolver.IDENTIFIER_COUNT)
+                return findSupported(identifier, propertyID);
+    
+            long[][] supported = this.supported;
+            if (supported == null) supported = createSupported();
+    
+            long[] propertyIDs = supported[identifier];
+            int index = propertyID & 0xFF;
+            return propertyIDs != null && (propertyIDs[index >>> 6] & (1L << index)) != 0;
+        }
+    
+        private long[][] createSupported() {
+            long[][] supported = new long[CommandResolver.IDENTIFIER_COUNT][];
+    
+            for (Property<SupportedCapability> capability : capabilities) {
+                SupportedCapability value = capability.getValue();
+                if (value == null || value.getCapabilityID() < 0 ||
+                        value.getCapabilityID() >= CommandResolver.IDENTIFIER_COUNT) continue;
+    
+                long[] propertyIDs = supported[value.getCapabilityID()];
+                if (propertyIDs == null) {
+                    propertyIDs = new long[4];
+                    supported[value.getCapabilityID()] = propertyIDs;
+                }
+    
+                byte[] supportedPropertyIDs = value.getSupportedPropertyIDs().getByteArray();
+                for (byte supportedPropertyID : supportedPropertyIDs) {
+                    int index = supportedPropertyID & 0xFF;
+                    propertyIDs[index >>> 6] |= 1L << index;
+                }
+            }
+    
+            this.supported = supported;
+            return supported;
+        }
+    
+        private boolean findSupported(Integer identifier, byte propertyID) {
             for (Property<SupportedCapability> capability : capabilities) {
                 if (identifier.equals(capability.getValue().getCapabilityID())) {
                     for (Byte supportedPropertyID : capability.getValue().getSupportedPropertyIDs()) {
@@ -143,7 +184,14 @@ public class Capabilities {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
     
+        @Override void parseProperties() {
             final ArrayList<Property<SupportedCapability>> capabilitiesBuilder = new ArrayList<>();
             final ArrayList<Property<Webhook>> webhooksBuilder = new ArrayList<>();
     
@@ -166,6 +214,7 @@ public class Capabilities {
     
             capabilities = capabilitiesBuilder;
             webhooks = webhooksBuilder;
+            supported = null;
         }
     
         private State(Builder builder) {
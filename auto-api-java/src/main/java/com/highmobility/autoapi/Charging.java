@@ -41,6 +41,8 @@ import com.highmobility.value.Bytes;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -723,6 +725,43 @@ public class Charging {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            estimatedRange.reset();
+            batteryLevel.reset();
+            batteryCurrentAC.reset();
+            batteryCurrentDC.reset();
+            chargerVoltageAC.reset();
+            chargerVoltageDC.reset();
+            chargeLimit.reset();
+            timeToCompleteCharge.reset();
+            chargingRateKW.reset();
+            chargePortState.reset();
+            chargeMode.reset();
+            maxChargingCurrent.reset();
+            plugType.reset();
+            chargingWindowChosen.reset();
+            batteryTemperature.reset();
+            pluggedIn.reset();
+            status.reset();
+            chargingRate.reset();
+            batteryCurrent.reset();
+            chargerVoltage.reset();
+            currentType.reset();
+            maxRange.reset();
+            starterBatteryState.reset();
+            smartChargingStatus.reset();
+            batteryLevelAtDeparture.reset();
+            preconditioningDepartureStatus.reset();
+            preconditioningImmediateStatus.reset();
+            preconditioningDepartureEnabled.reset();
+            preconditioningError.reset();
     
             final ArrayList<Property<DepartureTime>> departureTimesBuilder = new ArrayList<>();
             final ArrayList<Property<ReductionTime>> reductionTimesBuilder = new ArrayList<>();
@@ -1253,17 +1292,25 @@ public class Charging {
         TIMER_BASED((byte) 0x01),
         INDUCTIVE((byte) 0x02);
     
-        public static ChargeMode fromByte(byte byteValue) throws CommandParseException {
-            ChargeMode[] values = ChargeMode.values();
+        private static final ChargeMode[] byByte = new ChargeMode[256];
     
-            for (int i = 0; i < values.length; i++) {
-                ChargeMode state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (ChargeMode state : ChargeMode.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Charging.ChargeMode does not contain: " + hexFromByte(byteValue));
+        public static ChargeMode fromByte(byte byteValue) throws CommandParseException {
+            ChargeMode state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.ChargeMode does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static ChargeMode fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1283,17 +1330,25 @@ public class Charging {
         CCS((byte) 0x02),
         CHADEMO((byte) 0x03);
     
-        public static PlugType fromByte(byte byteValue) throws CommandParseException {
-            PlugType[] values = PlugType.values();
+        private static final PlugType[] byByte = new PlugType[256];
     
-            for (int i = 0; i < values.length; i++) {
-                PlugType state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (PlugType state : PlugType.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static PlugType fromByte(byte byteValue) throws CommandParseException {
+            PlugType state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.PlugType does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Charging.PlugType does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static PlugType fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1311,17 +1366,25 @@ public class Charging {
         NOT_CHOSEN((byte) 0x00),
         CHOSEN((byte) 0x01);
     
-        public static ChargingWindowChosen fromByte(byte byteValue) throws CommandParseException {
-            ChargingWindowChosen[] values = ChargingWindowChosen.values();
+        private static final ChargingWindowChosen[] byByte = new ChargingWindowChosen[256];
     
-            for (int i = 0; i < values.length; i++) {
-                ChargingWindowChosen state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (ChargingWindowChosen state : ChargingWindowChosen.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static ChargingWindowChosen fromByte(byte byteValue) throws CommandParseException {
+            ChargingWindowChosen state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.ChargingWindowChosen does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Charging.ChargingWindowChosen does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static ChargingWindowChosen fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1339,17 +1402,25 @@ public class Charging {
         DISCONNECTED((byte) 0x00),
         PLUGGED_IN((byte) 0x01);
     
-        public static PluggedIn fromByte(byte byteValue) throws CommandParseException {
-            PluggedIn[] values = PluggedIn.values();
+        private static final PluggedIn[] byByte = new PluggedIn[256];
     
-            for (int i = 0; i < values.length; i++) {
-                PluggedIn state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (PluggedIn state : PluggedIn.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Charging.PluggedIn does not contain: " + hexFromByte(byteValue));
+        public static PluggedIn fromByte(byte byteValue) throws CommandParseException {
+            PluggedIn state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.PluggedIn does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static PluggedIn fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1376,17 +1447,25 @@ public class Charging {
         DISCHARGING((byte) 0x09),
         FOREIGN_OBJECT_DETECTED((byte) 0x0a);
     
-        public static Status fromByte(byte byteValue) throws CommandParseException {
-            Status[] values = Status.values();
+        private static final Status[] byByte = new Status[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Status state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Status state : Status.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Charging.Status does not contain: " + hexFromByte(byteValue));
+        public static Status fromByte(byte byteValue) throws CommandParseException {
+            Status state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.Status does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Status fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1404,17 +1483,25 @@ public class Charging {
         ALTERNATING_CURRENT((byte) 0x00),
         DIRECT_CURRENT((byte) 0x01);
     
-        public static CurrentType fromByte(byte byteValue) throws CommandParseException {
-            CurrentType[] values = CurrentType.values();
+        private static final CurrentType[] byByte = new CurrentType[256];
     
-            for (int i = 0; i < values.length; i++) {
-                CurrentType state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (CurrentType state : CurrentType.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Charging.CurrentType does not contain: " + hexFromByte(byteValue));
+        public static CurrentType fromByte(byte byteValue) throws CommandParseException {
+            CurrentType state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.CurrentType does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static CurrentType fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1442,17 +1529,25 @@ public class Charging {
          */
         GREEN((byte) 0x02);
     
-        public static StarterBatteryState fromByte(byte byteValue) throws CommandParseException {
-            StarterBatteryState[] values = StarterBatteryState.values();
+        private static final StarterBatteryState[] byByte = new StarterBatteryState[256];
     
-            for (int i = 0; i < values.length; i++) {
-                StarterBatteryState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (StarterBatteryState state : StarterBatteryState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Charging.StarterBatteryState does not contain: " + hexFromByte(byteValue));
+        public static StarterBatteryState fromByte(byte byteValue) throws CommandParseException {
+            StarterBatteryState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.StarterBatteryState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static StarterBatteryState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1477,17 +1572,25 @@ public class Charging {
          */
         PEAK_SETTING_ACTIVE((byte) 0x02);
     
-        public static SmartChargingStatus fromByte(byte byteValue) throws CommandParseException {
-            SmartChargingStatus[] values = SmartChargingStatus.values();
+        private static final SmartChargingStatus[] byByte = new SmartChargingStatus[256];
     
-            for (int i = 0; i < values.length; i++) {
-                SmartChargingStatus state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (SmartChargingStatus state : SmartChargingStatus.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Charging.SmartChargingStatus does not contain: " + hexFromByte(byteValue));
+        public static SmartChargingStatus fromByte(byte byteValue) throws CommandParseException {
+            SmartChargingStatus state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.SmartChargingStatus does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static SmartChargingStatus fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -1514,17 +1617,25 @@ public class Charging {
         AVAILABLE_AFTER_ENGINE_RESTART((byte) 0x03),
         GENERAL_ERROR((byte) 0x04);
     
-        public static PreconditioningError fromByte(byte byteValue) throws CommandParseException {
-            PreconditioningError[] values = PreconditioningError.values();
+        private static final PreconditioningError[] byByte = new PreconditioningError[256];
     
-            for (int i = 0; i < values.length; i++) {
-                PreconditioningError state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (PreconditioningError state : PreconditioningError.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Charging.PreconditioningError does not contain: " + hexFromByte(byteValue));
+        public static PreconditioningError fromByte(byte byteValue) throws CommandParseException {
+            PreconditioningError state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Charging.PreconditioningError does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static PreconditioningError fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
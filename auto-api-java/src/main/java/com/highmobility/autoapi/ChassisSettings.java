@@ -32,6 +32,8 @@ import com.highmobility.value.Bytes;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -383,6 +385,19 @@ public class ChassisSettings {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            drivingMode.reset();
+            sportChrono.reset();
+            currentChassisPosition.reset();
+            maximumChassisPosition.reset();
+            minimumChassisPosition.reset();
     
             final ArrayList<Property<SpringRate>> currentSpringRatesBuilder = new ArrayList<>();
             final ArrayList<Property<SpringRate>> maximumSpringRatesBuilder = new ArrayList<>();
@@ -591,17 +606,25 @@ public class ChassisSettings {
         ACTIVE((byte) 0x01),
         RESET((byte) 0x02);
     
-        public static SportChrono fromByte(byte byteValue) throws CommandParseException {
-            SportChrono[] values = SportChrono.values();
+        private static final SportChrono[] byByte = new SportChrono[256];
     
-            for (int i = 0; i < values.length; i++) {
-                SportChrono state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (SportChrono state : SportChrono.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("ChassisSettings.SportChrono does not contain: " + hexFromByte(byteValue));
+        public static SportChrono fromByte(byte byteValue) throws CommandParseException {
+            SportChrono state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("ChassisSettings.SportChrono does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static SportChrono fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -508,6 +508,24 @@ public class Climate {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            insideTemperature.reset();
+            outsideTemperature.reset();
+            driverTemperatureSetting.reset();
+            passengerTemperatureSetting.reset();
+            hvacState.reset();
+            defoggingState.reset();
+            defrostingState.reset();
+            ionisingState.reset();
+            defrostingTemperatureSetting.reset();
+            rearTemperatureSetting.reset();
     
             final ArrayList<Property<HvacWeekdayStartingTime>> hvacWeekdayStartingTimesBuilder = new ArrayList<>();
     
@@ -0,0 +1,425 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.autoapi.property.MeasurementConverter;
+import com.highmobility.autoapi.property.Property;
+import com.highmobility.autoapi.value.Coordinates;
+import com.highmobility.autoapi.value.measurement.MeasurementType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes the chosen properties of a batch of commands into primitive arrays, with a row for every
+ * command. The values are read from the command bytes with {@link CommandScanner}, so no {@link
+ * Command} or {@link Property} objects are created.
+ * <p>
+ * A row is null for a property if the command does not have the property's value, or the value
+ * does not match the column, eg a measurement of another type. Commands of other capabilities and
+ * get commands have only null rows. If a property is repeated in a command, its last value is
+ * used.
+ * <pre>
+ * ColumnarDecoder decoder = new ColumnarDecoder.Builder(Identifier.DIAGNOSTICS)
+ *         .addMeasurementColumn(Diagnostics.PROPERTY_ODOMETER, Length.Unit.KILOMETERS)
+ *         .addDoubleColumn(Diagnostics.PROPERTY_BATTERY_LEVEL)
+ *         .build();
+ * ColumnarDecoder.Columns columns = decoder.decode(commands);
+ * double[] odometer = columns.getDoubles(Diagnostics.PROPERTY_ODOMETER);
+ * </pre>
+ */
+public class ColumnarDecoder {
+    private static final byte VALUE_COMPONENT_IDENTIFIER = 0x01;
+
+    private static final byte DOUBLE = 0;
+    private static final byte LONG = 1;
+    private static final byte BYTE = 2;
+    private static final byte MEASUREMENT = 3;
+    private static final byte COORDINATES = 4;
+
+    private final int identifier;
+    private final Column[] columns;
+    // the column index of each property identifier, or -1
+    private final int[] columnIndexes = new int[256];
+
+    private ColumnarDecoder(Builder builder) {
+        identifier = builder.identifier;
+        columns = builder.columns.toArray(new Column[0]);
+
+        Arrays.fill(columnIndexes, -1);
+        for (int i = 0; i < columns.length; i++) {
+            columnIndexes[columns[i].propertyIdentifier & 0xFF] = i;
+        }
+    }
+
+    /**
+     * @return The capability identifier.
+     */
+    public int getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * Decode the commands' values into columns.
+     *
+     * @param commands The command bytes. A null command has only null rows.
+     * @return The columns.
+     */
+    public Columns decode(List<byte[]> commands) {
+        Columns result = new Columns(commands.size());
+        RowDecoder rowDecoder = new RowDecoder(result);
+
+        for (int row = 0; row < commands.size(); row++) {
+            byte[] bytes = commands.get(row);
+            if (bytes == null || bytes.length < CommandScanner.HEADER_LENGTH ||
+                    CommandScanner.getIdentifier(bytes) != identifier) continue;
+
+            rowDecoder.row = row;
+            CommandScanner.scan(bytes, rowDecoder);
+        }
+
+        return result;
+    }
+
+    private static final class Column {
+        final byte propertyIdentifier;
+        final byte kind;
+        final MeasurementConverter converter;
+        final Enum<?> unit;
+        // whether a long value is sign extended from its length
+        final boolean signed;
+
+        Column(byte propertyIdentifier, byte kind, MeasurementConverter converter, Enum<?> unit) {
+            this(propertyIdentifier, kind, converter, unit, false);
+        }
+
+        Column(byte propertyIdentifier, byte kind, MeasurementConverter converter, Enum<?> unit,
+               boolean signed) {
+            this.propertyIdentifier = propertyIdentifier;
+            this.kind = kind;
+            this.converter = converter;
+            this.unit = unit;
+            this.signed = signed;
+        }
+    }
+
+    // Writes the value components of the command on the current row
+    private final class RowDecoder implements PropertyVisitor {
+        final Columns result;
+        int row;
+
+        RowDecoder(Columns result) {
+            this.result = result;
+        }
+
+        @Override
+        public void visitComponent(byte propertyIdentifier, byte componentIdentifier,
+                                   byte[] bytes, int offset, int length) {
+            if (componentIdentifier != VALUE_COMPONENT_IDENTIFIER) return;
+
+            int index = columnIndexes[propertyIdentifier & 0xFF];
+            if (index == -1) return;
+            Column column = columns[index];
+
+            switch (column.kind) {
+                case DOUBLE:
+                    if (length == 8) result.doubles[index][row] = Property.getDouble(bytes, offset);
+                    else if (length == 4) result.doubles[index][row] = Property.getFloat(bytes, offset);
+                    else return;
+                    break;
+                case LONG:
+                    if (length < 1 || length > 8) return;
+                    long value = Property.getLong(bytes, offset, length);
+                    if (column.signed) {
+                        int shift = 64 - length * 8;
+                        value = value << shift >> shift;
+                    }
+                    result.longs[index][row] = value;
+                    break;
+                case BYTE:
+                    if (length != 1) return;
+                    result.bytes[index][row] = bytes[offset];
+                    break;
+                case MEASUREMENT:
+                    if (length != MeasurementType.SIZE ||
+                            bytes[offset] != column.converter.getIdentifier() ||
+                            column.converter.isUnit(bytes[offset + 1]) == false) return;
+                    result.doubles[index][row] = column.converter.convert(
+                            Property.getDouble(bytes, offset + 2), bytes[offset + 1], column.unit);
+                    break;
+                case COORDINATES:
+                    if (length != Coordinates.SIZE) return;
+                    result.doubles[index][row] = Property.getDouble(bytes, offset);
+                    result.longitudes[index][row] = Property.getDouble(bytes, offset + 8);
+                    break;
+            }
+
+            result.nulls[index][row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    /**
+     * The decoded columns. The arrays are not copied, and have a value for every row. The value of
+     * a null row is 0.
+     */
+    public final class Columns {
+        private final int rowCount;
+        // indexed by the column index. Only the arrays of the column's kind are created.
+        private final double[][] doubles;
+        private final double[][] longitudes;
+        private final long[][] longs;
+        private final byte[][] bytes;
+        private final long[][] nulls;
+
+        private Columns(int rowCount) {
+            this.rowCount = rowCount;
+            doubles = new double[columns.length][];
+            longitudes = new double[columns.length][];
+            longs = new long[columns.length][];
+            bytes = new byte[columns.length][];
+            nulls = new long[columns.length][];
+
+            long[] allNull = new long[(rowCount + 63) >>> 6];
+            Arrays.fill(allNull, -1L);
+
+            for (int i = 0; i < columns.length; i++) {
+                switch (columns[i].kind) {
+                    case LONG:
+                        longs[i] = new long[rowCount];
+                        break;
+                    case BYTE:
+                        bytes[i] = new byte[rowCount];
+                        break;
+                    case COORDINATES:
+                        // the latitudes are in the doubles
+                        longitudes[i] = new double[rowCount];
+                    default:
+                        doubles[i] = new double[rowCount];
+                }
+
+                nulls[i] = allNull.clone();
+            }
+        }
+
+        /**
+         * @return The number of rows, the same as the number of decoded commands.
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * @param propertyIdentifier The property identifier of a double or measurement column.
+         * @return The values. Measurements are in the column's unit.
+         * @throws IllegalArgumentException when there is no double or measurement column for the
+         *                                  property.
+         */
+        public double[] getDoubles(byte propertyIdentifier) {
+            int index = getIndex(propertyIdentifier);
+            if (columns[index].kind != DOUBLE && columns[index].kind != MEASUREMENT)
+                throw columnError(propertyIdentifier, "double");
+            return doubles[index];
+        }
+
+        /**
+         * @param propertyIdentifier The property identifier of a long column.
+         * @return The values.
+         * @throws IllegalArgumentException when there is no long column for the property.
+         */
+        public long[] getLongs(byte propertyIdentifier) {
+            int index = getIndex(propertyIdentifier);
+            if (columns[index].kind != LONG) throw columnError(propertyIdentifier, "long");
+            return longs[index];
+        }
+
+        /**
+         * @param propertyIdentifier The property identifier of a byte column.
+         * @return The values.
+         * @throws IllegalArgumentException when there is no byte column for the property.
+         */
+        public byte[] getBytes(byte propertyIdentifier) {
+            int index = getIndex(propertyIdentifier);
+            if (columns[index].kind != BYTE) throw columnError(propertyIdentifier, "byte");
+            return bytes[index];
+        }
+
+        /**
+         * @param propertyIdentifier The property identifier of a coordinates column.
+         * @return The latitudes.
+         * @throws IllegalArgumentException when there is no coordinates column for the property.
+         */
+        public double[] getLatitudes(byte propertyIdentifier) {
+            int index = getIndex(propertyIdentifier);
+            if (columns[index].kind != COORDINATES)
+                throw columnError(propertyIdentifier, "coordinates");
+            return doubles[index];
+        }
+
+        /**
+         * @param propertyIdentifier The property identifier of a coordinates column.
+         * @return The longitudes.
+         * @throws IllegalArgumentException when there is no coordinates column for the property.
+         */
+        public double[] getLongitudes(byte propertyIdentifier) {
+            int index = getIndex(propertyIdentifier);
+            if (columns[index].kind != COORDINATES)
+                throw columnError(propertyIdentifier, "coordinates");
+            return longitudes[index];
+        }
+
+        /**
+         * Get the null rows of a column as a bit set. The row's bit is {@code (nulls[row >>> 6] >>>
+         * row) & 1}.
+         *
+         * @param propertyIdentifier The property identifier.
+         * @return The null bit set.
+         * @throws IllegalArgumentException when there is no column for the property.
+         */
+        public long[] getNulls(byte propertyIdentifier) {
+            return nulls[getIndex(propertyIdentifier)];
+        }
+
+        /**
+         * @param propertyIdentifier The property identifier.
+         * @param row                The row.
+         * @return Whether the row has no value for the property.
+         * @throws IllegalArgumentException when there is no column for the property.
+         */
+        public boolean isNull(byte propertyIdentifier, int row) {
+            if (row < 0 || row >= rowCount) throw new IndexOutOfBoundsException("Row " + row);
+            return (nulls[getIndex(propertyIdentifier)][row >>> 6] & (1L << row)) != 0;
+        }
+
+        private int getIndex(byte propertyIdentifier) {
+            int index = columnIndexes[propertyIdentifier & 0xFF];
+            if (index == -1) throw columnError(propertyIdentifier, "");
+            return index;
+        }
+
+        private IllegalArgumentException columnError(byte propertyIdentifier, String kind) {
+            return new IllegalArgumentException(String.format("No %scolumn for property 0x%02X",
+                    kind.isEmpty() ? "" : kind + " ", propertyIdentifier));
+        }
+    }
+
+    public static final class Builder {
+        private final int identifier;
+        private final ArrayList<Column> columns = new ArrayList<>();
+
+        /**
+         * @param capabilityIdentifier The capability identifier of the commands, eg {@link
+         *                             Identifier#DIAGNOSTICS}.
+         */
+        public Builder(int capabilityIdentifier) {
+            if (capabilityIdentifier < 0 || capabilityIdentifier >= CommandResolver.IDENTIFIER_COUNT)
+                throw new IllegalArgumentException("Invalid capability identifier " + capabilityIdentifier);
+            this.identifier = capabilityIdentifier;
+        }
+
+        /**
+         * Add a column for a double or float value, eg a percentage.
+         *
+         * @param propertyIdentifier The property identifier.
+         * @return The builder.
+         */
+        public Builder addDoubleColumn(byte propertyIdentifier) {
+            return addColumn(new Column(propertyIdentifier, DOUBLE, null, null));
+        }
+
+        /**
+         * Add a column for an integer or timestamp value. The value is read as unsigned.
+         *
+         * @param propertyIdentifier The property identifier.
+         * @return The builder.
+         */
+        public Builder addLongColumn(byte propertyIdentifier) {
+            return addLongColumn(propertyIdentifier, false);
+        }
+
+        /**
+         * Add a column for an integer or timestamp value.
+         *
+         * @param propertyIdentifier The property identifier.
+         * @param signed             Whether the value is signed, eg {@link
+         *                           Race#PROPERTY_SELECTED_GEAR}. A signed value is sign extended
+         *                           from its length.
+         * @return The builder.
+         */
+        public Builder addLongColumn(byte propertyIdentifier, boolean signed) {
+            return addColumn(new Column(propertyIdentifier, LONG, null, null, signed));
+        }
+
+        /**
+         * Add a column for a 1 byte value, eg an enum or a boolean.
+         *
+         * @param propertyIdentifier The property identifier.
+         * @return The builder.
+         */
+        public Builder addByteColumn(byte propertyIdentifier) {
+            return addColumn(new Column(propertyIdentifier, BYTE, null, null));
+        }
+
+        /**
+         * Add a column for a measurement value. The values are converted to the unit.
+         *
+         * @param propertyIdentifier The property identifier.
+         * @param unit               The unit, eg {@link com.highmobility.autoapi.value.measurement.Length.Unit#KILOMETERS}.
+         * @return The builder.
+         * @throws IllegalArgumentException when the unit is not a measurement unit.
+         */
+        @SuppressWarnings("unchecked")
+        public Builder addMeasurementColumn(byte propertyIdentifier, Enum<?> unit) {
+            MeasurementConverter converter = MeasurementConverter.forUnit(
+                    (Class<? extends Enum<?>>) unit.getDeclaringClass());
+            return addColumn(new Column(propertyIdentifier, MEASUREMENT, converter, unit));
+        }
+
+        /**
+         * Add a column for a coordinates value, read with {@link Columns#getLatitudes(byte)} and
+         * {@link Columns#getLongitudes(byte)}.
+         *
+         * @param propertyIdentifier The property identifier.
+         * @return The builder.
+         */
+        public Builder addCoordinatesColumn(byte propertyIdentifier) {
+            return addColumn(new Column(propertyIdentifier, COORDINATES, null, null));
+        }
+
+        private Builder addColumn(Column column) {
+            for (Column added : columns) {
+                if (added.propertyIdentifier == column.propertyIdentifier)
+                    throw new IllegalArgumentException(String.format(
+                            "Property 0x%02X already has a column", column.propertyIdentifier));
+            }
+
+            columns.add(column);
+            return this;
+        }
+
+        public ColumnarDecoder build() {
+            return new ColumnarDecoder(this);
+        }
+    }
+}
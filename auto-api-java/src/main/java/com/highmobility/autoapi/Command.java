@@ -67,9 +67,14 @@ public class Command extends Bytes {
     int autoApiVersion;
 
     Property[] properties;
+    // position + 1 of the first property of each identifier, created on the first getProperty()
+    // call. Null if there are too many properties for a char position.
+    @Nullable private volatile char[] propertyIndex;
     Bytes nonce;
     Bytes signature;
-    Calendar timestamp;
+    long timestampMillis = Property.NO_TIMESTAMP;
+    // created on the first getTimestamp() call
+    @Nullable private volatile Calendar timestamp;
     String vin;
     Brand brand;
 
@@ -113,7 +118,27 @@ public class Command extends Bytes {
      * @return Timestamp of when the data was transmitted from the car.
      */
     @Nullable public Calendar getTimestamp() {
-        return timestamp;
+        if (timestampMillis == Property.NO_TIMESTAMP) return null;
+
+        Calendar calendar = timestamp;
+        if (calendar == null) {
+            synchronized (this) {
+                if (timestamp == null) timestamp = Property.getCalendar(timestampMillis);
+                calendar = timestamp;
+            }
+        }
+
+        return calendar;
+    }
+
+    /**
+     * Get the timestamp without creating a Calendar.
+     *
+     * @return Timestamp of when the data was transmitted from the car, in milliseconds since the
+     * epoch, or {@link Property#NO_TIMESTAMP} if there is no timestamp.
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
     }
 
     /**
@@ -144,7 +169,41 @@ public class Command extends Bytes {
         return properties;
     }
 
-    public Property getProperty(byte identifier) {
+    /**
+     * Get the first property with the identifier. The properties are indexed by their identifier
+     * on the first call, so the lookup does not scan the properties.
+     *
+     * @param identifier The property identifier.
+     * @return The property, or null if it does not exist.
+     */
+    @Nullable public Property getProperty(byte identifier) {
+        char[] index = propertyIndex;
+        if (index == null) {
+            if (properties.length >= Character.MAX_VALUE) return findProperty(identifier);
+            index = createPropertyIndex();
+        }
+
+        int position = index[identifier & 0xFF];
+        if (position == 0) return null;
+
+        Property property = properties[position - 1];
+        // the properties can be replaced with parsed ones, but they keep the identifier
+        if (property.getPropertyIdentifier() == identifier) return property;
+        return findProperty(identifier);
+    }
+
+    private char[] createPropertyIndex() {
+        char[] index = new char[256];
+
+        for (int i = properties.length - 1; i >= 0; i--) {
+            index[properties[i].getPropertyIdentifier() & 0xFF] = (char) (i + 1);
+        }
+
+        propertyIndex = index;
+        return index;
+    }
+
+    @Nullable private Property findProperty(byte identifier) {
         for (int i = 0; i < properties.length; i++) {
             Property prop = properties[i];
             if (prop.getPropertyIdentifier() == identifier) return prop;
@@ -161,7 +220,10 @@ public class Command extends Bytes {
     // only called from CommandResolver
     Command(byte[] bytes) {
         super(bytes);
+        parseBytes(bytes);
+    }
 
+    private void parseBytes(byte[] bytes) {
         if (bytes[0] != AUTO_API_VERSION)
             getLogger().error(String.format(INVALID_VERSION_EXCEPTION, (int) AUTO_API_VERSION));
 
@@ -169,6 +231,8 @@ public class Command extends Bytes {
 
         ArrayList<Property> builder = new ArrayList<>();
         PropertyEnumeration enumeration = new PropertyEnumeration(this.bytes);
+        // read once, so all of the command's properties are decoded the same way
+        boolean lazyDecoding = CommandResolver.isParsingLazily();
 
         // create the base properties
         while (enumeration.hasMoreElements()) {
@@ -176,7 +240,7 @@ public class Command extends Bytes {
             if (propertyEnumeration.isValid(bytes.length)) {
                 Property property = new Property(Arrays.copyOfRange(bytes, propertyEnumeration
                                 .valueStart - 3,
-                        propertyEnumeration.valueStart + propertyEnumeration.size));
+                        propertyEnumeration.valueStart + propertyEnumeration.size), lazyDecoding);
                 builder.add(property);
             }
         }
@@ -184,6 +248,48 @@ public class Command extends Bytes {
         findUniversalProperties(identifier, type, builder.toArray(new Property[0]));
     }
 
+    /**
+     * Parse new bytes into this command, reusing the command and its property fields instead of
+     * resolving a new one. The previous values are replaced, so the command cannot be shared
+     * while it is reparsed.
+     *
+     * @param bytes The command bytes, for the same capability and command type.
+     * @throws CommandParseException when the bytes are for another command.
+     * @throws UnsupportedOperationException when the command cannot be reparsed.
+     * @see #canReparse()
+     */
+    public void reparse(byte[] bytes) throws CommandParseException {
+        if (canReparse() == false) throw new UnsupportedOperationException();
+
+        if (bytes == null || bytes.length <= COMMAND_TYPE_POSITION ||
+                Identifier.fromBytes(bytes[1], bytes[2]) != identifier ||
+                bytes[COMMAND_TYPE_POSITION] != Type.toByte(type))
+            throw new CommandParseException();
+
+        nonce = null;
+        signature = null;
+        timestampMillis = Property.NO_TIMESTAMP;
+        timestamp = null;
+        vin = null;
+        brand = null;
+
+        this.bytes = bytes;
+        parseBytes(bytes);
+        parseProperties();
+    }
+
+    /**
+     * @return Whether the command can be reparsed with {@link #reparse(byte[])}. Capability states
+     * can be reparsed.
+     */
+    public boolean canReparse() {
+        return false;
+    }
+
+    // Overridden by the commands that can be reparsed. Resets and parses the property fields.
+    void parseProperties() {
+    }
+
     Command(Integer identifier, Integer type, Property[] properties) {
         this.autoApiVersion = AUTO_API_VERSION;
         this.type = type;
@@ -224,6 +330,7 @@ public class Command extends Bytes {
     protected void findUniversalProperties(Integer identifier, Integer type, Property[] properties,
                                            boolean createBytes) {
         this.properties = properties;
+        this.propertyIndex = null;
 
         // if from builder, bytes need to be built
         int propertyPosition = COMMAND_TYPE_POSITION + 1;
@@ -250,7 +357,7 @@ public class Command extends Bytes {
                         signature = property.getValueComponent().getValueBytes();
                     }
                     case TIMESTAMP_IDENTIFIER: {
-                        timestamp = Property.getCalendar(property.getValueComponent().getValueBytes());
+                        timestampMillis = Property.getLong(property.getValueComponent().getValueBytes().getByteArray());
                     }
                     case VIN_IDENTIFIER: {
                         vin = Property.getString(property.getValueComponent().getValueBytes());
@@ -272,7 +379,7 @@ public class Command extends Bytes {
     private void createBytes(int sizeAfterType) {
         bytes = new byte[4 + sizeAfterType];
         set(0, AUTO_API_VERSION);
-        set(1, Identifier.toBytes(identifier));
+        Property.writeInt(bytes, 1, identifier, 2);
         set(3, Type.toByte(type));
     }
 
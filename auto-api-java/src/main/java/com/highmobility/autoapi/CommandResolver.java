@@ -23,866 +23,228 @@
  */
 package com.highmobility.autoapi;
 
+import com.highmobility.autoapi.property.StringCache;
 import com.highmobility.utils.Base64;
 import com.highmobility.utils.ByteUtils;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import static com.highmobility.autoapi.AutoApiLogger.getLogger;
 import static com.highmobility.autoapi.Identifier.*;
+import static com.highmobility.autoapi.SetterDiscriminator.setter;
 
 public class CommandResolver {
+    private final RunTime runtime;
+    private final boolean lazyDecoding;
+    // the runtime's factories, indexed by (identifier, type). See getRuntimeFactoryIndex
+    private final CommandFactory[] runtimeFactories;
+
+    private CommandResolver(RunTime runtime) {
+        this.runtime = runtime;
+        this.lazyDecoding = false;
+        this.runtimeFactories = new CommandFactory[IDENTIFIER_COUNT * TYPE_COUNT];
+
+        for (int identifier = 0; identifier < IDENTIFIER_COUNT; identifier++) {
+            for (int type = 0; type < TYPE_COUNT; type++) {
+                runtimeFactories[getRuntimeFactoryIndex(identifier, type)] =
+                        factories[getFactoryIndex(identifier, type, runtime)];
+            }
+        }
+    }
+
+    // the same runtime and factories, with the lazy decoding option
+    private CommandResolver(CommandResolver resolver, boolean lazyDecoding) {
+        this.runtime = resolver.runtime;
+        this.lazyDecoding = lazyDecoding;
+        this.runtimeFactories = resolver.runtimeFactories;
+    }
+
     /**
-     * Try to parse the command bytes to a more specific Command subclass. Check the returned
-     * object's instance type (instanceOf) to understand which command was received.
+     * Get a resolver for the runtime. Its runtime and commands are fixed, so unlike the static
+     * methods it is not affected by {@link #setRuntime(RunTime)}. The resolvers are immutable and
+     * can be shared between threads.
+     * <p>
+     * The resolver decodes the property values when the command is parsed. It is not affected by
+     * {@link #setLazyDecoding(boolean)}.
+     * </p>
      *
-     * @param bytes the raw command bytes.
-     * @return The parsed command.
+     * @param runtime The runtime.
+     * @return The resolver.
      */
-    public static Command resolve(Bytes bytes) {
-        return resolve(bytes.getByteArray());
+    public static CommandResolver forRuntime(RunTime runtime) {
+        return forRuntime(runtime, false);
     }
 
     /**
-     * Try to parse the command bytes to a more specific Command subclass. Check the returned
-     * object's instance type (instanceOf) to understand which command was received.
+     * Get a resolver for the runtime and decoding option. Like {@link #forRuntime(RunTime)}, the
+     * resolver is immutable and is not affected by {@link #setRuntime(RunTime)} or {@link
+     * #setLazyDecoding(boolean)}.
+     *
+     * @param runtime      The runtime.
+     * @param lazyDecoding Whether to decode the property values on the first {@link
+     *                     com.highmobility.autoapi.property.Property#getValue()} call, instead of
+     *                     when the command is parsed.
+     * @return The resolver.
+     */
+    public static CommandResolver forRuntime(RunTime runtime, boolean lazyDecoding) {
+        return resolvers[runtime.ordinal() * 2 + (lazyDecoding ? 1 : 0)];
+    }
+
+    /**
+     * Parse the command bytes to a more specific Command subclass, for this resolver's runtime.
+     * Check the returned object's instance type (instanceOf) to understand which command was
+     * received.
      *
      * @param bytes the raw command bytes.
      * @return The parsed command.
      */
-    public static Command resolve(byte[] bytes) {
+    public Command parse(byte[] bytes) {
         if (bytes == null || bytes.length < 3 + Command.HEADER_LENGTH) return new Command(bytes);
 
         Command command = null;
-        Integer identifier = Identifier.fromBytes(bytes[Command.HEADER_LENGTH], bytes[Command.HEADER_LENGTH + 1]);
-        Integer type = Type.fromByte(bytes[Command.HEADER_LENGTH + 2]);
+        int identifier = Identifier.fromBytes(bytes[Command.HEADER_LENGTH], bytes[Command.HEADER_LENGTH + 1]);
+        int type = Type.fromByte(bytes[Command.HEADER_LENGTH + 2]);
+        CommandFactory factory = getFactory(identifier, type);
+
+        // the commands read the decoding option when they are created. Nested resolves restore it
+        Boolean previous = parsingLazily.get();
+        parsingLazily.set(lazyDecoding);
 
         try {
-            switch (identifier) {
-                case VEHICLE_STATUS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new VehicleStatus.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new VehicleStatus.GetVehicleStatus(bytes, true);
-                    }
-                    break;
-                }
-                case PARKING_TICKET: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new ParkingTicket.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(2);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new ParkingTicket.StartParking(bytes);
-                                        case 1:
-                                            return new ParkingTicket.EndParking(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new ParkingTicket.GetParkingTicket(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new ParkingTicket.GetParkingTicketAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case BROWSER: {
-                    if (type == Type.SET) {
-                        command = new Browser.LoadUrl(bytes);
-                    }
-                    break;
-                }
-                case WINDOWS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Windows.State(bytes);
-                        } else {
-                            command = new Windows.ControlWindows(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Windows.GetWindows(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Windows.GetWindowsAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case VEHICLE_TIME: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new VehicleTime.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new VehicleTime.GetVehicleTime(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new VehicleTime.GetVehicleTimeAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case DRIVER_FATIGUE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new DriverFatigue.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new DriverFatigue.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new DriverFatigue.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case REMOTE_CONTROL: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new RemoteControl.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(3);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new RemoteControl.ControlCommand(bytes);
-                                        case 1:
-                                            return new RemoteControl.StartControl(bytes);
-                                        case 2:
-                                            return new RemoteControl.StopControl(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new RemoteControl.GetControlState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new RemoteControl.GetControlStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case FUELING: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Fueling.State(bytes);
-                        } else {
-                            command = new Fueling.ControlGasFlap(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Fueling.GetGasFlapState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Fueling.GetGasFlapStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case NAVI_DESTINATION: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new NaviDestination.State(bytes);
-                        } else {
-                            command = new NaviDestination.SetNaviDestination(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new NaviDestination.GetNaviDestination(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new NaviDestination.GetNaviDestinationAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case LIGHT_CONDITIONS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new LightConditions.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new LightConditions.GetLightConditions(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new LightConditions.GetLightConditionsAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case OFFROAD: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Offroad.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Offroad.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Offroad.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case TRUNK: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Trunk.State(bytes);
-                        } else {
-                            command = new Trunk.ControlTrunk(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Trunk.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Trunk.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case DOORS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Doors.State(bytes);
-                        } else {
-                            command = new Doors.LockUnlockDoors(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Doors.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Doors.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case VALET_MODE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new ValetMode.State(bytes);
-                        } else {
-                            command = new ValetMode.ActivateDeactivateValetMode(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new ValetMode.GetValetMode(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new ValetMode.GetValetModeAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case DASHBOARD_LIGHTS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new DashboardLights.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new DashboardLights.GetDashboardLights(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new DashboardLights.GetDashboardLightsAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case MULTI_COMMAND: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new MultiCommand.State(bytes);
-                        } else {
-                            command = new MultiCommand.MultiCommandCommand(bytes);
-                        }
-                    }
-                    break;
-                }
-                case TEXT_INPUT: {
-                    if (type == Type.SET) {
-                        command = new TextInput.TextInputCommand(bytes);
-                    }
-                    break;
-                }
-                case LIGHTS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Lights.State(bytes);
-                        } else {
-                            command = new Lights.ControlLights(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Lights.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Lights.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case CHASSIS_SETTINGS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new ChassisSettings.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(4);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new ChassisSettings.SetDrivingMode(bytes);
-                                        case 1:
-                                            return new ChassisSettings.StartStopSportsChrono(bytes);
-                                        case 2:
-                                            return new ChassisSettings.SetSpringRates(bytes);
-                                        case 3:
-                                            return new ChassisSettings.SetChassisPosition(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new ChassisSettings.GetChassisSettings(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new ChassisSettings.GetChassisSettingsAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case NOTIFICATIONS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Notifications.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(3);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new Notifications.Notification(bytes);
-                                        case 1:
-                                            return new Notifications.Action(bytes);
-                                        case 2:
-                                            return new Notifications.ClearNotification(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    }
-                    break;
-                }
-                case HOOD: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Hood.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Hood.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Hood.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case CHARGING: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Charging.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(6);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new Charging.StartStopCharging(bytes);
-                                        case 1:
-                                            return new Charging.SetChargeLimit(bytes);
-                                        case 2:
-                                            return new Charging.OpenCloseChargingPort(bytes);
-                                        case 3:
-                                            return new Charging.SetChargeMode(bytes);
-                                        case 4:
-                                            return new Charging.SetChargingTimers(bytes);
-                                        case 5:
-                                            return new Charging.SetReductionOfChargingCurrentTimes(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Charging.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Charging.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case MOBILE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Mobile.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Mobile.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Mobile.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case HOME_CHARGER: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new HomeCharger.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(5);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new HomeCharger.SetChargeCurrent(bytes);
-                                        case 1:
-                                            return new HomeCharger.SetPriceTariffs(bytes);
-                                        case 2:
-                                            return new HomeCharger.ActivateDeactivateSolarCharging(bytes);
-                                        case 3:
-                                            return new HomeCharger.EnableDisableWiFiHotspot(bytes);
-                                        case 4:
-                                            return new HomeCharger.AuthenticateExpire(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new HomeCharger.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new HomeCharger.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case DIAGNOSTICS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Diagnostics.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Diagnostics.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Diagnostics.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case USAGE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Usage.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Usage.GetUsage(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Usage.GetUsageAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case VEHICLE_INFORMATION: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new VehicleInformation.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new VehicleInformation.GetVehicleInformation(bytes, true);
-                    }
-                    break;
-                }
-                case POWER_TAKEOFF: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new PowerTakeoff.State(bytes);
-                        } else {
-                            command = new PowerTakeoff.ActivateDeactivatePowerTakeoff(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new PowerTakeoff.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new PowerTakeoff.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case WAKE_UP: {
-                    if (type == Type.SET) {
-                        command = new WakeUp.WakeUpCommand(bytes);
-                    }
-                    break;
-                }
-                case VIDEO_HANDOVER: {
-                    if (type == Type.SET) {
-                        command = new VideoHandover.VideoHandoverCommand(bytes);
-                    }
-                    break;
-                }
-                case HISTORICAL: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Historical.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(2);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new Historical.RequestStates(bytes);
-                                        case 1:
-                                            return new Historical.GetTrips(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    }
-                    break;
-                }
-                case WI_FI: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new WiFi.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(3);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new WiFi.ConnectToNetwork(bytes);
-                                        case 1:
-                                            return new WiFi.ForgetNetwork(bytes);
-                                        case 2:
-                                            return new WiFi.EnableDisableWiFi(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new WiFi.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new WiFi.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case VEHICLE_LOCATION: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new VehicleLocation.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new VehicleLocation.GetVehicleLocation(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new VehicleLocation.GetVehicleLocationAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case HEART_RATE: {
-                    if (type == Type.SET) {
-                        command = new HeartRate.SendHeartRate(bytes);
-                    }
-                    break;
-                }
-                case GRAPHICS: {
-                    if (type == Type.SET) {
-                        command = new Graphics.DisplayImage(bytes);
-                    }
-                    break;
-                }
-                case RACE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Race.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Race.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Race.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case FIRMWARE_VERSION: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new FirmwareVersion.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new FirmwareVersion.GetFirmwareVersion(bytes, true);
-                    }
-                    break;
-                }
-                case THEFT_ALARM: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new TheftAlarm.State(bytes);
-                        } else {
-                            command = new TheftAlarm.SetTheftAlarm(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new TheftAlarm.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new TheftAlarm.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case SEATS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Seats.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Seats.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Seats.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case TACHOGRAPH: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Tachograph.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Tachograph.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Tachograph.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case PARKING_BRAKE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new ParkingBrake.State(bytes);
-                        } else {
-                            command = new ParkingBrake.SetParkingBrake(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new ParkingBrake.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new ParkingBrake.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case CAPABILITIES: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Capabilities.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Capabilities.GetCapabilities(bytes, true);
-                    }
-                    break;
-                }
-                case MAINTENANCE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Maintenance.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Maintenance.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Maintenance.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case ROOFTOP_CONTROL: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new RooftopControl.State(bytes);
-                        } else {
-                            command = new RooftopControl.ControlRooftop(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new RooftopControl.GetRooftopState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new RooftopControl.GetRooftopStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case FAILURE_MESSAGE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new FailureMessage.State(bytes);
-                        }
-                    }
-                    break;
-                }
-                case WINDSCREEN: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Windscreen.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(3);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new Windscreen.SetWindscreenDamage(bytes);
-                                        case 1:
-                                            return new Windscreen.SetWindscreenReplacementNeeded(bytes);
-                                        case 2:
-                                            return new Windscreen.ControlWipers(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Windscreen.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Windscreen.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case CRUISE_CONTROL: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new CruiseControl.State(bytes);
-                        } else {
-                            command = new CruiseControl.ActivateDeactivateCruiseControl(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new CruiseControl.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new CruiseControl.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case TRIPS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Trips.State(bytes);
-                        }
-                    }
-                    break;
-                }
-                case KEYFOB_POSITION: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new KeyfobPosition.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new KeyfobPosition.GetKeyfobPosition(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new KeyfobPosition.GetKeyfobPositionAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case HONK_HORN_FLASH_LIGHTS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new HonkHornFlashLights.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(2);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new HonkHornFlashLights.HonkFlash(bytes);
-                                        case 1:
-                                            return new HonkHornFlashLights.ActivateDeactivateEmergencyFlasher(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new HonkHornFlashLights.GetFlashersState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new HonkHornFlashLights.GetFlashersStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case ENGINE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Engine.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(2);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new Engine.TurnEngineOnOff(bytes);
-                                        case 1:
-                                            return new Engine.ActivateDeactivateStartStop(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Engine.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Engine.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case WEATHER_CONDITIONS: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new WeatherConditions.State(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new WeatherConditions.GetWeatherConditions(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new WeatherConditions.GetWeatherConditionsAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case MESSAGING: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Messaging.State(bytes);
-                        } else {
-                            command = new Messaging.MessageReceived(bytes);
-                        }
-                    }
-                    break;
-                }
-                case IGNITION: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Ignition.State(bytes);
-                        } else {
-                            command = new Ignition.TurnIgnitionOnOff(bytes);
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Ignition.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Ignition.GetStateAvailability(bytes, true);
-                    }
-                    break;
-                }
-                case CLIMATE: {
-                    if (type == Type.SET) {
-                        if (getRuntime() == RunTime.ANDROID) {
-                            command = new Climate.State(bytes);
-                        } else {
-                            SetterIterator iterator = new SetterIterator(6);
-                            while (iterator.hasNext()) {
-                                command = iterator.parseNext(index -> {
-                                    switch (index) {
-                                        case 0:
-                                            return new Climate.ChangeStartingTimes(bytes);
-                                        case 1:
-                                            return new Climate.StartStopHvac(bytes);
-                                        case 2:
-                                            return new Climate.StartStopDefogging(bytes);
-                                        case 3:
-                                            return new Climate.StartStopDefrosting(bytes);
-                                        case 4:
-                                            return new Climate.StartStopIonising(bytes);
-                                        case 5:
-                                            return new Climate.SetTemperatureSettings(bytes);
-                                    }
-                                    return null;
-                                });
-                            }
-                        }
-                    } else if (type == Type.GET) {
-                        command = new Climate.GetState(bytes, true);
-                    } else if (type == Type.GET_AVAILABILITY) {
-                        command = new Climate.GetStateAvailability(bytes, true);
-                    }
-                    break;
+            if (factory != null) {
+                try {
+                    command = factory.create(bytes);
+                } catch (Exception e) {
+                    // the identifier is known but the command's parser class threw an exception.
+                    // return the base class.
+                    getLogger().error(String.format("Failed to parse command %s", commandToString(bytes)), e);
                 }
             }
-        } catch (Exception e) {
-            // the identifier is known but the command's parser class threw an exception.
-            // return the base class.
-            getLogger().error(String.format("Failed to parse command %s", commandToString(bytes)), e);
-        }
 
-        // The identifier was unknown or failed to parse. Return the base class.
-        if (command == null) command = new Command(bytes);
+            // The identifier was unknown or failed to parse. Return the base class.
+            if (command == null) command = new Command(bytes);
+        } finally {
+            parsingLazily.set(previous);
+        }
 
         return command;
     }
 
+    /**
+     * Parse the command bytes to a more specific Command subclass, for this resolver's runtime.
+     *
+     * @param bytes the raw command bytes.
+     * @return The parsed command.
+     * @see #parse(byte[])
+     */
+    public Command parse(Bytes bytes) {
+        return parse(bytes.getByteArray());
+    }
+
+    /**
+     * Parse only the properties in the projection, for this resolver's runtime.
+     *
+     * @param bytes      the raw command bytes.
+     * @param projection The properties to parse.
+     * @return The parsed command. Its bytes contain only the projected properties.
+     * @see Projection
+     */
+    public Command parse(byte[] bytes, Projection projection) {
+        return parse(projection.apply(bytes));
+    }
+
+    /**
+     * @return The runtime of the resolver.
+     */
+    public RunTime getResolverRuntime() {
+        return runtime;
+    }
+
+    /**
+     * @return Whether the resolver decodes the property values lazily.
+     * @see #forRuntime(RunTime, boolean)
+     */
+    public boolean isResolverLazyDecoding() {
+        return lazyDecoding;
+    }
+
+    /**
+     * Find the setter of a set command from its properties and discriminator values, without
+     * constructing the command. Only the capabilities with several setters have setter signatures,
+     * and only in the {@link RunTime#JAVA} runtime.
+     *
+     * @param bytes The set command bytes.
+     * @return The setter class whose signature the command matches, or null if none match or the
+     * capability has no setter signatures.
+     */
+    @Nullable public Class<? extends Command> getSetterClass(byte[] bytes) {
+        if (bytes == null || bytes.length < 3 + Command.HEADER_LENGTH) return null;
+
+        int identifier = Identifier.fromBytes(bytes[Command.HEADER_LENGTH], bytes[Command.HEADER_LENGTH + 1]);
+        CommandFactory factory = getFactory(identifier, Type.fromByte(bytes[Command.COMMAND_TYPE_POSITION]));
+        if (factory instanceof SetterDiscriminator == false) return null;
+
+        return ((SetterDiscriminator) factory).getSetterClass(bytes);
+    }
+
+    @Nullable CommandFactory getFactory(int identifier, int type) {
+        if (identifier < 0 || identifier >= IDENTIFIER_COUNT || type < 0 || type >= TYPE_COUNT)
+            return null;
+        return runtimeFactories[getRuntimeFactoryIndex(identifier, type)];
+    }
+
+    private static int getRuntimeFactoryIndex(int identifier, int type) {
+        return identifier * TYPE_COUNT + type;
+    }
+
+    /**
+     * Try to parse the command bytes to a more specific Command subclass. Check the returned
+     * object's instance type (instanceOf) to understand which command was received.
+     *
+     * @param bytes the raw command bytes.
+     * @return The parsed command.
+     */
+    public static Command resolve(Bytes bytes) {
+        return resolve(bytes.getByteArray());
+    }
+
+    /**
+     * Try to parse the command bytes to a more specific Command subclass. Check the returned
+     * object's instance type (instanceOf) to understand which command was received.
+     *
+     * @param bytes the raw command bytes.
+     * @return The parsed command.
+     */
+    public static Command resolve(byte[] bytes) {
+        return forRuntime(getRuntime(), _lazyDecoding).parse(bytes);
+    }
+
+    /**
+     * Parse only the properties in the projection. The other properties are skipped before they
+     * are copied or decoded, which is faster when only a few properties are needed.
+     *
+     * @param bytes      the raw command bytes.
+     * @param projection The properties to parse.
+     * @return The parsed command. Its bytes contain only the projected properties.
+     * @see Projection
+     */
+    public static Command resolve(byte[] bytes, Projection projection) {
+        return forRuntime(getRuntime(), _lazyDecoding).parse(bytes, projection);
+    }
+
     /**
      * Try to parse the command bytes to a more specific Command subclass. Check the returned
      * object's instance type (instanceOf) to understand which command was received.
@@ -916,18 +278,147 @@ public class CommandResolver {
         return resolve(new Bytes(value));
     }
 
+    private static final ThreadLocal<ReusingCommandResolver> reusingResolver =
+            new ThreadLocal<ReusingCommandResolver>() {
+                @Override protected ReusingCommandResolver initialValue() {
+                    return new ReusingCommandResolver();
+                }
+            };
+
+    /**
+     * Parse the command bytes like {@link #resolve(byte[])}, but reuse this thread's previous state
+     * of the same capability instead of creating a new one. For high rate ingestion of the same
+     * capabilities.
+     * <p>
+     * The returned state is valid until the next state of the same capability is resolved on this
+     * thread, so it should not be kept or shared with other threads.
+     * </p>
+     *
+     * @param bytes the raw command bytes.
+     * @return The parsed command.
+     * @see ReusingCommandResolver
+     */
+    public static Command resolveReusing(byte[] bytes) {
+        return reusingResolver.get().resolve(bytes);
+    }
+
+    // MARK: batch
+
+    // the smallest number of commands resolved in one task
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * Resolve a batch of commands in parallel, on the common fork join pool.
+     *
+     * @param commands The raw command bytes.
+     * @return The results, in the order of the commands. A command that failed to resolve has the
+     * exception in its result.
+     */
+    public static List<ResolveResult> resolveAll(List<byte[]> commands) {
+        final byte[][] bytes = commands.toArray(new byte[0][]);
+        final ResolveResult[] results = new ResolveResult[bytes.length];
+        IntStream.range(0, bytes.length).parallel().forEach(i -> results[i] = tryResolve(bytes[i]));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Resolve a batch of commands in parallel on the executor. The commands are split to chunks of
+     * consecutive commands, and each chunk is resolved in one task.
+     *
+     * @param commands The raw command bytes.
+     * @param executor The executor.
+     * @return The results, in the order of the commands. A command that failed to resolve has the
+     * exception in its result. If a chunk's task failed or was cancelled, its unresolved commands
+     * have the task's failure.
+     * @throws InterruptedException when interrupted while waiting for the tasks.
+     */
+    public static List<ResolveResult> resolveAll(List<byte[]> commands, ExecutorService executor)
+            throws InterruptedException {
+        final byte[][] bytes = commands.toArray(new byte[0][]);
+        final ResolveResult[] results = new ResolveResult[bytes.length];
+
+        int parallelism = executor instanceof ForkJoinPool ?
+                ((ForkJoinPool) executor).getParallelism() :
+                Runtime.getRuntime().availableProcessors();
+        // a few chunks per thread, so a slow chunk doesn't keep the other threads waiting
+        int chunkCount = Math.max(1, Math.min(parallelism * 4,
+                (bytes.length + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE));
+        int chunkSize = (bytes.length + chunkCount - 1) / chunkCount;
+
+        ArrayList<Callable<Void>> tasks = new ArrayList<>(chunkCount);
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            final int from = start;
+            final int to = Math.min(start + chunkSize, bytes.length);
+            tasks.add(() -> {
+                for (int i = from; i < to; i++) results[i] = tryResolve(bytes[i]);
+                return null;
+            });
+        }
+
+        List<Future<Void>> futures = executor.invokeAll(tasks);
+
+        for (int i = 0; i < futures.size(); i++) {
+            RuntimeException failure = getFailure(futures.get(i));
+            if (failure == null) continue;
+
+            int to = Math.min((i + 1) * chunkSize, bytes.length);
+            for (int j = i * chunkSize; j < to; j++) {
+                if (results[j] == null) results[j] = new ResolveResult(null, failure);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    // the failure of a completed task, eg an Error from resolving or a cancellation
+    @Nullable private static RuntimeException getFailure(Future<Void> future)
+            throws InterruptedException {
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            return new IllegalStateException("Resolving failed", e.getCause());
+        } catch (CancellationException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Resolve the commands in a parallel stream. The stream is ordered like the commands, and is
+     * split for the threads by the list's spliterator.
+     *
+     * @param commands The raw command bytes.
+     * @return The stream of results. A command that failed to resolve has the exception in its
+     * result.
+     */
+    public static Stream<ResolveResult> resolveStream(List<byte[]> commands) {
+        return commands.parallelStream().map(CommandResolver::tryResolve);
+    }
+
+    static ResolveResult tryResolve(byte[] bytes) {
+        try {
+            return new ResolveResult(resolve(bytes), null);
+        } catch (RuntimeException e) {
+            return new ResolveResult(null, e);
+        }
+    }
+
     private static String commandToString(byte[] bytes) {
         return ByteUtils.hexFromBytes(ByteUtils
                 .trimmedBytes(bytes, Math.min(bytes.length, 3)));
     }
 
-    static RunTime _runtime;
+    // read once, when the class is loaded
+    private static final RunTime DEFAULT_RUNTIME =
+            "Android Runtime".equals(System.getProperty("java.runtime.name")) ?
+                    RunTime.ANDROID : RunTime.JAVA;
+
+    // overrides the default runtime if set
+    static volatile RunTime _runtime;
 
     static RunTime getRuntime() {
-        if (_runtime == null)
-            _runtime = (System.getProperty("java.runtime.name").equals("Android Runtime")) ?
-                RunTime.ANDROID : RunTime.JAVA;
-            return _runtime;
+        RunTime runtime = _runtime;
+        return runtime != null ? runtime : DEFAULT_RUNTIME;
     }
 
     /**
@@ -935,48 +426,433 @@ public class CommandResolver {
      * <p>
      * Some commands are disabled in Android/Desktop environments. Use this method to override the runtime.
      * </p>
+     * <p>
+     * This changes the runtime of the static resolve methods for the whole process. Use {@link
+     * #forRuntime(RunTime)} for a resolver with a fixed runtime instead.
+     * </p>
      *
-     * @param runtime The runtime.
+     * @param runtime The runtime, or null for the detected runtime.
      */
     public static void setRuntime(RunTime runtime) {
         _runtime = runtime;
     }
 
-    public enum RunTime {
-        ANDROID, JAVA
-    }
+    static volatile boolean _lazyDecoding = false;
 
     /**
-     * The purpose is to loop the possible setters.
+     * Decode the property values on the first {@link com.highmobility.autoapi.property.Property#getValue()}
+     * call, instead of when the command is resolved.
+     * <p>
+     * This is faster when only a few of the properties are read. Invalid property values are
+     * then logged on the first access instead of on resolve.
+     * </p>
      * <p>
-     * NoPropertiesException is ok when parsing Setters because we are in the process of trying to
-     * find correct setter.
+     * This changes the static resolve methods and the commands created from bytes for the whole
+     * process. The option is read once per command, so a command that is being parsed is not
+     * affected. Use {@link #forRuntime(RunTime, boolean)} for a resolver with a fixed option
+     * instead.
+     * </p>
+     *
+     * @param lazyDecoding Whether to decode the values lazily.
      */
-    protected static class SetterIterator {
-        private final int currentSize;
-        private int currentIndex = 0;
-        public Command theParsedCommand;
+    public static void setLazyDecoding(boolean lazyDecoding) {
+        _lazyDecoding = lazyDecoding;
+    }
 
-        SetterIterator(int count) {
-            this.currentSize = count;
-        }
+    /**
+     * @return Whether the property values are decoded lazily.
+     * @see #setLazyDecoding(boolean)
+     */
+    public static boolean isLazyDecoding() {
+        return _lazyDecoding;
+    }
 
-        public boolean hasNext() {
-            return currentIndex < currentSize && theParsedCommand == null;
-        }
+    // the option of the resolver that is parsing on this thread
+    private static final ThreadLocal<Boolean> parsingLazily = new ThreadLocal<>();
 
-        public Command parseNext(SetterIteration next) throws CommandParseException {
-            try {
-                theParsedCommand = next.iterate(currentIndex);
-            } catch (NoPropertiesException e) {
-                // its ok, we are trying to find the command
-            }
-            currentIndex++;
-            return theParsedCommand;
-        }
+    // read once per command, when its properties are created
+    static boolean isParsingLazily() {
+        Boolean lazy = parsingLazily.get();
+        return lazy != null ? lazy : _lazyDecoding;
+    }
+
+    static volatile StringCache stringCache;
+
+    /**
+     * Decode the string property values through a cache, so repeated values like VINs share one
+     * String instance. Disabled by default.
+     *
+     * @param stringCache The cache, or null to disable it.
+     */
+    public static void setStringCache(@Nullable StringCache stringCache) {
+        CommandResolver.stringCache = stringCache;
+    }
+
+    /**
+     * @return The string cache, or null if it is disabled.
+     * @see #setStringCache(StringCache)
+     */
+    @Nullable public static StringCache getStringCache() {
+        return stringCache;
+    }
+
+    public enum RunTime {
+        ANDROID, JAVA
+    }
+
+    // MARK: dispatch table
+
+    // identifiers are 2 bytes, but all of the capabilities currently fit in the lower byte.
+    static final int IDENTIFIER_COUNT = 0x100;
+    private static final int TYPE_COUNT = 3;
+    private static final int RUNTIME_COUNT = RunTime.values().length;
+
+    // indexed by (identifier, type, runtime), see getFactoryIndex
+    private static final CommandFactory[] factories =
+            new CommandFactory[IDENTIFIER_COUNT * TYPE_COUNT * RUNTIME_COUNT];
+
+    static {
+        register(VEHICLE_STATUS, Type.SET, RunTime.ANDROID, VehicleStatus.State::new);
+        register(VEHICLE_STATUS, Type.GET, bytes -> new VehicleStatus.GetVehicleStatus(bytes, true));
+
+        register(PARKING_TICKET, Type.SET, RunTime.ANDROID, ParkingTicket.State::new);
+        register(PARKING_TICKET, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(ParkingTicket.StartParking.class, ParkingTicket.StartParking::new)
+                        .requireValue(ParkingTicket.PROPERTY_STATUS, ParkingTicket.StartParking.STATUS_VALUE)
+                        .requireValues(ParkingTicket.PROPERTY_OPERATOR_TICKET_ID, ParkingTicket.PROPERTY_TICKET_START_TIME),
+                setter(ParkingTicket.EndParking.class, ParkingTicket.EndParking::new)
+                        .requireValue(ParkingTicket.PROPERTY_STATUS, ParkingTicket.EndParking.STATUS_VALUE)));
+        register(PARKING_TICKET, Type.GET, bytes -> new ParkingTicket.GetParkingTicket(bytes, true));
+        register(PARKING_TICKET, Type.GET_AVAILABILITY, bytes -> new ParkingTicket.GetParkingTicketAvailability(bytes, true));
+
+        register(BROWSER, Type.SET, Browser.LoadUrl::new);
+
+        register(WINDOWS, Type.SET, RunTime.ANDROID, Windows.State::new);
+        register(WINDOWS, Type.SET, RunTime.JAVA, Windows.ControlWindows::new);
+        register(WINDOWS, Type.GET, bytes -> new Windows.GetWindows(bytes, true));
+        register(WINDOWS, Type.GET_AVAILABILITY, bytes -> new Windows.GetWindowsAvailability(bytes, true));
+
+        register(VEHICLE_TIME, Type.SET, RunTime.ANDROID, VehicleTime.State::new);
+        register(VEHICLE_TIME, Type.GET, bytes -> new VehicleTime.GetVehicleTime(bytes, true));
+        register(VEHICLE_TIME, Type.GET_AVAILABILITY, bytes -> new VehicleTime.GetVehicleTimeAvailability(bytes, true));
+
+        register(DRIVER_FATIGUE, Type.SET, RunTime.ANDROID, DriverFatigue.State::new);
+        register(DRIVER_FATIGUE, Type.GET, bytes -> new DriverFatigue.GetState(bytes, true));
+        register(DRIVER_FATIGUE, Type.GET_AVAILABILITY, bytes -> new DriverFatigue.GetStateAvailability(bytes, true));
+
+        register(REMOTE_CONTROL, Type.SET, RunTime.ANDROID, RemoteControl.State::new);
+        register(REMOTE_CONTROL, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(RemoteControl.ControlCommand.class, RemoteControl.ControlCommand::new)
+                        .requireAnyValue(RemoteControl.PROPERTY_ANGLE, RemoteControl.PROPERTY_SPEED),
+                setter(RemoteControl.StartControl.class, RemoteControl.StartControl::new)
+                        .requireValue(RemoteControl.PROPERTY_CONTROL_MODE, RemoteControl.StartControl.CONTROL_MODE_VALUE),
+                setter(RemoteControl.StopControl.class, RemoteControl.StopControl::new)
+                        .requireValue(RemoteControl.PROPERTY_CONTROL_MODE, RemoteControl.StopControl.CONTROL_MODE_VALUE)));
+        register(REMOTE_CONTROL, Type.GET, bytes -> new RemoteControl.GetControlState(bytes, true));
+        register(REMOTE_CONTROL, Type.GET_AVAILABILITY, bytes -> new RemoteControl.GetControlStateAvailability(bytes, true));
+
+        register(FUELING, Type.SET, RunTime.ANDROID, Fueling.State::new);
+        register(FUELING, Type.SET, RunTime.JAVA, Fueling.ControlGasFlap::new);
+        register(FUELING, Type.GET, bytes -> new Fueling.GetGasFlapState(bytes, true));
+        register(FUELING, Type.GET_AVAILABILITY, bytes -> new Fueling.GetGasFlapStateAvailability(bytes, true));
+
+        register(NAVI_DESTINATION, Type.SET, RunTime.ANDROID, NaviDestination.State::new);
+        register(NAVI_DESTINATION, Type.SET, RunTime.JAVA, NaviDestination.SetNaviDestination::new);
+        register(NAVI_DESTINATION, Type.GET, bytes -> new NaviDestination.GetNaviDestination(bytes, true));
+        register(NAVI_DESTINATION, Type.GET_AVAILABILITY, bytes -> new NaviDestination.GetNaviDestinationAvailability(bytes, true));
+
+        register(LIGHT_CONDITIONS, Type.SET, RunTime.ANDROID, LightConditions.State::new);
+        register(LIGHT_CONDITIONS, Type.GET, bytes -> new LightConditions.GetLightConditions(bytes, true));
+        register(LIGHT_CONDITIONS, Type.GET_AVAILABILITY, bytes -> new LightConditions.GetLightConditionsAvailability(bytes, true));
+
+        register(OFFROAD, Type.SET, RunTime.ANDROID, Offroad.State::new);
+        register(OFFROAD, Type.GET, bytes -> new Offroad.GetState(bytes, true));
+        register(OFFROAD, Type.GET_AVAILABILITY, bytes -> new Offroad.GetStateAvailability(bytes, true));
+
+        register(TRUNK, Type.SET, RunTime.ANDROID, Trunk.State::new);
+        register(TRUNK, Type.SET, RunTime.JAVA, Trunk.ControlTrunk::new);
+        register(TRUNK, Type.GET, bytes -> new Trunk.GetState(bytes, true));
+        register(TRUNK, Type.GET_AVAILABILITY, bytes -> new Trunk.GetStateAvailability(bytes, true));
+
+        register(DOORS, Type.SET, RunTime.ANDROID, Doors.State::new);
+        register(DOORS, Type.SET, RunTime.JAVA, Doors.LockUnlockDoors::new);
+        register(DOORS, Type.GET, bytes -> new Doors.GetState(bytes, true));
+        register(DOORS, Type.GET_AVAILABILITY, bytes -> new Doors.GetStateAvailability(bytes, true));
+
+        register(VALET_MODE, Type.SET, RunTime.ANDROID, ValetMode.State::new);
+        register(VALET_MODE, Type.SET, RunTime.JAVA, ValetMode.ActivateDeactivateValetMode::new);
+        register(VALET_MODE, Type.GET, bytes -> new ValetMode.GetValetMode(bytes, true));
+        register(VALET_MODE, Type.GET_AVAILABILITY, bytes -> new ValetMode.GetValetModeAvailability(bytes, true));
+
+        register(DASHBOARD_LIGHTS, Type.SET, RunTime.ANDROID, DashboardLights.State::new);
+        register(DASHBOARD_LIGHTS, Type.GET, bytes -> new DashboardLights.GetDashboardLights(bytes, true));
+        register(DASHBOARD_LIGHTS, Type.GET_AVAILABILITY, bytes -> new DashboardLights.GetDashboardLightsAvailability(bytes, true));
+
+        register(MULTI_COMMAND, Type.SET, RunTime.ANDROID, MultiCommand.State::new);
+        register(MULTI_COMMAND, Type.SET, RunTime.JAVA, MultiCommand.MultiCommandCommand::new);
+
+        register(TEXT_INPUT, Type.SET, TextInput.TextInputCommand::new);
+
+        register(LIGHTS, Type.SET, RunTime.ANDROID, Lights.State::new);
+        register(LIGHTS, Type.SET, RunTime.JAVA, Lights.ControlLights::new);
+        register(LIGHTS, Type.GET, bytes -> new Lights.GetState(bytes, true));
+        register(LIGHTS, Type.GET_AVAILABILITY, bytes -> new Lights.GetStateAvailability(bytes, true));
+
+        register(CHASSIS_SETTINGS, Type.SET, RunTime.ANDROID, ChassisSettings.State::new);
+        register(CHASSIS_SETTINGS, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(ChassisSettings.SetDrivingMode.class, ChassisSettings.SetDrivingMode::new)
+                        .requireValues(ChassisSettings.PROPERTY_DRIVING_MODE),
+                setter(ChassisSettings.StartStopSportsChrono.class, ChassisSettings.StartStopSportsChrono::new)
+                        .requireValues(ChassisSettings.PROPERTY_SPORT_CHRONO),
+                setter(ChassisSettings.SetSpringRates.class, ChassisSettings.SetSpringRates::new)
+                        .requireProperty(ChassisSettings.PROPERTY_CURRENT_SPRING_RATES),
+                setter(ChassisSettings.SetChassisPosition.class, ChassisSettings.SetChassisPosition::new)
+                        .requireValues(ChassisSettings.PROPERTY_CURRENT_CHASSIS_POSITION)));
+        register(CHASSIS_SETTINGS, Type.GET, bytes -> new ChassisSettings.GetChassisSettings(bytes, true));
+        register(CHASSIS_SETTINGS, Type.GET_AVAILABILITY, bytes -> new ChassisSettings.GetChassisSettingsAvailability(bytes, true));
+
+        register(NOTIFICATIONS, Type.SET, RunTime.ANDROID, Notifications.State::new);
+        register(NOTIFICATIONS, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(Notifications.Notification.class, Notifications.Notification::new)
+                        .requireValues(Notifications.PROPERTY_TEXT),
+                setter(Notifications.Action.class, Notifications.Action::new)
+                        .requireValues(Notifications.PROPERTY_ACTIVATED_ACTION),
+                setter(Notifications.ClearNotification.class, Notifications.ClearNotification::new)
+                        .requireValue(Notifications.PROPERTY_CLEAR, Notifications.ClearNotification.CLEAR_VALUE)));
+
+        register(HOOD, Type.SET, RunTime.ANDROID, Hood.State::new);
+        register(HOOD, Type.GET, bytes -> new Hood.GetState(bytes, true));
+        register(HOOD, Type.GET_AVAILABILITY, bytes -> new Hood.GetStateAvailability(bytes, true));
+
+        register(CHARGING, Type.SET, RunTime.ANDROID, Charging.State::new);
+        register(CHARGING, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(Charging.StartStopCharging.class, Charging.StartStopCharging::new)
+                        .requireValues(Charging.PROPERTY_STATUS),
+                setter(Charging.SetChargeLimit.class, Charging.SetChargeLimit::new)
+                        .requireValues(Charging.PROPERTY_CHARGE_LIMIT),
+                setter(Charging.OpenCloseChargingPort.class, Charging.OpenCloseChargingPort::new)
+                        .requireValues(Charging.PROPERTY_CHARGE_PORT_STATE),
+                setter(Charging.SetChargeMode.class, Charging.SetChargeMode::new)
+                        .requireValues(Charging.PROPERTY_CHARGE_MODE),
+                setter(Charging.SetChargingTimers.class, Charging.SetChargingTimers::new)
+                        .requireProperty(Charging.PROPERTY_TIMERS),
+                setter(Charging.SetReductionOfChargingCurrentTimes.class, Charging.SetReductionOfChargingCurrentTimes::new)
+                        .requireProperty(Charging.PROPERTY_REDUCTION_TIMES)));
+        register(CHARGING, Type.GET, bytes -> new Charging.GetState(bytes, true));
+        register(CHARGING, Type.GET_AVAILABILITY, bytes -> new Charging.GetStateAvailability(bytes, true));
+
+        register(MOBILE, Type.SET, RunTime.ANDROID, Mobile.State::new);
+        register(MOBILE, Type.GET, bytes -> new Mobile.GetState(bytes, true));
+        register(MOBILE, Type.GET_AVAILABILITY, bytes -> new Mobile.GetStateAvailability(bytes, true));
+
+        register(HOME_CHARGER, Type.SET, RunTime.ANDROID, HomeCharger.State::new);
+        register(HOME_CHARGER, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(HomeCharger.SetChargeCurrent.class, HomeCharger.SetChargeCurrent::new)
+                        .requireValues(HomeCharger.PROPERTY_CHARGE_CURRENT),
+                setter(HomeCharger.SetPriceTariffs.class, HomeCharger.SetPriceTariffs::new)
+                        .requireProperty(HomeCharger.PROPERTY_PRICE_TARIFFS),
+                setter(HomeCharger.ActivateDeactivateSolarCharging.class, HomeCharger.ActivateDeactivateSolarCharging::new)
+                        .requireValues(HomeCharger.PROPERTY_SOLAR_CHARGING),
+                setter(HomeCharger.EnableDisableWiFiHotspot.class, HomeCharger.EnableDisableWiFiHotspot::new)
+                        .requireValues(HomeCharger.PROPERTY_WI_FI_HOTSPOT_ENABLED),
+                setter(HomeCharger.AuthenticateExpire.class, HomeCharger.AuthenticateExpire::new)
+                        .requireValues(HomeCharger.PROPERTY_AUTHENTICATION_STATE)));
+        register(HOME_CHARGER, Type.GET, bytes -> new HomeCharger.GetState(bytes, true));
+        register(HOME_CHARGER, Type.GET_AVAILABILITY, bytes -> new HomeCharger.GetStateAvailability(bytes, true));
+
+        register(DIAGNOSTICS, Type.SET, RunTime.ANDROID, Diagnostics.State::new);
+        register(DIAGNOSTICS, Type.GET, bytes -> new Diagnostics.GetState(bytes, true));
+        register(DIAGNOSTICS, Type.GET_AVAILABILITY, bytes -> new Diagnostics.GetStateAvailability(bytes, true));
+
+        register(USAGE, Type.SET, RunTime.ANDROID, Usage.State::new);
+        register(USAGE, Type.GET, bytes -> new Usage.GetUsage(bytes, true));
+        register(USAGE, Type.GET_AVAILABILITY, bytes -> new Usage.GetUsageAvailability(bytes, true));
+
+        register(VEHICLE_INFORMATION, Type.SET, RunTime.ANDROID, VehicleInformation.State::new);
+        register(VEHICLE_INFORMATION, Type.GET, bytes -> new VehicleInformation.GetVehicleInformation(bytes, true));
+
+        register(POWER_TAKEOFF, Type.SET, RunTime.ANDROID, PowerTakeoff.State::new);
+        register(POWER_TAKEOFF, Type.SET, RunTime.JAVA, PowerTakeoff.ActivateDeactivatePowerTakeoff::new);
+        register(POWER_TAKEOFF, Type.GET, bytes -> new PowerTakeoff.GetState(bytes, true));
+        register(POWER_TAKEOFF, Type.GET_AVAILABILITY, bytes -> new PowerTakeoff.GetStateAvailability(bytes, true));
+
+        register(WAKE_UP, Type.SET, WakeUp.WakeUpCommand::new);
+
+        register(VIDEO_HANDOVER, Type.SET, VideoHandover.VideoHandoverCommand::new);
+
+        register(HISTORICAL, Type.SET, RunTime.ANDROID, Historical.State::new);
+        register(HISTORICAL, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(Historical.RequestStates.class, Historical.RequestStates::new)
+                        .requireValues(Historical.PROPERTY_CAPABILITY_ID),
+                setter(Historical.GetTrips.class, Historical.GetTrips::new)
+                        .requireValue(Historical.PROPERTY_CAPABILITY_ID, Historical.GetTrips.CAPABILITY_ID_VALUE)));
+
+        register(WI_FI, Type.SET, RunTime.ANDROID, WiFi.State::new);
+        register(WI_FI, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(WiFi.ConnectToNetwork.class, WiFi.ConnectToNetwork::new)
+                        .requireValues(WiFi.PROPERTY_NETWORK_SSID, WiFi.PROPERTY_NETWORK_SECURITY),
+                setter(WiFi.ForgetNetwork.class, WiFi.ForgetNetwork::new)
+                        .requireValues(WiFi.PROPERTY_NETWORK_SSID),
+                setter(WiFi.EnableDisableWiFi.class, WiFi.EnableDisableWiFi::new)
+                        .requireValues(WiFi.PROPERTY_STATUS)));
+        register(WI_FI, Type.GET, bytes -> new WiFi.GetState(bytes, true));
+        register(WI_FI, Type.GET_AVAILABILITY, bytes -> new WiFi.GetStateAvailability(bytes, true));
+
+        register(VEHICLE_LOCATION, Type.SET, RunTime.ANDROID, VehicleLocation.State::new);
+        register(VEHICLE_LOCATION, Type.GET, bytes -> new VehicleLocation.GetVehicleLocation(bytes, true));
+        register(VEHICLE_LOCATION, Type.GET_AVAILABILITY, bytes -> new VehicleLocation.GetVehicleLocationAvailability(bytes, true));
 
-        public interface SetterIteration {
-            Command iterate(int number) throws NoPropertiesException, CommandParseException;
+        register(HEART_RATE, Type.SET, HeartRate.SendHeartRate::new);
+
+        register(GRAPHICS, Type.SET, Graphics.DisplayImage::new);
+
+        register(RACE, Type.SET, RunTime.ANDROID, Race.State::new);
+        register(RACE, Type.GET, bytes -> new Race.GetState(bytes, true));
+        register(RACE, Type.GET_AVAILABILITY, bytes -> new Race.GetStateAvailability(bytes, true));
+
+        register(FIRMWARE_VERSION, Type.SET, RunTime.ANDROID, FirmwareVersion.State::new);
+        register(FIRMWARE_VERSION, Type.GET, bytes -> new FirmwareVersion.GetFirmwareVersion(bytes, true));
+
+        register(THEFT_ALARM, Type.SET, RunTime.ANDROID, TheftAlarm.State::new);
+        register(THEFT_ALARM, Type.SET, RunTime.JAVA, TheftAlarm.SetTheftAlarm::new);
+        register(THEFT_ALARM, Type.GET, bytes -> new TheftAlarm.GetState(bytes, true));
+        register(THEFT_ALARM, Type.GET_AVAILABILITY, bytes -> new TheftAlarm.GetStateAvailability(bytes, true));
+
+        register(SEATS, Type.SET, RunTime.ANDROID, Seats.State::new);
+        register(SEATS, Type.GET, bytes -> new Seats.GetState(bytes, true));
+        register(SEATS, Type.GET_AVAILABILITY, bytes -> new Seats.GetStateAvailability(bytes, true));
+
+        register(TACHOGRAPH, Type.SET, RunTime.ANDROID, Tachograph.State::new);
+        register(TACHOGRAPH, Type.GET, bytes -> new Tachograph.GetState(bytes, true));
+        register(TACHOGRAPH, Type.GET_AVAILABILITY, bytes -> new Tachograph.GetStateAvailability(bytes, true));
+
+        register(PARKING_BRAKE, Type.SET, RunTime.ANDROID, ParkingBrake.State::new);
+        register(PARKING_BRAKE, Type.SET, RunTime.JAVA, ParkingBrake.SetParkingBrake::new);
+        register(PARKING_BRAKE, Type.GET, bytes -> new ParkingBrake.GetState(bytes, true));
+        register(PARKING_BRAKE, Type.GET_AVAILABILITY, bytes -> new ParkingBrake.GetStateAvailability(bytes, true));
+
+        register(CAPABILITIES, Type.SET, RunTime.ANDROID, Capabilities.State::new);
+        register(CAPABILITIES, Type.GET, bytes -> new Capabilities.GetCapabilities(bytes, true));
+
+        register(MAINTENANCE, Type.SET, RunTime.ANDROID, Maintenance.State::new);
+        register(MAINTENANCE, Type.GET, bytes -> new Maintenance.GetState(bytes, true));
+        register(MAINTENANCE, Type.GET_AVAILABILITY, bytes -> new Maintenance.GetStateAvailability(bytes, true));
+
+        register(ROOFTOP_CONTROL, Type.SET, RunTime.ANDROID, RooftopControl.State::new);
+        register(ROOFTOP_CONTROL, Type.SET, RunTime.JAVA, RooftopControl.ControlRooftop::new);
+        register(ROOFTOP_CONTROL, Type.GET, bytes -> new RooftopControl.GetRooftopState(bytes, true));
+        register(ROOFTOP_CONTROL, Type.GET_AVAILABILITY, bytes -> new RooftopControl.GetRooftopStateAvailability(bytes, true));
+
+        register(FAILURE_MESSAGE, Type.SET, RunTime.ANDROID, FailureMessage.State::new);
+
+        register(WINDSCREEN, Type.SET, RunTime.ANDROID, Windscreen.State::new);
+        register(WINDSCREEN, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(Windscreen.SetWindscreenDamage.class, Windscreen.SetWindscreenDamage::new)
+                        .requireValues(Windscreen.PROPERTY_WINDSCREEN_DAMAGE),
+                setter(Windscreen.SetWindscreenReplacementNeeded.class, Windscreen.SetWindscreenReplacementNeeded::new)
+                        .requireValues(Windscreen.PROPERTY_WINDSCREEN_NEEDS_REPLACEMENT),
+                setter(Windscreen.ControlWipers.class, Windscreen.ControlWipers::new)
+                        .requireValues(Windscreen.PROPERTY_WIPERS_STATUS)));
+        register(WINDSCREEN, Type.GET, bytes -> new Windscreen.GetState(bytes, true));
+        register(WINDSCREEN, Type.GET_AVAILABILITY, bytes -> new Windscreen.GetStateAvailability(bytes, true));
+
+        register(CRUISE_CONTROL, Type.SET, RunTime.ANDROID, CruiseControl.State::new);
+        register(CRUISE_CONTROL, Type.SET, RunTime.JAVA, CruiseControl.ActivateDeactivateCruiseControl::new);
+        register(CRUISE_CONTROL, Type.GET, bytes -> new CruiseControl.GetState(bytes, true));
+        register(CRUISE_CONTROL, Type.GET_AVAILABILITY, bytes -> new CruiseControl.GetStateAvailability(bytes, true));
+
+        register(TRIPS, Type.SET, RunTime.ANDROID, Trips.State::new);
+
+        register(KEYFOB_POSITION, Type.SET, RunTime.ANDROID, KeyfobPosition.State::new);
+        register(KEYFOB_POSITION, Type.GET, bytes -> new KeyfobPosition.GetKeyfobPosition(bytes, true));
+        register(KEYFOB_POSITION, Type.GET_AVAILABILITY, bytes -> new KeyfobPosition.GetKeyfobPositionAvailability(bytes, true));
+
+        register(HONK_HORN_FLASH_LIGHTS, Type.SET, RunTime.ANDROID, HonkHornFlashLights.State::new);
+        register(HONK_HORN_FLASH_LIGHTS, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(HonkHornFlashLights.HonkFlash.class, HonkHornFlashLights.HonkFlash::new)
+                        .requireAnyValue(HonkHornFlashLights.PROPERTY_FLASH_TIMES, HonkHornFlashLights.PROPERTY_HONK_TIME),
+                setter(HonkHornFlashLights.ActivateDeactivateEmergencyFlasher.class, HonkHornFlashLights.ActivateDeactivateEmergencyFlasher::new)
+                        .requireValues(HonkHornFlashLights.PROPERTY_EMERGENCY_FLASHERS_STATE)));
+        register(HONK_HORN_FLASH_LIGHTS, Type.GET, bytes -> new HonkHornFlashLights.GetFlashersState(bytes, true));
+        register(HONK_HORN_FLASH_LIGHTS, Type.GET_AVAILABILITY, bytes -> new HonkHornFlashLights.GetFlashersStateAvailability(bytes, true));
+
+        register(ENGINE, Type.SET, RunTime.ANDROID, Engine.State::new);
+        register(ENGINE, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(Engine.TurnEngineOnOff.class, Engine.TurnEngineOnOff::new)
+                        .requireValues(Engine.PROPERTY_STATUS),
+                setter(Engine.ActivateDeactivateStartStop.class, Engine.ActivateDeactivateStartStop::new)
+                        .requireValues(Engine.PROPERTY_START_STOP_STATE)));
+        register(ENGINE, Type.GET, bytes -> new Engine.GetState(bytes, true));
+        register(ENGINE, Type.GET_AVAILABILITY, bytes -> new Engine.GetStateAvailability(bytes, true));
+
+        register(WEATHER_CONDITIONS, Type.SET, RunTime.ANDROID, WeatherConditions.State::new);
+        register(WEATHER_CONDITIONS, Type.GET, bytes -> new WeatherConditions.GetWeatherConditions(bytes, true));
+        register(WEATHER_CONDITIONS, Type.GET_AVAILABILITY, bytes -> new WeatherConditions.GetWeatherConditionsAvailability(bytes, true));
+
+        register(MESSAGING, Type.SET, RunTime.ANDROID, Messaging.State::new);
+        register(MESSAGING, Type.SET, RunTime.JAVA, Messaging.MessageReceived::new);
+
+        register(IGNITION, Type.SET, RunTime.ANDROID, Ignition.State::new);
+        register(IGNITION, Type.SET, RunTime.JAVA, Ignition.TurnIgnitionOnOff::new);
+        register(IGNITION, Type.GET, bytes -> new Ignition.GetState(bytes, true));
+        register(IGNITION, Type.GET_AVAILABILITY, bytes -> new Ignition.GetStateAvailability(bytes, true));
+
+        register(CLIMATE, Type.SET, RunTime.ANDROID, Climate.State::new);
+        register(CLIMATE, Type.SET, RunTime.JAVA, new SetterDiscriminator(
+                setter(Climate.ChangeStartingTimes.class, Climate.ChangeStartingTimes::new)
+                        .requireProperty(Climate.PROPERTY_HVAC_WEEKDAY_STARTING_TIMES),
+                setter(Climate.StartStopHvac.class, Climate.StartStopHvac::new)
+                        .requireValues(Climate.PROPERTY_HVAC_STATE),
+                setter(Climate.StartStopDefogging.class, Climate.StartStopDefogging::new)
+                        .requireValues(Climate.PROPERTY_DEFOGGING_STATE),
+                setter(Climate.StartStopDefrosting.class, Climate.StartStopDefrosting::new)
+                        .requireValues(Climate.PROPERTY_DEFROSTING_STATE),
+                setter(Climate.StartStopIonising.class, Climate.StartStopIonising::new)
+                        .requireValues(Climate.PROPERTY_IONISING_STATE),
+                setter(Climate.SetTemperatureSettings.class, Climate.SetTemperatureSettings::new)
+                        .requireAnyValue(Climate.PROPERTY_DRIVER_TEMPERATURE_SETTING, Climate.PROPERTY_PASSENGER_TEMPERATURE_SETTING, Climate.PROPERTY_REAR_TEMPERATURE_SETTING)));
+        register(CLIMATE, Type.GET, bytes -> new Climate.GetState(bytes, true));
+        register(CLIMATE, Type.GET_AVAILABILITY, bytes -> new Climate.GetStateAvailability(bytes, true));
+    }
+
+    // created after the factories are registered
+    private static final CommandResolver[] resolvers = createResolvers();
+
+    private static CommandResolver[] createResolvers() {
+        RunTime[] runtimes = RunTime.values();
+        // an eager and a lazy resolver per runtime. See forRuntime
+        CommandResolver[] resolvers = new CommandResolver[runtimes.length * 2];
+        for (int i = 0; i < runtimes.length; i++) {
+            resolvers[i * 2] = new CommandResolver(runtimes[i]);
+            resolvers[i * 2 + 1] = new CommandResolver(resolvers[i * 2], true);
         }
+        return resolvers;
+    }
+
+    @Nullable static CommandFactory getFactory(int identifier, int type, RunTime runtime) {
+        if (identifier < 0 || identifier >= IDENTIFIER_COUNT || type < 0 || type >= TYPE_COUNT)
+            return null;
+        return factories[getFactoryIndex(identifier, type, runtime)];
+    }
+
+    private static int getFactoryIndex(int identifier, int type, RunTime runtime) {
+        return (identifier * TYPE_COUNT + type) * RUNTIME_COUNT + runtime.ordinal();
+    }
+
+    // register the factory for every runtime
+    private static void register(int identifier, int type, CommandFactory factory) {
+        for (RunTime runtime : RunTime.values()) register(identifier, type, runtime, factory);
+    }
+
+    private static void register(int identifier, int type, RunTime runtime, CommandFactory factory) {
+        factories[getFactoryIndex(identifier, type, runtime)] = factory;
+    }
+
+    /**
+     * Creates the specific Command subclass from the raw command bytes.
+     */
+    interface CommandFactory {
+        @Nullable
+        Command create(byte[] bytes) throws CommandParseException, NoPropertiesException;
     }
 }
\ No newline at end of file
@@ -0,0 +1,222 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Walks the properties of raw command bytes without creating {@link Command} or
+ * {@link com.highmobility.autoapi.property.Property} objects. Nothing is allocated per property.
+ * <p>
+ * Get commands contain property identifiers instead of properties, so only set commands are
+ * scanned. Scanning stops at a property that does not fit in the command. A component that does
+ * not fit in its property ends that property's components.
+ */
+public final class CommandScanner {
+    static final int HEADER_LENGTH = 3 + Command.HEADER_LENGTH;
+    static final int PROPERTY_HEADER_LENGTH = 3;
+    static final int COMPONENT_HEADER_LENGTH = 3;
+
+    private CommandScanner() {
+    }
+
+    /**
+     * @param bytes The command bytes.
+     * @return The capability identifier.
+     */
+    public static int getIdentifier(byte[] bytes) {
+        return getIdentifier(bytes, 0);
+    }
+
+    /**
+     * @param bytes  The bytes containing the command.
+     * @param offset The command's position.
+     * @return The capability identifier.
+     */
+    public static int getIdentifier(byte[] bytes, int offset) {
+        return Identifier.fromBytes(bytes[offset + Command.HEADER_LENGTH],
+                bytes[offset + Command.HEADER_LENGTH + 1]);
+    }
+
+    /**
+     * @param bytes The command bytes.
+     * @return The command type.
+     */
+    public static int getType(byte[] bytes) {
+        return getType(bytes, 0);
+    }
+
+    /**
+     * @param bytes  The bytes containing the command.
+     * @param offset The command's position.
+     * @return The command type.
+     */
+    public static int getType(byte[] bytes, int offset) {
+        return Type.fromByte(bytes[offset + Command.COMMAND_TYPE_POSITION]);
+    }
+
+    /**
+     * Pass the command's properties and components to the visitor.
+     *
+     * @param bytes   The command bytes.
+     * @param visitor The visitor.
+     */
+    public static void scan(byte[] bytes, PropertyVisitor visitor) {
+        scan(bytes, 0, bytes.length, visitor);
+    }
+
+    /**
+     * Pass the command's properties and components to the visitor.
+     *
+     * @param bytes   The bytes containing the command.
+     * @param offset  The command's position.
+     * @param length  The command's length.
+     * @param visitor The visitor.
+     */
+    public static void scan(byte[] bytes, int offset, int length, PropertyVisitor visitor) {
+        if (length < HEADER_LENGTH || getType(bytes, offset) != Type.SET) return;
+
+        int end = offset + length;
+        int cursor = offset + HEADER_LENGTH;
+
+        while (cursor + PROPERTY_HEADER_LENGTH <= end) {
+            byte propertyIdentifier = bytes[cursor];
+            int propertyStart = cursor + PROPERTY_HEADER_LENGTH;
+            int propertyEnd = propertyStart + getUnsignedShort(bytes, cursor + 1);
+            if (propertyEnd > end) return;
+
+            visitor.visitProperty(propertyIdentifier, bytes, propertyStart,
+                    propertyEnd - propertyStart);
+
+            int componentCursor = propertyStart;
+            while (componentCursor + COMPONENT_HEADER_LENGTH <= propertyEnd) {
+                int componentStart = componentCursor + COMPONENT_HEADER_LENGTH;
+                int componentLength = getUnsignedShort(bytes, componentCursor + 1);
+                if (componentStart + componentLength > propertyEnd) break;
+
+                visitor.visitComponent(propertyIdentifier, bytes[componentCursor], bytes,
+                        componentStart, componentLength);
+                componentCursor = componentStart + componentLength;
+            }
+
+            cursor = propertyEnd;
+        }
+    }
+
+    /**
+     * Iterate the states and commands nested in a {@link VehicleStatus}, {@link Historical} or
+     * {@link MultiCommand} command. The nested commands are found when the iterator advances, and
+     * are not resolved until {@link NestedCommand#resolve()} is called. Nested commands of
+     * capabilities that are not needed can be skipped by their identifier.
+     * <p>
+     * Other commands have no nested commands.
+     *
+     * @param bytes The command bytes. Should not be modified while iterating.
+     * @return The nested commands.
+     */
+    public static Iterable<NestedCommand> nestedCommands(byte[] bytes) {
+        return () -> new NestedCommandIterator(bytes);
+    }
+
+    static boolean isStatesProperty(int identifier, byte propertyIdentifier) {
+        switch (identifier) {
+            case Identifier.VEHICLE_STATUS:
+                return propertyIdentifier == VehicleStatus.PROPERTY_STATES;
+            case Identifier.HISTORICAL:
+                return propertyIdentifier == Historical.PROPERTY_STATES;
+            case Identifier.MULTI_COMMAND:
+                return propertyIdentifier == MultiCommand.PROPERTY_MULTI_STATES ||
+                        propertyIdentifier == MultiCommand.PROPERTY_MULTI_COMMANDS;
+        }
+
+        return false;
+    }
+
+    private static int getUnsignedShort(byte[] bytes, int at) {
+        return ((bytes[at] & 0xFF) << 8) | (bytes[at + 1] & 0xFF);
+    }
+
+    private static final class NestedCommandIterator implements Iterator<NestedCommand> {
+        private final byte[] bytes;
+        private final int identifier;
+        private int cursor;
+        private NestedCommand next;
+
+        NestedCommandIterator(byte[] bytes) {
+            this.bytes = bytes;
+
+            if (bytes.length < HEADER_LENGTH || getType(bytes, 0) != Type.SET) {
+                identifier = -1;
+                cursor = bytes.length;
+            } else {
+                identifier = getIdentifier(bytes, 0);
+                cursor = HEADER_LENGTH;
+            }
+        }
+
+        @Override public boolean hasNext() {
+            if (next == null) next = findNext();
+            return next != null;
+        }
+
+        @Override public NestedCommand next() {
+            if (hasNext() == false) throw new NoSuchElementException();
+            NestedCommand command = next;
+            next = null;
+            return command;
+        }
+
+        private NestedCommand findNext() {
+            while (cursor + PROPERTY_HEADER_LENGTH <= bytes.length) {
+                byte propertyIdentifier = bytes[cursor];
+                int propertyStart = cursor + PROPERTY_HEADER_LENGTH;
+                int propertyEnd = propertyStart + getUnsignedShort(bytes, cursor + 1);
+                if (propertyEnd > bytes.length) break;
+
+                cursor = propertyEnd;
+                if (isStatesProperty(identifier, propertyIdentifier) == false) continue;
+
+                int componentCursor = propertyStart;
+                while (componentCursor + COMPONENT_HEADER_LENGTH <= propertyEnd) {
+                    int componentStart = componentCursor + COMPONENT_HEADER_LENGTH;
+                    int componentLength = getUnsignedShort(bytes, componentCursor + 1);
+                    if (componentStart + componentLength > propertyEnd) break;
+
+                    if (bytes[componentCursor] == 0x01) {
+                        // the value component. A failure component has no command.
+                        if (componentLength < HEADER_LENGTH) break;
+                        return new NestedCommand(bytes, componentStart, componentLength,
+                                propertyIdentifier);
+                    }
+
+                    componentCursor = componentStart + componentLength;
+                }
+            }
+
+            cursor = bytes.length;
+            return null;
+        }
+    }
+}
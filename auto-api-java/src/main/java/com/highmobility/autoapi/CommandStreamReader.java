@@ -0,0 +1,238 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads back-to-back commands from a stream and resolves them with {@link CommandResolver}.
+ * <p>
+ * The commands are not length prefixed. A command ends where the next command header starts,
+ * which is found by walking the property length prefixes. A property with the Auto API version
+ * byte as identifier is told apart from a header by checking whether its components fill the
+ * property exactly. Get commands contain one byte property identifiers, so there a header is the
+ * version byte followed by the capability identifier's first byte 0. Because of this, a command
+ * is returned only after the next command's header or the end of the stream has been read.
+ * <p>
+ * The bytes are read to a reusable buffer and framed in place. Every command gets a copy of its
+ * own bytes, because the resolved command keeps them.
+ */
+public class CommandStreamReader implements Iterator<Command>, Closeable {
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+    static final int COMMAND_HEADER_LENGTH = 3 + Command.HEADER_LENGTH;
+
+    private final ReadableByteChannel channel;
+    private byte[] buffer;
+    private ByteBuffer byteBuffer;
+    // the unread bytes are between start and end
+    private int start = 0;
+    private int end = 0;
+    private boolean endOfStream = false;
+
+    @Nullable private Command next;
+
+    public CommandStreamReader(InputStream stream) {
+        this(Channels.newChannel(stream));
+    }
+
+    public CommandStreamReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel    The channel to read the commands from.
+     * @param bufferSize The initial buffer size. The buffer grows if a command does not fit in it.
+     * @throws IllegalArgumentException when the channel is in non-blocking mode.
+     */
+    public CommandStreamReader(ReadableByteChannel channel, int bufferSize) {
+        if (bufferSize < COMMAND_HEADER_LENGTH) throw new IllegalArgumentException();
+        if (channel instanceof SelectableChannel &&
+                ((SelectableChannel) channel).isBlocking() == false) {
+            throw new IllegalArgumentException("The channel has to be in blocking mode");
+        }
+
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+        this.byteBuffer = ByteBuffer.wrap(buffer);
+    }
+
+    /**
+     * Read the next command. Blocks until the command and the next command's header are read, or
+     * the stream ends.
+     *
+     * @return The command, or null if the stream has ended.
+     * @throws IOException when reading the stream fails.
+     */
+    @Nullable public Command read() throws IOException {
+        if (next != null) {
+            Command command = next;
+            next = null;
+            return command;
+        }
+
+        if (!fill(1)) return null;
+
+        int length = findCommandLength();
+        byte[] commandBytes = Arrays.copyOfRange(buffer, start, start + length);
+        start += length;
+
+        return CommandResolver.resolve(commandBytes);
+    }
+
+    /**
+     * @return Whether there is another command in the stream.
+     * @throws UncheckedIOException when reading the stream fails.
+     */
+    @Override public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return next != null;
+    }
+
+    /**
+     * @return The next command.
+     * @throws UncheckedIOException   when reading the stream fails.
+     * @throws NoSuchElementException when the stream has ended.
+     */
+    @Override public Command next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Command command = next;
+        next = null;
+        return command;
+    }
+
+    @Override public void close() throws IOException {
+        channel.close();
+    }
+
+    // The length of the command at start. At the end of the stream the remaining bytes are
+    // returned as the last command.
+    private int findCommandLength() throws IOException {
+        if (!fill(COMMAND_HEADER_LENGTH)) return end - start;
+
+        int cursor = COMMAND_HEADER_LENGTH;
+
+        if (buffer[start + Command.COMMAND_TYPE_POSITION] != Type.SET) {
+            // get commands have one byte property identifiers. Identifiers start from 1 and the
+            // capability identifier's first byte is 0, so the version and 0 can only be a header.
+            while (fill(cursor + 2)) {
+                if (buffer[start + cursor] == Command.AUTO_API_VERSION &&
+                        buffer[start + cursor + 1] == 0) return cursor;
+                cursor++;
+            }
+
+            return end - start;
+        }
+
+        while (fill(cursor + 1)) {
+            if (buffer[start + cursor] == Command.AUTO_API_VERSION && startsCommand(cursor)) {
+                return cursor;
+            }
+
+            if (!fill(cursor + 3)) return end - start;
+            int propertySize = getUnsignedShort(start + cursor + 1);
+            cursor += 3 + propertySize;
+
+            if (!fill(cursor)) return end - start;
+        }
+
+        return cursor;
+    }
+
+    // whether a command header starts at cursor, instead of a property with the version byte as
+    // identifier.
+    private boolean startsCommand(int cursor) throws IOException {
+        if (!fill(cursor + COMMAND_HEADER_LENGTH)) return false;
+
+        byte type = buffer[start + cursor + Command.COMMAND_TYPE_POSITION];
+        if (type != Type.GET && type != Type.SET && type != Type.GET_AVAILABILITY) return false;
+
+        // a property's components fill the property exactly
+        int propertyEnd = cursor + 3 + getUnsignedShort(start + cursor + 1);
+        int componentStart = cursor + 3;
+
+        while (componentStart < propertyEnd) {
+            if (!fill(componentStart + 3)) return true;
+            componentStart += 3 + getUnsignedShort(start + componentStart + 1);
+        }
+
+        return componentStart != propertyEnd;
+    }
+
+    // read until there are at least length bytes after start. Returns false if the stream ends
+    // before that.
+    private boolean fill(int length) throws IOException {
+        while (end - start < length) {
+            if (endOfStream) return false;
+
+            if (buffer.length - start < length) {
+                if (buffer.length < length) {
+                    byte[] grown = new byte[Math.max(buffer.length * 2, length)];
+                    System.arraycopy(buffer, start, grown, 0, end - start);
+                    buffer = grown;
+                    byteBuffer = ByteBuffer.wrap(buffer);
+                } else {
+                    System.arraycopy(buffer, start, buffer, 0, end - start);
+                }
+
+                end -= start;
+                start = 0;
+            }
+
+            byteBuffer.limit(buffer.length);
+            byteBuffer.position(end);
+            int read = channel.read(byteBuffer);
+
+            if (read == -1) endOfStream = true;
+            else if (read == 0) {
+                // a blocking channel reads at least one byte, so don't spin on a non-blocking one
+                throw new IOException("The channel has to be in blocking mode");
+            } else end += read;
+        }
+
+        return true;
+    }
+
+    private int getUnsignedShort(int at) {
+        return ((buffer[at] & 0xFF) << 8) | (buffer[at + 1] & 0xFF);
+    }
+}
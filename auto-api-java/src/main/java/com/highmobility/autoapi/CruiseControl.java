@@ -239,6 +239,20 @@ public class CruiseControl {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            cruiseControl.reset();
+            limiter.reset();
+            targetSpeed.reset();
+            adaptiveCruiseControl.reset();
+            accTargetSpeed.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -261,17 +275,25 @@ public class CruiseControl {
         LOWER_SPEED_REQUESTED((byte) 0x02),
         SPEED_FIXED((byte) 0x03);
     
-        public static Limiter fromByte(byte byteValue) throws CommandParseException {
-            Limiter[] values = Limiter.values();
+        private static final Limiter[] byByte = new Limiter[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Limiter state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Limiter state : Limiter.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static Limiter fromByte(byte byteValue) throws CommandParseException {
+            Limiter state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("CruiseControl.Limiter does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("CruiseControl.Limiter does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Limiter fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -83,7 +83,14 @@ public class DashboardLights {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
     
+        @Override void parseProperties() {
             final ArrayList<Property<DashboardLight>> dashboardLightsBuilder = new ArrayList<>();
     
             while (propertyIterator.hasNext()) {
@@ -493,6 +493,43 @@ public class Diagnostics {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            mileage.reset();
+            engineOilTemperature.reset();
+            speed.reset();
+            engineRPM.reset();
+            fuelLevel.reset();
+            estimatedRange.reset();
+            washerFluidLevel.reset();
+            batteryVoltage.reset();
+            adBlueLevel.reset();
+            distanceSinceReset.reset();
+            distanceSinceStart.reset();
+            fuelVolume.reset();
+            antiLockBraking.reset();
+            engineCoolantTemperature.reset();
+            engineTotalOperatingHours.reset();
+            engineTotalFuelConsumption.reset();
+            brakeFluidLevel.reset();
+            engineTorque.reset();
+            engineLoad.reset();
+            wheelBasedSpeed.reset();
+            batteryLevel.reset();
+            mileageMeters.reset();
+            odometer.reset();
+            engineTotalOperatingTime.reset();
+            brakeLiningWearPreWarning.reset();
+            engineOilLifeRemaining.reset();
+            dieselExhaustFluidRange.reset();
+            dieselParticulateFilterSootLevel.reset();
+            dieselExhaustFilterStatus.reset();
     
             final ArrayList<Property<CheckControlMessage>> checkControlMessagesBuilder = new ArrayList<>();
             final ArrayList<Property<TirePressure>> tirePressuresBuilder = new ArrayList<>();
@@ -267,6 +267,16 @@ public class Doors {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            insideLocksState.reset();
+            locksState.reset();
     
             final ArrayList<Property<Lock>> insideLocksBuilder = new ArrayList<>();
             final ArrayList<Property<Lock>> locksBuilder = new ArrayList<>();
@@ -27,6 +27,8 @@ import com.highmobility.autoapi.capability.DisabledIn;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.autoapi.property.Property;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -86,6 +88,16 @@ public class DriverFatigue {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            detectedFatigueLevel.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -104,17 +116,25 @@ public class DriverFatigue {
         ACTION_NEEDED((byte) 0x02),
         CAR_READY_TO_TAKE_OVER((byte) 0x03);
     
-        public static DetectedFatigueLevel fromByte(byte byteValue) throws CommandParseException {
-            DetectedFatigueLevel[] values = DetectedFatigueLevel.values();
+        private static final DetectedFatigueLevel[] byByte = new DetectedFatigueLevel[256];
     
-            for (int i = 0; i < values.length; i++) {
-                DetectedFatigueLevel state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (DetectedFatigueLevel state : DetectedFatigueLevel.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("DriverFatigue.DetectedFatigueLevel does not contain: " + hexFromByte(byteValue));
+        public static DetectedFatigueLevel fromByte(byte byteValue) throws CommandParseException {
+            DetectedFatigueLevel state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DriverFatigue.DetectedFatigueLevel does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static DetectedFatigueLevel fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.Property;
 import com.highmobility.autoapi.property.PropertyInteger;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -97,10 +99,10 @@ public class FailureMessage {
         public boolean getPropertyFailed(Integer capabilityIdentifier, byte propertyIdentifier) {
             if ((getFailedMessageID().getValue() != null && getFailedPropertyIDs().getValue() != null) &&
                     capabilityIdentifier.equals(getFailedMessageID().getValue())) {
-                Bytes failedIds = getFailedPropertyIDs().getValue();
+                byte[] failedIds = getFailedPropertyIDs().getValue().getByteArray();
     
-                for (Byte failedId : failedIds) {
-                    if (failedId == propertyIdentifier) return true;
+                for (int i = 0; i < failedIds.length; i++) {
+                    if (failedIds[i] == propertyIdentifier) return true;
                 }
             }
     
@@ -115,16 +117,29 @@ public class FailureMessage {
          * @return Whether the command failed.
          */
         public boolean getCommandFailed(Integer identifier, Integer type) {
-            if (identifier == getFailedMessageID().getValue() &&
-                    type == getFailedMessageType().getValue()) {
-                return true;
-            }
+            Integer failedIdentifier = getFailedMessageID().getValue();
+            Integer failedType = getFailedMessageType().getValue();
     
-            return false;
+            return failedIdentifier != null && failedType != null &&
+                    failedIdentifier.equals(identifier) && failedType.equals(type);
         }
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            failedMessageID.reset();
+            failedMessageType.reset();
+            failureReason.reset();
+            failureDescription.reset();
+            failedPropertyIDs.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -255,17 +270,25 @@ public class FailureMessage {
          */
         OEM_ERROR((byte) 0x08);
     
-        public static FailureReason fromByte(byte byteValue) throws CommandParseException {
-            FailureReason[] values = FailureReason.values();
+        private static final FailureReason[] byByte = new FailureReason[256];
     
-            for (int i = 0; i < values.length; i++) {
-                FailureReason state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (FailureReason state : FailureReason.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static FailureReason fromByte(byte byteValue) throws CommandParseException {
+            FailureReason state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("FailureMessage.FailureReason does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("FailureMessage.FailureReason does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static FailureReason fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -111,6 +111,8 @@ public class Historical {
      * Get trips
      */
     public static class GetTrips extends SetCommand {
+        static final byte[] CAPABILITY_ID_VALUE = new byte[]{(byte) 0x00, (byte) 0x6a};
+    
         PropertyInteger capabilityID = new PropertyInteger(PROPERTY_CAPABILITY_ID, false);
         Property<Calendar> startDate = new Property<>(Calendar.class, PROPERTY_START_DATE);
         Property<Calendar> endDate = new Property<>(Calendar.class, PROPERTY_END_DATE);
@@ -138,7 +140,7 @@ public class Historical {
         public GetTrips(@Nullable Calendar startDate, @Nullable Calendar endDate) {
             super(IDENTIFIER);
         
-            addProperty(capabilityID.addValueComponent(new Bytes("006a")));
+            addProperty(capabilityID.addValueComponent(new Bytes(CAPABILITY_ID_VALUE)));
             addProperty(this.startDate.update(startDate));
             addProperty(this.endDate.update(endDate));
             createBytes();
@@ -156,7 +158,7 @@ public class Historical {
                     return null;
                 });
             }
-            if ((capabilityID.getValue() == null || capabilityID.getValueComponent().getValueBytes().equals("006a") == false)) 
+            if ((capabilityID.getValue() == null || capabilityID.getValueComponent().valueEquals(CAPABILITY_ID_VALUE) == false)) 
                 throw new NoPropertiesException();
         }
     }
@@ -176,7 +178,14 @@ public class Historical {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
     
+        @Override void parseProperties() {
             final ArrayList<Property<Command>> statesBuilder = new ArrayList<>();
     
             while (propertyIterator.hasNext()) {
@@ -515,6 +515,29 @@ public class HomeCharger {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            chargingStatus.reset();
+            authenticationMechanism.reset();
+            plugType.reset();
+            chargingPowerKW.reset();
+            solarCharging.reset();
+            wifiHotspotEnabled.reset();
+            wifiHotspotSSID.reset();
+            wiFiHotspotSecurity.reset();
+            wiFiHotspotPassword.reset();
+            authenticationState.reset();
+            chargeCurrent.reset();
+            maximumChargeCurrent.reset();
+            minimumChargeCurrent.reset();
+            coordinates.reset();
+            chargingPower.reset();
     
             final ArrayList<Property<PriceTariff>> priceTariffsBuilder = new ArrayList<>();
     
@@ -783,17 +806,25 @@ public class HomeCharger {
         PLUGGED_IN((byte) 0x01),
         CHARGING((byte) 0x02);
     
-        public static ChargingStatus fromByte(byte byteValue) throws CommandParseException {
-            ChargingStatus[] values = ChargingStatus.values();
+        private static final ChargingStatus[] byByte = new ChargingStatus[256];
     
-            for (int i = 0; i < values.length; i++) {
-                ChargingStatus state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (ChargingStatus state : ChargingStatus.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("HomeCharger.ChargingStatus does not contain: " + hexFromByte(byteValue));
+        public static ChargingStatus fromByte(byte byteValue) throws CommandParseException {
+            ChargingStatus state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("HomeCharger.ChargingStatus does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static ChargingStatus fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -811,17 +842,25 @@ public class HomeCharger {
         PIN((byte) 0x00),
         APP((byte) 0x01);
     
-        public static AuthenticationMechanism fromByte(byte byteValue) throws CommandParseException {
-            AuthenticationMechanism[] values = AuthenticationMechanism.values();
+        private static final AuthenticationMechanism[] byByte = new AuthenticationMechanism[256];
     
-            for (int i = 0; i < values.length; i++) {
-                AuthenticationMechanism state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (AuthenticationMechanism state : AuthenticationMechanism.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("HomeCharger.AuthenticationMechanism does not contain: " + hexFromByte(byteValue));
+        public static AuthenticationMechanism fromByte(byte byteValue) throws CommandParseException {
+            AuthenticationMechanism state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("HomeCharger.AuthenticationMechanism does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static AuthenticationMechanism fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -841,17 +880,25 @@ public class HomeCharger {
         CCS((byte) 0x02),
         CHADEMO((byte) 0x03);
     
-        public static PlugType fromByte(byte byteValue) throws CommandParseException {
-            PlugType[] values = PlugType.values();
+        private static final PlugType[] byByte = new PlugType[256];
     
-            for (int i = 0; i < values.length; i++) {
-                PlugType state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (PlugType state : PlugType.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("HomeCharger.PlugType does not contain: " + hexFromByte(byteValue));
+        public static PlugType fromByte(byte byteValue) throws CommandParseException {
+            PlugType state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("HomeCharger.PlugType does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static PlugType fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -869,17 +916,25 @@ public class HomeCharger {
         UNAUTHENTICATED((byte) 0x00),
         AUTHENTICATED((byte) 0x01);
     
-        public static AuthenticationState fromByte(byte byteValue) throws CommandParseException {
-            AuthenticationState[] values = AuthenticationState.values();
+        private static final AuthenticationState[] byByte = new AuthenticationState[256];
     
-            for (int i = 0; i < values.length; i++) {
-                AuthenticationState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (AuthenticationState state : AuthenticationState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("HomeCharger.AuthenticationState does not contain: " + hexFromByte(byteValue));
+        public static AuthenticationState fromByte(byte byteValue) throws CommandParseException {
+            AuthenticationState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("HomeCharger.AuthenticationState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static AuthenticationState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
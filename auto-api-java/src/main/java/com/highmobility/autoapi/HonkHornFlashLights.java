@@ -243,6 +243,16 @@ public class HonkHornFlashLights {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            flashers.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -289,17 +299,25 @@ public class HonkHornFlashLights {
         LEFT_FLASHER_ACTIVE((byte) 0x02),
         RIGHT_FLASHER_ACTIVE((byte) 0x03);
     
-        public static Flashers fromByte(byte byteValue) throws CommandParseException {
-            Flashers[] values = Flashers.values();
+        private static final Flashers[] byByte = new Flashers[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Flashers state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Flashers state : Flashers.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static Flashers fromByte(byte byteValue) throws CommandParseException {
+            Flashers state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("HonkHornFlashLights.Flashers does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("HonkHornFlashLights.Flashers does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Flashers fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
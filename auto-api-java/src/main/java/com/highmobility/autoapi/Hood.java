@@ -26,6 +26,8 @@ package com.highmobility.autoapi;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.autoapi.property.Property;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -83,6 +85,16 @@ public class Hood {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            position.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -128,17 +140,25 @@ public class Hood {
         OPEN((byte) 0x01),
         INTERMEDIATE((byte) 0x02);
     
-        public static Position fromByte(byte byteValue) throws CommandParseException {
-            Position[] values = Position.values();
+        private static final Position[] byByte = new Position[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Position state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Position state : Position.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Hood.Position does not contain: " + hexFromByte(byteValue));
+        public static Position fromByte(byte byteValue) throws CommandParseException {
+            Position state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Hood.Position does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Position fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
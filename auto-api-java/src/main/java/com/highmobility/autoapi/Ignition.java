@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.Property;
 import com.highmobility.autoapi.value.OnOffState;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -203,6 +205,18 @@ public class Ignition {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            status.reset();
+            accessoriesStatus.reset();
+            state.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -276,17 +290,25 @@ public class Ignition {
         ON((byte) 0x03),
         START((byte) 0x04);
     
-        public static IgnitionState fromByte(byte byteValue) throws CommandParseException {
-            IgnitionState[] values = IgnitionState.values();
+        private static final IgnitionState[] byByte = new IgnitionState[256];
     
-            for (int i = 0; i < values.length; i++) {
-                IgnitionState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (IgnitionState state : IgnitionState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Ignition.IgnitionState does not contain: " + hexFromByte(byteValue));
+        public static IgnitionState fromByte(byte byteValue) throws CommandParseException {
+            IgnitionState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Ignition.IgnitionState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static IgnitionState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
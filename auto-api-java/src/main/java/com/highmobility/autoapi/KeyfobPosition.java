@@ -27,6 +27,8 @@ import com.highmobility.autoapi.capability.DisabledIn;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.autoapi.property.Property;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -86,6 +88,16 @@ public class KeyfobPosition {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            location.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -106,17 +118,25 @@ public class KeyfobPosition {
         OUTSIDE_BEHIND_CAR((byte) 0x04),
         INSIDE_CAR((byte) 0x05);
     
-        public static Location fromByte(byte byteValue) throws CommandParseException {
-            Location[] values = Location.values();
+        private static final Location[] byByte = new Location[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Location state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Location state : Location.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("KeyfobPosition.Location does not contain: " + hexFromByte(byteValue));
+        public static Location fromByte(byte byteValue) throws CommandParseException {
+            Location state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("KeyfobPosition.Location does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Location fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
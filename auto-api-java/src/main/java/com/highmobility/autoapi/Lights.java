@@ -412,6 +412,20 @@ public class Lights {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            frontExteriorLight.reset();
+            rearExteriorLight.reset();
+            ambientLightColour.reset();
+            reverseLight.reset();
+            emergencyBrakeLight.reset();
+            switchPosition.reset();
     
             final ArrayList<Property<Light>> fogLightsBuilder = new ArrayList<>();
             final ArrayList<Property<ReadingLamp>> readingLampsBuilder = new ArrayList<>();
@@ -635,17 +649,25 @@ public class Lights {
         DRL((byte) 0x03),
         AUTOMATIC((byte) 0x04);
     
-        public static FrontExteriorLight fromByte(byte byteValue) throws CommandParseException {
-            FrontExteriorLight[] values = FrontExteriorLight.values();
+        private static final FrontExteriorLight[] byByte = new FrontExteriorLight[256];
     
-            for (int i = 0; i < values.length; i++) {
-                FrontExteriorLight state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (FrontExteriorLight state : FrontExteriorLight.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static FrontExteriorLight fromByte(byte byteValue) throws CommandParseException {
+            FrontExteriorLight state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Lights.FrontExteriorLight does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Lights.FrontExteriorLight does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static FrontExteriorLight fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -666,17 +688,25 @@ public class Lights {
         PARKING_LIGHT_LEFT((byte) 0x03),
         SIDELIGHTS((byte) 0x04);
     
-        public static SwitchPosition fromByte(byte byteValue) throws CommandParseException {
-            SwitchPosition[] values = SwitchPosition.values();
+        private static final SwitchPosition[] byByte = new SwitchPosition[256];
     
-            for (int i = 0; i < values.length; i++) {
-                SwitchPosition state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (SwitchPosition state : SwitchPosition.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Lights.SwitchPosition does not contain: " + hexFromByte(byteValue));
+        public static SwitchPosition fromByte(byte byteValue) throws CommandParseException {
+            SwitchPosition state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Lights.SwitchPosition does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static SwitchPosition fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -34,6 +34,8 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -294,6 +296,29 @@ public class Maintenance {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            daysToNextService.reset();
+            kilometersToNextService.reset();
+            cbsReportsCount.reset();
+            monthsToExhaustInspection.reset();
+            teleserviceAvailability.reset();
+            serviceDistanceThreshold.reset();
+            serviceTimeThreshold.reset();
+            automaticTeleserviceCallDate.reset();
+            teleserviceBatteryCallDate.reset();
+            nextInspectionDate.reset();
+            brakeFluidChangeDate.reset();
+            timeToNextService.reset();
+            distanceToNextService.reset();
+            timeToExhaustInspection.reset();
+            lastECall.reset();
     
             final ArrayList<Property<ConditionBasedService>> conditionBasedServicesBuilder = new ArrayList<>();
     
@@ -567,17 +592,25 @@ public class Maintenance {
         SUCCESSFUL((byte) 0x02),
         ERROR((byte) 0x03);
     
-        public static TeleserviceAvailability fromByte(byte byteValue) throws CommandParseException {
-            TeleserviceAvailability[] values = TeleserviceAvailability.values();
+        private static final TeleserviceAvailability[] byByte = new TeleserviceAvailability[256];
     
-            for (int i = 0; i < values.length; i++) {
-                TeleserviceAvailability state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (TeleserviceAvailability state : TeleserviceAvailability.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Maintenance.TeleserviceAvailability does not contain: " + hexFromByte(byteValue));
+        public static TeleserviceAvailability fromByte(byte byteValue) throws CommandParseException {
+            TeleserviceAvailability state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Maintenance.TeleserviceAvailability does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static TeleserviceAvailability fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -106,7 +106,14 @@ public class MultiCommand {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
     
+        @Override void parseProperties() {
             final ArrayList<Property<Command>> multiStatesBuilder = new ArrayList<>();
     
             while (propertyIterator.hasNext()) {
@@ -244,6 +244,21 @@ public class NaviDestination {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            coordinates.reset();
+            destinationName.reset();
+            dataSlotsFree.reset();
+            dataSlotsMax.reset();
+            arrivalDuration.reset();
+            distanceToDestination.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
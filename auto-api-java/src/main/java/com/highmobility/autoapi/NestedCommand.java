@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import java.util.Arrays;
+
+/**
+ * A command nested in a {@link VehicleStatus}, {@link Historical} or {@link MultiCommand}
+ * command, as returned by {@link CommandScanner#nestedCommands(byte[])}. It points to the bundle's
+ * bytes, and the command is resolved only when {@link #resolve()} is called.
+ */
+public final class NestedCommand {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final byte propertyIdentifier;
+
+    private Command command;
+
+    NestedCommand(byte[] bytes, int offset, int length, byte propertyIdentifier) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.propertyIdentifier = propertyIdentifier;
+    }
+
+    /**
+     * @return The capability identifier of the nested command.
+     */
+    public int getIdentifier() {
+        return CommandScanner.getIdentifier(bytes, offset);
+    }
+
+    /**
+     * @return The command type of the nested command.
+     */
+    public int getType() {
+        return CommandScanner.getType(bytes, offset);
+    }
+
+    /**
+     * @return The identifier of the bundle's property that contains the command, eg {@link
+     * MultiCommand#PROPERTY_MULTI_STATES}.
+     */
+    public byte getPropertyIdentifier() {
+        return propertyIdentifier;
+    }
+
+    /**
+     * @return The position of the command in the bundle's bytes.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return The length of the command.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return A copy of the command bytes.
+     */
+    public byte[] getByteArray() {
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * Resolve the command. It is resolved once, and the same command is returned after that.
+     *
+     * @return The resolved command.
+     */
+    public Command resolve() {
+        if (command == null) command = CommandResolver.resolve(getByteArray());
+        return command;
+    }
+
+    /**
+     * Resolve only the projected properties of the command.
+     *
+     * @param projection The properties to parse.
+     * @return The resolved command.
+     */
+    public Command resolve(Projection projection) {
+        return CommandResolver.resolve(getByteArray(), projection);
+    }
+}
@@ -155,6 +155,8 @@ public class Notifications {
      * Clear notification
      */
     public static class ClearNotification extends SetCommand {
+        static final byte[] CLEAR_VALUE = new byte[]{(byte) 0x00};
+    
         Property<Clear> clear = new Property<>(Clear.class, PROPERTY_CLEAR);
     
         /**
@@ -163,7 +165,7 @@ public class Notifications {
         public ClearNotification() {
             super(IDENTIFIER);
         
-            addProperty(clear.addValueComponent(new Bytes("00")));
+            addProperty(clear.addValueComponent(new Bytes(CLEAR_VALUE)));
             createBytes();
         }
     
@@ -175,7 +177,7 @@ public class Notifications {
                     return null;
                 });
             }
-            if ((clear.getValue() == null || clear.getValueComponent().getValueBytes().equals("00") == false)) 
+            if ((clear.getValue() == null || clear.getValueComponent().valueEquals(CLEAR_VALUE) == false)) 
                 throw new NoPropertiesException();
         }
     }
@@ -219,6 +221,17 @@ public class Notifications {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            text.reset();
+            activatedAction.reset();
+            clear.reset();
     
             final ArrayList<Property<ActionItem>> actionItemsBuilder = new ArrayList<>();
     
@@ -327,17 +340,25 @@ public class Notifications {
     public enum Clear implements ByteEnum {
         CLEAR((byte) 0x00);
     
-        public static Clear fromByte(byte byteValue) throws CommandParseException {
-            Clear[] values = Clear.values();
+        private static final Clear[] byByte = new Clear[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Clear state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Clear state : Clear.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Notifications.Clear does not contain: " + hexFromByte(byteValue));
+        public static Clear fromByte(byte byteValue) throws CommandParseException {
+            Clear state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Notifications.Clear does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Clear fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -141,6 +141,8 @@ public class ParkingTicket {
      * Start parking
      */
     public static class StartParking extends SetCommand {
+        static final byte[] STATUS_VALUE = new byte[]{(byte) 0x01};
+    
         Property<Status> status = new Property<>(Status.class, PROPERTY_STATUS);
         Property<String> operatorName = new Property<>(String.class, PROPERTY_OPERATOR_NAME);
         Property<String> operatorTicketID = new Property<>(String.class, PROPERTY_OPERATOR_TICKET_ID);
@@ -186,7 +188,7 @@ public class ParkingTicket {
         public StartParking(@Nullable String operatorName, String operatorTicketID, Calendar ticketStartTime, @Nullable Calendar ticketEndTime) {
             super(IDENTIFIER);
         
-            addProperty(status.addValueComponent(new Bytes("01")));
+            addProperty(status.addValueComponent(new Bytes(STATUS_VALUE)));
             addProperty(this.operatorName.update(operatorName));
             addProperty(this.operatorTicketID.update(operatorTicketID));
             addProperty(this.ticketStartTime.update(ticketStartTime));
@@ -208,7 +210,7 @@ public class ParkingTicket {
                     return null;
                 });
             }
-            if ((status.getValue() == null || status.getValueComponent().getValueBytes().equals("01") == false) ||
+            if ((status.getValue() == null || status.getValueComponent().valueEquals(STATUS_VALUE) == false) ||
                 this.operatorTicketID.getValue() == null ||
                 this.ticketStartTime.getValue() == null) 
                 throw new NoPropertiesException();
@@ -219,6 +221,8 @@ public class ParkingTicket {
      * End parking
      */
     public static class EndParking extends SetCommand {
+        static final byte[] STATUS_VALUE = new byte[]{(byte) 0x00};
+    
         Property<Status> status = new Property<>(Status.class, PROPERTY_STATUS);
     
         /**
@@ -227,7 +231,7 @@ public class ParkingTicket {
         public EndParking() {
             super(IDENTIFIER);
         
-            addProperty(status.addValueComponent(new Bytes("00")));
+            addProperty(status.addValueComponent(new Bytes(STATUS_VALUE)));
             createBytes();
         }
     
@@ -239,7 +243,7 @@ public class ParkingTicket {
                     return null;
                 });
             }
-            if ((status.getValue() == null || status.getValueComponent().getValueBytes().equals("00") == false)) 
+            if ((status.getValue() == null || status.getValueComponent().valueEquals(STATUS_VALUE) == false)) 
                 throw new NoPropertiesException();
         }
     }
@@ -291,6 +295,20 @@ public class ParkingTicket {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            status.reset();
+            operatorName.reset();
+            operatorTicketID.reset();
+            ticketStartTime.reset();
+            ticketEndTime.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -387,17 +405,25 @@ public class ParkingTicket {
         ENDED((byte) 0x00),
         STARTED((byte) 0x01);
     
-        public static Status fromByte(byte byteValue) throws CommandParseException {
-            Status[] values = Status.values();
+        private static final Status[] byByte = new Status[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Status state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Status state : Status.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("ParkingTicket.Status does not contain: " + hexFromByte(byteValue));
+        public static Status fromByte(byte byteValue) throws CommandParseException {
+            Status state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("ParkingTicket.Status does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Status fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
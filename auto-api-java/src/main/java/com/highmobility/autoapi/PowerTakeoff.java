@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.Property;
 import com.highmobility.autoapi.value.ActiveState;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -194,6 +196,17 @@ public class PowerTakeoff {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            status.reset();
+            engaged.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -251,17 +264,25 @@ public class PowerTakeoff {
         NOT_ENGAGED((byte) 0x00),
         ENGAGED((byte) 0x01);
     
-        public static Engaged fromByte(byte byteValue) throws CommandParseException {
-            Engaged[] values = Engaged.values();
+        private static final Engaged[] byByte = new Engaged[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Engaged state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Engaged state : Engaged.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("PowerTakeoff.Engaged does not contain: " + hexFromByte(byteValue));
+        public static Engaged fromByte(byte byteValue) throws CommandParseException {
+            Engaged state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("PowerTakeoff.Engaged does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Engaged fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
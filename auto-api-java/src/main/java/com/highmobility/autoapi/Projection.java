@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import java.util.Arrays;
+
+import static com.highmobility.autoapi.CommandScanner.COMPONENT_HEADER_LENGTH;
+import static com.highmobility.autoapi.CommandScanner.HEADER_LENGTH;
+import static com.highmobility.autoapi.CommandScanner.PROPERTY_HEADER_LENGTH;
+
+/**
+ * The capabilities and properties to parse, for {@link CommandResolver#resolve(byte[],
+ * Projection)}. The other properties are removed from the command bytes before the command is
+ * parsed, so they are never copied to properties or decoded.
+ * <p>
+ * A command of a capability in the projection keeps its listed properties. A command of another
+ * capability keeps no properties. The universal properties, like the timestamp and the VIN, are
+ * always kept.
+ * <p>
+ * The states in {@link VehicleStatus}, {@link Historical} and {@link MultiCommand} are kept if
+ * their capability is in the projection, and are projected themselves. To get the coordinates
+ * from a vehicle status, it is enough to include the location coordinates.
+ * <p>
+ * Only set commands are projected. Other commands are resolved as they are.
+ */
+public class Projection {
+    private static final int IDENTIFIER_COUNT = CommandResolver.IDENTIFIER_COUNT;
+    private static final byte VALUE_COMPONENT_IDENTIFIER = 0x01;
+
+    // the included property identifiers of each capability, as a 256 bit set. Null if the
+    // capability is not included.
+    private final long[][] properties;
+
+    private Projection(Builder builder) {
+        properties = new long[IDENTIFIER_COUNT][];
+        for (int i = 0; i < IDENTIFIER_COUNT; i++) {
+            if (builder.properties[i] != null) properties[i] = builder.properties[i].clone();
+        }
+    }
+
+    /**
+     * @param capabilityIdentifier The capability identifier.
+     * @return Whether the capability is in the projection.
+     */
+    public boolean includes(int capabilityIdentifier) {
+        return capabilityIdentifier >= 0 && capabilityIdentifier < IDENTIFIER_COUNT &&
+                properties[capabilityIdentifier] != null;
+    }
+
+    /**
+     * @param capabilityIdentifier The capability identifier.
+     * @param propertyIdentifier   The property identifier.
+     * @return Whether the property is in the projection.
+     */
+    public boolean includes(int capabilityIdentifier, byte propertyIdentifier) {
+        if (includes(capabilityIdentifier) == false) return false;
+        int index = propertyIdentifier & 0xFF;
+        return (properties[capabilityIdentifier][index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Remove the properties that are not in the projection.
+     *
+     * @param bytes The command bytes.
+     * @return The projected command bytes. The same array if the command is not projected.
+     */
+    byte[] apply(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_LENGTH ||
+                bytes[Command.COMMAND_TYPE_POSITION] != Type.SET) return bytes;
+
+        // properties are only removed, so the projected command fits in the same length
+        byte[] projected = new byte[bytes.length];
+        int length = projectCommand(bytes, 0, bytes.length, projected, 0);
+        return Arrays.copyOf(projected, length);
+    }
+
+    // writes the projected command to the destination, and returns the position after it
+    private int projectCommand(byte[] bytes, int start, int end, byte[] destination, int at) {
+        if (bytes[start + Command.COMMAND_TYPE_POSITION] != Type.SET) {
+            // a get command in a multi command
+            System.arraycopy(bytes, start, destination, at, end - start);
+            return at + end - start;
+        }
+
+        System.arraycopy(bytes, start, destination, at, HEADER_LENGTH);
+        at += HEADER_LENGTH;
+
+        int identifier = CommandScanner.getIdentifier(bytes, start);
+        int position = start + HEADER_LENGTH;
+
+        while (position + PROPERTY_HEADER_LENGTH <= end) {
+            byte propertyIdentifier = bytes[position];
+            int propertyEnd = position + PROPERTY_HEADER_LENGTH + getLength(bytes, position);
+            if (propertyEnd > end) break;
+
+            if (includes(identifier, propertyIdentifier) ||
+                    isUniversalProperty(propertyIdentifier)) {
+                System.arraycopy(bytes, position, destination, at, propertyEnd - position);
+                at += propertyEnd - position;
+            } else if (CommandScanner.isStatesProperty(identifier, propertyIdentifier)) {
+                at = projectStates(bytes, position, propertyEnd, destination, at);
+            }
+
+            position = propertyEnd;
+        }
+
+        return at;
+    }
+
+    // Keeps a property with a nested command if the command's capability is included. The nested
+    // command is projected and the property and component lengths are updated.
+    private int projectStates(byte[] bytes, int start, int end, byte[] destination, int at) {
+        int valueStart = -1, valueEnd = -1;
+
+        for (int position = start + PROPERTY_HEADER_LENGTH; position + COMPONENT_HEADER_LENGTH <= end; ) {
+            int componentEnd = position + COMPONENT_HEADER_LENGTH + getLength(bytes, position);
+            if (componentEnd > end) break;
+
+            if (bytes[position] == VALUE_COMPONENT_IDENTIFIER) {
+                valueStart = position + COMPONENT_HEADER_LENGTH;
+                valueEnd = componentEnd;
+                break;
+            }
+
+            position = componentEnd;
+        }
+
+        if (valueStart == -1 || valueEnd - valueStart < HEADER_LENGTH ||
+                includes(CommandScanner.getIdentifier(bytes, valueStart)) == false) return at;
+
+        int propertyAt = at;
+        destination[at] = bytes[start];
+        at += PROPERTY_HEADER_LENGTH;
+
+        for (int position = start + PROPERTY_HEADER_LENGTH; position + COMPONENT_HEADER_LENGTH <= end; ) {
+            int componentEnd = position + COMPONENT_HEADER_LENGTH + getLength(bytes, position);
+            if (componentEnd > end) break;
+
+            if (position + COMPONENT_HEADER_LENGTH == valueStart) {
+                int componentAt = at;
+                destination[at] = VALUE_COMPONENT_IDENTIFIER;
+                at = projectCommand(bytes, valueStart, valueEnd, destination,
+                        at + COMPONENT_HEADER_LENGTH);
+                setLength(destination, componentAt, at - componentAt - COMPONENT_HEADER_LENGTH);
+            } else {
+                System.arraycopy(bytes, position, destination, at, componentEnd - position);
+                at += componentEnd - position;
+            }
+
+            position = componentEnd;
+        }
+
+        setLength(destination, propertyAt, at - propertyAt - PROPERTY_HEADER_LENGTH);
+        return at;
+    }
+
+    private static boolean isUniversalProperty(byte propertyIdentifier) {
+        return propertyIdentifier == Command.NONCE_IDENTIFIER ||
+                propertyIdentifier == Command.SIGNATURE_IDENTIFIER ||
+                propertyIdentifier == Command.TIMESTAMP_IDENTIFIER ||
+                propertyIdentifier == Command.VIN_IDENTIFIER ||
+                propertyIdentifier == Command.BRAND_IDENTIFIER;
+    }
+
+    // the 2 length bytes after an identifier
+    private static int getLength(byte[] bytes, int identifierPosition) {
+        return ((bytes[identifierPosition + 1] & 0xFF) << 8) | (bytes[identifierPosition + 2] & 0xFF);
+    }
+
+    private static void setLength(byte[] bytes, int identifierPosition, int length) {
+        bytes[identifierPosition + 1] = (byte) (length >> 8);
+        bytes[identifierPosition + 2] = (byte) length;
+    }
+
+    public static final class Builder {
+        private final long[][] properties = new long[IDENTIFIER_COUNT][];
+
+        /**
+         * Include the capability's properties. Can be called again for the same capability.
+         *
+         * @param capabilityIdentifier The capability identifier, eg {@link Identifier#DIAGNOSTICS}.
+         * @param propertyIdentifiers  The property identifiers, eg {@link
+         *                             Diagnostics#PROPERTY_MILEAGE}. None to include only the
+         *                             capability's universal properties and states.
+         * @return The builder.
+         */
+        public Builder include(int capabilityIdentifier, byte... propertyIdentifiers) {
+            if (capabilityIdentifier < 0 || capabilityIdentifier >= IDENTIFIER_COUNT)
+                throw new IllegalArgumentException("Invalid capability identifier " + capabilityIdentifier);
+
+            long[] bits = properties[capabilityIdentifier];
+            if (bits == null) {
+                bits = new long[4];
+                properties[capabilityIdentifier] = bits;
+            }
+
+            for (byte propertyIdentifier : propertyIdentifiers) {
+                int index = propertyIdentifier & 0xFF;
+                bits[index >>> 6] |= 1L << index;
+            }
+
+            return this;
+        }
+
+        public Projection build() {
+            return new Projection(this);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+/**
+ * Receives the properties and their components from {@link CommandScanner}. The offsets point to
+ * the scanned byte array, which should not be retained or modified.
+ */
+public interface PropertyVisitor {
+    /**
+     * Called for every component of a property.
+     *
+     * @param propertyIdentifier  The property identifier.
+     * @param componentIdentifier The component identifier, eg 0x01 for the value.
+     * @param bytes               The scanned bytes.
+     * @param offset              The position of the component's data.
+     * @param length              The length of the component's data.
+     */
+    void visitComponent(byte propertyIdentifier, byte componentIdentifier, byte[] bytes,
+                        int offset, int length);
+
+    /**
+     * Called for every property, before its components.
+     *
+     * @param propertyIdentifier The property identifier.
+     * @param bytes              The scanned bytes.
+     * @param offset             The position of the property's components.
+     * @param length             The length of the property's components.
+     */
+    default void visitProperty(byte propertyIdentifier, byte[] bytes, int offset, int length) {
+    }
+}
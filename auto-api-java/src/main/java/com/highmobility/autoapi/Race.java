@@ -338,6 +338,30 @@ public class Race {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            understeering.reset();
+            oversteering.reset();
+            gasPedalPosition.reset();
+            steeringAngle.reset();
+            brakePressure.reset();
+            yawRate.reset();
+            rearSuspensionSteering.reset();
+            electronicStabilityProgram.reset();
+            gearMode.reset();
+            selectedGear.reset();
+            brakePedalPosition.reset();
+            brakePedalSwitch.reset();
+            clutchPedalSwitch.reset();
+            acceleratorPedalIdleSwitch.reset();
+            acceleratorPedalKickdownSwitch.reset();
+            vehicleMoving.reset();
     
             final ArrayList<Property<Acceleration>> accelerationsBuilder = new ArrayList<>();
             final ArrayList<Property<BrakeTorqueVectoring>> brakeTorqueVectoringsBuilder = new ArrayList<>();
@@ -657,17 +681,25 @@ public class Race {
         LOW_GEAR((byte) 0x05),
         SPORT((byte) 0x06);
     
-        public static GearMode fromByte(byte byteValue) throws CommandParseException {
-            GearMode[] values = GearMode.values();
+        private static final GearMode[] byByte = new GearMode[256];
     
-            for (int i = 0; i < values.length; i++) {
-                GearMode state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (GearMode state : GearMode.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Race.GearMode does not contain: " + hexFromByte(byteValue));
+        public static GearMode fromByte(byte byteValue) throws CommandParseException {
+            GearMode state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Race.GearMode does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static GearMode fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -685,17 +717,25 @@ public class Race {
         NOT_MOVING((byte) 0x00),
         MOVING((byte) 0x01);
     
-        public static VehicleMoving fromByte(byte byteValue) throws CommandParseException {
-            VehicleMoving[] values = VehicleMoving.values();
+        private static final VehicleMoving[] byByte = new VehicleMoving[256];
     
-            for (int i = 0; i < values.length; i++) {
-                VehicleMoving state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (VehicleMoving state : VehicleMoving.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Race.VehicleMoving does not contain: " + hexFromByte(byteValue));
+        public static VehicleMoving fromByte(byte byteValue) throws CommandParseException {
+            VehicleMoving state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Race.VehicleMoving does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static VehicleMoving fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
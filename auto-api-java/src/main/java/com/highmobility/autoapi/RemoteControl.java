@@ -132,6 +132,8 @@ public class RemoteControl {
      * Start control
      */
     public static class StartControl extends SetCommand {
+        static final byte[] CONTROL_MODE_VALUE = new byte[]{(byte) 0x02};
+    
         Property<ControlMode> controlMode = new Property<>(ControlMode.class, PROPERTY_CONTROL_MODE);
     
         /**
@@ -140,7 +142,7 @@ public class RemoteControl {
         public StartControl() {
             super(IDENTIFIER);
         
-            addProperty(controlMode.addValueComponent(new Bytes("02")));
+            addProperty(controlMode.addValueComponent(new Bytes(CONTROL_MODE_VALUE)));
             createBytes();
         }
     
@@ -152,7 +154,7 @@ public class RemoteControl {
                     return null;
                 });
             }
-            if ((controlMode.getValue() == null || controlMode.getValueComponent().getValueBytes().equals("02") == false)) 
+            if ((controlMode.getValue() == null || controlMode.getValueComponent().valueEquals(CONTROL_MODE_VALUE) == false)) 
                 throw new NoPropertiesException();
         }
     }
@@ -161,6 +163,8 @@ public class RemoteControl {
      * Stop control
      */
     public static class StopControl extends SetCommand {
+        static final byte[] CONTROL_MODE_VALUE = new byte[]{(byte) 0x05};
+    
         Property<ControlMode> controlMode = new Property<>(ControlMode.class, PROPERTY_CONTROL_MODE);
     
         /**
@@ -169,7 +173,7 @@ public class RemoteControl {
         public StopControl() {
             super(IDENTIFIER);
         
-            addProperty(controlMode.addValueComponent(new Bytes("05")));
+            addProperty(controlMode.addValueComponent(new Bytes(CONTROL_MODE_VALUE)));
             createBytes();
         }
     
@@ -181,7 +185,7 @@ public class RemoteControl {
                     return null;
                 });
             }
-            if ((controlMode.getValue() == null || controlMode.getValueComponent().getValueBytes().equals("05") == false)) 
+            if ((controlMode.getValue() == null || controlMode.getValueComponent().valueEquals(CONTROL_MODE_VALUE) == false)) 
                 throw new NoPropertiesException();
         }
     }
@@ -209,6 +213,17 @@ public class RemoteControl {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            controlMode.reset();
+            angle.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -230,17 +245,25 @@ public class RemoteControl {
         ABORTED((byte) 0x04),
         ENDED((byte) 0x05);
     
-        public static ControlMode fromByte(byte byteValue) throws CommandParseException {
-            ControlMode[] values = ControlMode.values();
+        private static final ControlMode[] byByte = new ControlMode[256];
     
-            for (int i = 0; i < values.length; i++) {
-                ControlMode state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (ControlMode state : ControlMode.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("RemoteControl.ControlMode does not contain: " + hexFromByte(byteValue));
+        public static ControlMode fromByte(byte byteValue) throws CommandParseException {
+            ControlMode state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("RemoteControl.ControlMode does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static ControlMode fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
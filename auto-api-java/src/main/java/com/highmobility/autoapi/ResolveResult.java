@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import javax.annotation.Nullable;
+
+/**
+ * The result of resolving one command of a batch. It has either the resolved command, or the
+ * exception that was thrown while resolving it.
+ *
+ * @see CommandResolver#resolveAll(java.util.List)
+ */
+public class ResolveResult {
+    @Nullable private final Command command;
+    @Nullable private final RuntimeException exception;
+
+    ResolveResult(@Nullable Command command, @Nullable RuntimeException exception) {
+        this.command = command;
+        this.exception = exception;
+    }
+
+    /**
+     * @return The resolved command, or null if resolving failed.
+     */
+    @Nullable public Command getCommand() {
+        return command;
+    }
+
+    /**
+     * @return The exception thrown while resolving, or null if the command was resolved.
+     */
+    @Nullable public RuntimeException getException() {
+        return exception;
+    }
+
+    /**
+     * @return Whether the command was resolved.
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+/**
+ * Resolves commands like {@link CommandResolver}, but reuses the capability states. When a state
+ * of the same capability is received again, the previous state instance is reparsed with {@link
+ * Command#reparse(byte[])} instead of a new state being created.
+ * <p>
+ * A returned state is valid until the next state of the same capability is resolved. The resolver
+ * is not thread safe. Use one resolver per thread, or {@link CommandResolver#resolveReusing(byte[])}.
+ */
+public class ReusingCommandResolver {
+    private final Command[] states = new Command[CommandResolver.IDENTIFIER_COUNT];
+    // the factory that created the state. If the runtime changes, the state is not reused.
+    private final CommandResolver.CommandFactory[] factories =
+            new CommandResolver.CommandFactory[CommandResolver.IDENTIFIER_COUNT];
+
+    /**
+     * Parse the command bytes to a Command subclass, reusing the previous state of the same
+     * capability.
+     *
+     * @param bytes the raw command bytes.
+     * @return The parsed command.
+     */
+    public Command resolve(byte[] bytes) {
+        if (bytes == null || bytes.length < 3 + Command.HEADER_LENGTH ||
+                bytes[Command.COMMAND_TYPE_POSITION] != Type.SET)
+            return CommandResolver.resolve(bytes);
+
+        int identifier = Identifier.fromBytes(bytes[Command.HEADER_LENGTH],
+                bytes[Command.HEADER_LENGTH + 1]);
+        if (identifier >= CommandResolver.IDENTIFIER_COUNT) return CommandResolver.resolve(bytes);
+
+        CommandResolver.CommandFactory factory = CommandResolver.getFactory(identifier, Type.SET,
+                CommandResolver.getRuntime());
+        Command state = states[identifier];
+
+        if (state != null && factories[identifier] == factory) {
+            try {
+                state.reparse(bytes);
+                return state;
+            } catch (CommandParseException e) {
+                // resolve a new command instead
+            }
+        }
+
+        Command command = CommandResolver.resolve(bytes);
+
+        if (command.canReparse()) {
+            states[identifier] = command;
+            factories[identifier] = factory;
+        }
+
+        return command;
+    }
+
+    /**
+     * Forget the reused states. The next resolved states are new instances.
+     */
+    public void clear() {
+        for (int i = 0; i < states.length; i++) {
+            states[i] = null;
+            factories[i] = null;
+        }
+    }
+}
@@ -284,6 +284,21 @@ public class RooftopControl {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            dimming.reset();
+            position.reset();
+            convertibleRoofState.reset();
+            sunroofTiltState.reset();
+            sunroofState.reset();
+            sunroofRainEvent.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -400,17 +415,25 @@ public class RooftopControl {
         LOADING_POSITION((byte) 0x07),
         LOADING_POSITION_IMMEDIATE((byte) 0x08);
     
-        public static ConvertibleRoofState fromByte(byte byteValue) throws CommandParseException {
-            ConvertibleRoofState[] values = ConvertibleRoofState.values();
+        private static final ConvertibleRoofState[] byByte = new ConvertibleRoofState[256];
     
-            for (int i = 0; i < values.length; i++) {
-                ConvertibleRoofState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (ConvertibleRoofState state : ConvertibleRoofState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("RooftopControl.ConvertibleRoofState does not contain: " + hexFromByte(byteValue));
+        public static ConvertibleRoofState fromByte(byte byteValue) throws CommandParseException {
+            ConvertibleRoofState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("RooftopControl.ConvertibleRoofState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static ConvertibleRoofState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -429,17 +452,25 @@ public class RooftopControl {
         TILTED((byte) 0x01),
         HALF_TILTED((byte) 0x02);
     
-        public static SunroofTiltState fromByte(byte byteValue) throws CommandParseException {
-            SunroofTiltState[] values = SunroofTiltState.values();
+        private static final SunroofTiltState[] byByte = new SunroofTiltState[256];
     
-            for (int i = 0; i < values.length; i++) {
-                SunroofTiltState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (SunroofTiltState state : SunroofTiltState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("RooftopControl.SunroofTiltState does not contain: " + hexFromByte(byteValue));
+        public static SunroofTiltState fromByte(byte byteValue) throws CommandParseException {
+            SunroofTiltState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("RooftopControl.SunroofTiltState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static SunroofTiltState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -458,17 +489,25 @@ public class RooftopControl {
         OPEN((byte) 0x01),
         INTERMEDIATE((byte) 0x02);
     
-        public static SunroofState fromByte(byte byteValue) throws CommandParseException {
-            SunroofState[] values = SunroofState.values();
+        private static final SunroofState[] byByte = new SunroofState[256];
     
-            for (int i = 0; i < values.length; i++) {
-                SunroofState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (SunroofState state : SunroofState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("RooftopControl.SunroofState does not contain: " + hexFromByte(byteValue));
+        public static SunroofState fromByte(byte byteValue) throws CommandParseException {
+            SunroofState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("RooftopControl.SunroofState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static SunroofState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -487,17 +526,25 @@ public class RooftopControl {
         IN_STROKE_POSITION_BECAUSE_OF_RAIN((byte) 0x01),
         AUTOMATICALLY_IN_STROKE_POSITION((byte) 0x02);
     
-        public static SunroofRainEvent fromByte(byte byteValue) throws CommandParseException {
-            SunroofRainEvent[] values = SunroofRainEvent.values();
+        private static final SunroofRainEvent[] byByte = new SunroofRainEvent[256];
     
-            for (int i = 0; i < values.length; i++) {
-                SunroofRainEvent state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (SunroofRainEvent state : SunroofRainEvent.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("RooftopControl.SunroofRainEvent does not contain: " + hexFromByte(byteValue));
+        public static SunroofRainEvent fromByte(byte byteValue) throws CommandParseException {
+            SunroofRainEvent state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("RooftopControl.SunroofRainEvent does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static SunroofRainEvent fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -186,7 +186,14 @@ public class Seats {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
     
+        @Override void parseProperties() {
             final ArrayList<Property<PersonDetected>> personsDetectedBuilder = new ArrayList<>();
             final ArrayList<Property<SeatbeltState>> seatbeltsStateBuilder = new ArrayList<>();
     
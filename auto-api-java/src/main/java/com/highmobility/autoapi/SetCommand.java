@@ -27,8 +27,11 @@ import com.highmobility.autoapi.property.Property;
 import com.highmobility.autoapi.value.Brand;
 import com.highmobility.value.Bytes;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 
 public class SetCommand extends Command {
     ArrayList<Property> propertiesBuilder;
@@ -53,8 +56,37 @@ public class SetCommand extends Command {
 
     protected void createBytes() {
         if (propertiesBuilder == null) propertiesBuilder = new ArrayList<>();
-        findUniversalProperties(identifier, type, propertiesBuilder.toArray(new Property[0]),
-                true);
+        createBytes(propertiesBuilder);
+    }
+
+    // Writes the bytes in one pass, with the same writer as the builder, and then finds the
+    // universal properties without writing the properties again.
+    private void createBytes(List<Property> properties) {
+        bytes = new byte[getCommandLength(properties)];
+        writeTo(ByteBuffer.wrap(bytes), identifier, properties);
+        findUniversalProperties(identifier, type, properties.toArray(new Property[0]));
+    }
+
+    static int getCommandLength(List<Property> properties) {
+        int length = COMMAND_TYPE_POSITION + 1;
+        for (int i = 0; i < properties.size(); i++) {
+            length += properties.get(i).getLength();
+        }
+        return length;
+    }
+
+    static void writeTo(ByteBuffer buffer, Integer identifier, List<Property> properties) {
+        if (buffer.remaining() < getCommandLength(properties))
+            throw new BufferOverflowException();
+
+        buffer.put(AUTO_API_VERSION);
+        buffer.put((byte) (identifier >> 8));
+        buffer.put((byte) identifier.intValue());
+        buffer.put(Type.toByte(Type.SET));
+
+        for (int i = 0; i < properties.size(); i++) {
+            buffer.put(properties.get(i).getByteArray());
+        }
     }
 
     SetCommand(byte[] bytes) throws CommandParseException {
@@ -63,7 +95,8 @@ public class SetCommand extends Command {
     }
 
     public SetCommand(Builder builder) {
-        super(builder.identifier, Type.SET, builder.propertiesBuilder.toArray(new Property[0]));
+        this(builder.identifier);
+        createBytes(builder.propertiesBuilder);
     }
 
     public static class Builder {
@@ -130,6 +163,37 @@ public class SetCommand extends Command {
             return new SetCommand(this);
         }
 
+        /**
+         * @return The length of the command bytes.
+         */
+        public int getCommandLength() {
+            return SetCommand.getCommandLength(propertiesBuilder);
+        }
+
+        /**
+         * Write the command bytes to the buffer without building the command. The bytes are the
+         * same as the built command's bytes. Useful when the same command is sent to many vehicles,
+         * or many commands are written to one buffer.
+         *
+         * @param buffer The buffer.
+         * @throws java.nio.BufferOverflowException when the buffer does not have enough space.
+         */
+        public void writeTo(ByteBuffer buffer) {
+            SetCommand.writeTo(buffer, identifier, propertiesBuilder);
+        }
+
+        /**
+         * Write the command bytes without building the command.
+         *
+         * @return The command bytes.
+         * @see #writeTo(ByteBuffer)
+         */
+        public byte[] toByteArray() {
+            byte[] bytes = new byte[getCommandLength()];
+            writeTo(ByteBuffer.wrap(bytes));
+            return bytes;
+        }
+
         protected Property[] getProperties() {
             return propertiesBuilder.toArray(new Property[0]);
         }
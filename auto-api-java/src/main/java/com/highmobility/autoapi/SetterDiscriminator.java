@@ -0,0 +1,216 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import javax.annotation.Nullable;
+
+/**
+ * Picks the setter class for a SET command in a single {@link CommandScanner} pass over the
+ * properties.
+ * <p>
+ * Each setter is described by a {@link Signature}: the properties it requires and the fixed value
+ * bytes of its discriminator property, if it has one. Only a setter whose signature matches is
+ * constructed. The setter constructor still validates the property values, and if it rejects them
+ * the next matching setter is tried.
+ * <p>
+ * The signatures can also be queried with {@link #getSetterClass(byte[])}, to find the setter of
+ * a command without constructing it.
+ */
+class SetterDiscriminator implements CommandResolver.CommandFactory {
+    private static final byte VALUE_COMPONENT_IDENTIFIER = 0x01;
+
+    private final Signature[] signatures;
+
+    SetterDiscriminator(Signature... signatures) {
+        this.signatures = signatures;
+    }
+
+    @Override public Command create(byte[] bytes) throws CommandParseException {
+        Scan scan = new Scan();
+        CommandScanner.scan(bytes, scan);
+
+        for (int i = 0; i < signatures.length; i++) {
+            Signature signature = signatures[i];
+            if (signature.matches(scan.withValue, scan.present, scan.valueMatches[i]) == false)
+                continue;
+
+            try {
+                return signature.factory.create(bytes);
+            } catch (NoPropertiesException e) {
+                // the property value didn't parse. The next matching setter can still accept it.
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param bytes The set command bytes.
+     * @return The class of the first setter whose signature the command matches, or null if none
+     * match. The setter constructor may still reject the property values.
+     */
+    @Nullable Class<? extends Command> getSetterClass(byte[] bytes) {
+        Scan scan = new Scan();
+        CommandScanner.scan(bytes, scan);
+
+        for (int i = 0; i < signatures.length; i++) {
+            if (signatures[i].matches(scan.withValue, scan.present, scan.valueMatches[i]))
+                return signatures[i].setterClass;
+        }
+
+        return null;
+    }
+
+    private class Scan implements PropertyVisitor {
+        // 256 bits for property identifiers with a value component and for all present ones
+        final long[] withValue = new long[4];
+        final long[] present = new long[4];
+        final boolean[] valueMatches = new boolean[signatures.length];
+        boolean propertyHasValue;
+
+        @Override
+        public void visitProperty(byte propertyIdentifier, byte[] bytes, int offset, int length) {
+            setBit(present, propertyIdentifier & 0xFF);
+            propertyHasValue = false;
+        }
+
+        @Override
+        public void visitComponent(byte propertyIdentifier, byte componentIdentifier,
+                                   byte[] bytes, int offset, int length) {
+            // only the property's first value component is used
+            if (componentIdentifier != VALUE_COMPONENT_IDENTIFIER || propertyHasValue) return;
+            propertyHasValue = true;
+            setBit(withValue, propertyIdentifier & 0xFF);
+
+            for (int i = 0; i < signatures.length; i++) {
+                if (signatures[i].matchesValue(propertyIdentifier, bytes, offset, length))
+                    valueMatches[i] = true;
+            }
+        }
+    }
+
+    private static void setBit(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static Signature setter(Class<? extends Command> setterClass,
+                            CommandResolver.CommandFactory factory) {
+        return new Signature(setterClass, factory);
+    }
+
+    /**
+     * The properties a setter requires to be constructed successfully.
+     */
+    static class Signature {
+        private final Class<? extends Command> setterClass;
+        private final CommandResolver.CommandFactory factory;
+
+        private byte[] requiredValues = new byte[0];
+        private byte[] anyValues = new byte[0];
+        private byte[] requiredProperties = new byte[0];
+
+        private boolean hasFixedValue = false;
+        private byte fixedValueIdentifier;
+        private byte[] fixedValue;
+
+        Signature(Class<? extends Command> setterClass, CommandResolver.CommandFactory factory) {
+            this.setterClass = setterClass;
+            this.factory = factory;
+        }
+
+        /**
+         * @param identifiers Properties that all need to have a value.
+         * @return Self.
+         */
+        Signature requireValues(byte... identifiers) {
+            this.requiredValues = identifiers;
+            return this;
+        }
+
+        /**
+         * @param identifiers Properties of which at least one needs to have a value.
+         * @return Self.
+         */
+        Signature requireAnyValue(byte... identifiers) {
+            this.anyValues = identifiers;
+            return this;
+        }
+
+        /**
+         * @param identifier A property that needs to exist. Used for setters with a list property.
+         * @return Self.
+         */
+        Signature requireProperty(byte identifier) {
+            this.requiredProperties = new byte[]{identifier};
+            return this;
+        }
+
+        /**
+         * @param identifier The discriminator property.
+         * @param value      The exact value bytes the property needs to have.
+         * @return Self.
+         */
+        Signature requireValue(byte identifier, byte... value) {
+            this.hasFixedValue = true;
+            this.fixedValueIdentifier = identifier;
+            this.fixedValue = value;
+            return this;
+        }
+
+        boolean matchesValue(byte identifier, byte[] bytes, int at, int size) {
+            if (hasFixedValue == false || identifier != fixedValueIdentifier) return false;
+            if (size != fixedValue.length) return false;
+
+            for (int i = 0; i < size; i++) {
+                if (bytes[at + i] != fixedValue[i]) return false;
+            }
+
+            return true;
+        }
+
+        boolean matches(long[] withValue, long[] present, boolean valueMatches) {
+            if (hasFixedValue && valueMatches == false) return false;
+
+            for (byte identifier : requiredValues) {
+                if (isSet(withValue, identifier & 0xFF) == false) return false;
+            }
+
+            for (byte identifier : requiredProperties) {
+                if (isSet(present, identifier & 0xFF) == false) return false;
+            }
+
+            if (anyValues.length == 0) return true;
+
+            for (byte identifier : anyValues) {
+                if (isSet(withValue, identifier & 0xFF)) return true;
+            }
+
+            return false;
+        }
+    }
+}
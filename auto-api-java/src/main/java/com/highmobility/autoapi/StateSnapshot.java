@@ -0,0 +1,580 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.autoapi.property.Property;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import static com.highmobility.autoapi.CommandScanner.COMPONENT_HEADER_LENGTH;
+import static com.highmobility.autoapi.CommandScanner.HEADER_LENGTH;
+import static com.highmobility.autoapi.CommandScanner.PROPERTY_HEADER_LENGTH;
+
+/**
+ * A compact format for storing commands, that decodes to the exact Auto API bytes.
+ * <p>
+ * A command is encoded to a record with {@link #encode(Command)}. The 3 byte property and
+ * component headers are replaced with an identifier and a variable length size, and the
+ * timestamps are stored as the difference to the command timestamp. {@link #decode(byte[])}
+ * restores the Auto API bytes and resolves them with {@link CommandResolver}.
+ * <p>
+ * Several commands, eg the latest states of a vehicle, are written to a snapshot with {@link
+ * #write(Collection)}. A snapshot is read with {@link #StateSnapshot(ByteBuffer)}, which can be a
+ * memory mapped file. The commands and properties are found by their identifiers without decoding
+ * the other commands and properties.
+ * <p>
+ * The snapshot format is:
+ * <pre>
+ * snapshot: "HMS" | format version | command count (4) | index | records
+ * index:    (capability identifier (2) | command type (1) | record offset (4))*, by identifier
+ * record:   command header (4) | base timestamp | property count | properties | tail
+ * property: identifier (1) | size &lt;&lt; 1 | verbatim flag | components
+ * component: identifier (1) | length &lt;&lt; 1, then data | delta &lt;&lt; 1 | 1, for a timestamp
+ * </pre>
+ * The sizes and timestamps are varints. A property whose components do not fill it or would not
+ * get smaller, and the bytes after the last property, are stored verbatim. A timestamp that is too
+ * far from the base timestamp for a delta is stored as data.
+ */
+public class StateSnapshot {
+    private static final byte[] MAGIC = new byte[]{'H', 'M', 'S'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_LENGTH = MAGIC.length + 1 + 4;
+    private static final int INDEX_ENTRY_LENGTH = 2 + 1 + 4;
+    private static final int TIMESTAMP_LENGTH = 8;
+    private static final byte VALUE_COMPONENT_IDENTIFIER = 0x01;
+    private static final byte TIMESTAMP_COMPONENT_IDENTIFIER = 0x02;
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int count;
+
+    /**
+     * Read a snapshot that was created with {@link #write(Collection)}. The buffer is read from
+     * its position and is not modified.
+     *
+     * @param buffer The snapshot, eg a memory mapped file.
+     * @throws IllegalArgumentException when the buffer does not contain a snapshot.
+     */
+    public StateSnapshot(ByteBuffer buffer) {
+        // the snapshot is big endian, whatever the order of the caller's buffer
+        ByteBuffer snapshot = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        this.buffer = snapshot;
+        this.start = snapshot.position();
+
+        if (snapshot.remaining() < SNAPSHOT_HEADER_LENGTH ||
+                snapshot.get(start) != MAGIC[0] || snapshot.get(start + 1) != MAGIC[1] ||
+                snapshot.get(start + 2) != MAGIC[2] || snapshot.get(start + 3) != FORMAT_VERSION)
+            throw new IllegalArgumentException("Not a snapshot");
+
+        this.count = snapshot.getInt(start + 4);
+        if (count < 0 || SNAPSHOT_HEADER_LENGTH + (long) count * INDEX_ENTRY_LENGTH > snapshot.remaining())
+            throw new IllegalArgumentException("Invalid snapshot index");
+    }
+
+    /**
+     * @return The number of commands in the snapshot.
+     */
+    public int getCommandCount() {
+        return count;
+    }
+
+    /**
+     * @param index The command index.
+     * @return The command's capability identifier. The commands are sorted by it.
+     */
+    public int getIdentifier(int index) {
+        int entry = getIndexEntry(index);
+        return ((buffer.get(entry) & 0xFF) << 8) | (buffer.get(entry + 1) & 0xFF);
+    }
+
+    /**
+     * @param index The command index.
+     * @return The Auto API bytes of the command.
+     */
+    public byte[] getCommandBytes(int index) {
+        return decodeRecord(new Reader(buffer, getRecordOffset(index)), null);
+    }
+
+    /**
+     * @param index The command index.
+     * @return The resolved command.
+     */
+    public Command getCommand(int index) {
+        return CommandResolver.resolve(getCommandBytes(index));
+    }
+
+    /**
+     * @param identifier The capability identifier.
+     * @return The resolved set command of the capability, or null if it is not in the snapshot.
+     */
+    @Nullable public Command getState(int identifier) {
+        int index = indexOf(identifier);
+        return index == -1 ? null : getCommand(index);
+    }
+
+    /**
+     * Get a property of a capability's set command. Only the property is decoded.
+     *
+     * @param identifier         The capability identifier.
+     * @param propertyIdentifier The property identifier.
+     * @return The property, or null if it is not in the snapshot. The first one, if the property
+     * is repeated.
+     */
+    @Nullable public Property getProperty(int identifier, byte propertyIdentifier) {
+        int index = indexOf(identifier);
+        if (index == -1) return null;
+        return getCommand(index, propertyIdentifier).getProperty(propertyIdentifier);
+    }
+
+    /**
+     * Get the properties of a capability's set command with the property identifier. Only these
+     * properties are decoded.
+     *
+     * @param identifier         The capability identifier.
+     * @param propertyIdentifier The property identifier.
+     * @return The properties, or an empty list if there are none.
+     */
+    public List<Property> getProperties(int identifier, byte propertyIdentifier) {
+        ArrayList<Property> properties = new ArrayList<>();
+        int index = indexOf(identifier);
+        if (index == -1) return properties;
+
+        for (Property property : getCommand(index, propertyIdentifier).getProperties()) {
+            if (property.getPropertyIdentifier() == propertyIdentifier) properties.add(property);
+        }
+
+        return properties;
+    }
+
+    // the set command with only the properties with the identifier
+    private Command getCommand(int index, byte propertyIdentifier) {
+        Reader reader = new Reader(buffer, getRecordOffset(index));
+        return CommandResolver.resolve(decodeRecord(reader, propertyIdentifier));
+    }
+
+    // binary search for the set command of the capability
+    private int indexOf(int identifier) {
+        int low = 0, high = count - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleIdentifier = getIdentifier(middle);
+
+            if (middleIdentifier < identifier) {
+                low = middle + 1;
+            } else if (middleIdentifier > identifier) {
+                high = middle - 1;
+            } else {
+                // the commands of the capability are next to each other
+                int first = middle;
+                while (first > 0 && getIdentifier(first - 1) == identifier) first--;
+
+                for (int i = first; i < count && getIdentifier(i) == identifier; i++) {
+                    if (buffer.get(getIndexEntry(i) + 2) == Type.SET) return i;
+                }
+
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    private int getIndexEntry(int index) {
+        if (index < 0 || index >= count) throw new IndexOutOfBoundsException();
+        return start + SNAPSHOT_HEADER_LENGTH + index * INDEX_ENTRY_LENGTH;
+    }
+
+    private int getRecordOffset(int index) {
+        return start + buffer.getInt(getIndexEntry(index) + 3);
+    }
+
+    /**
+     * Write the commands to a snapshot.
+     *
+     * @param commands The commands.
+     * @return The snapshot bytes.
+     */
+    public static byte[] write(Collection<? extends Command> commands) {
+        Command[] sorted = commands.toArray(new Command[0]);
+        Arrays.sort(sorted, Comparator.comparingInt(Command::getIdentifier));
+
+        byte[][] records = new byte[sorted.length][];
+        int length = SNAPSHOT_HEADER_LENGTH + sorted.length * INDEX_ENTRY_LENGTH;
+
+        for (int i = 0; i < sorted.length; i++) {
+            records[i] = encode(sorted[i]);
+            length += records[i].length;
+        }
+
+        byte[] snapshot = new byte[length];
+        System.arraycopy(MAGIC, 0, snapshot, 0, MAGIC.length);
+        snapshot[MAGIC.length] = FORMAT_VERSION;
+        Property.writeInt(snapshot, MAGIC.length + 1, sorted.length, 4);
+
+        int entry = SNAPSHOT_HEADER_LENGTH;
+        int at = SNAPSHOT_HEADER_LENGTH + sorted.length * INDEX_ENTRY_LENGTH;
+
+        for (int i = 0; i < sorted.length; i++) {
+            byte[] bytes = sorted[i].getByteArray();
+            snapshot[entry] = bytes[Command.HEADER_LENGTH];
+            snapshot[entry + 1] = bytes[Command.HEADER_LENGTH + 1];
+            snapshot[entry + 2] = bytes[Command.COMMAND_TYPE_POSITION];
+            Property.writeInt(snapshot, entry + 3, at, 4);
+            entry += INDEX_ENTRY_LENGTH;
+
+            System.arraycopy(records[i], 0, snapshot, at, records[i].length);
+            at += records[i].length;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Encode a command to a snapshot record.
+     *
+     * @param command The command.
+     * @return The record.
+     */
+    public static byte[] encode(Command command) {
+        byte[] bytes = command.getByteArray();
+        if (bytes.length < HEADER_LENGTH) throw new IllegalArgumentException("Invalid command");
+
+        long base = command.getTimestampMillis() == Property.NO_TIMESTAMP ? 0 :
+                command.getTimestampMillis();
+
+        // a header is replaced with at most 4 bytes, and a timestamp with at most 11
+        Writer writer = new Writer(new byte[bytes.length * 2 + 32]);
+        writer.write(bytes, 0, HEADER_LENGTH);
+        writer.writeVarLong(zigZag(base));
+
+        int end = bytes.length;
+        int position = HEADER_LENGTH;
+        int propertyCount = 0;
+
+        if (bytes[Command.COMMAND_TYPE_POSITION] == Type.SET) {
+            while (position + PROPERTY_HEADER_LENGTH <= end &&
+                    position + PROPERTY_HEADER_LENGTH + getLength(bytes, position) <= end) {
+                propertyCount++;
+                position += PROPERTY_HEADER_LENGTH + getLength(bytes, position);
+            }
+        }
+
+        writer.writeVarLong(propertyCount);
+        position = HEADER_LENGTH;
+
+        for (int i = 0; i < propertyCount; i++) {
+            int propertyStart = position + PROPERTY_HEADER_LENGTH;
+            int propertyEnd = propertyStart + getLength(bytes, position);
+            writer.write(bytes[position]);
+
+            // a property is stored verbatim if encoding does not make it smaller, so that the
+            // stored size fits in the Auto API length
+            int size = getEncodedComponentsLength(bytes, propertyStart, propertyEnd, base);
+            if (size == -1 || size > propertyEnd - propertyStart) {
+                writer.writeVarLong((long) (propertyEnd - propertyStart) << 1 | 1);
+                writer.write(bytes, propertyStart, propertyEnd - propertyStart);
+            } else {
+                writer.writeVarLong((long) size << 1);
+                encodeComponents(bytes, propertyStart, propertyEnd, base, bytes[position], writer);
+            }
+
+            position = propertyEnd;
+        }
+
+        writer.writeVarLong(end - position);
+        writer.write(bytes, position, end - position);
+
+        return Arrays.copyOf(writer.bytes, writer.position);
+    }
+
+    /**
+     * @param record The record created with {@link #encode(Command)}.
+     * @return The Auto API bytes of the command.
+     * @throws IllegalArgumentException when the record is invalid.
+     */
+    public static byte[] toAutoApiBytes(byte[] record) {
+        return decodeRecord(new Reader(ByteBuffer.wrap(record), 0), null);
+    }
+
+    /**
+     * @param record The record created with {@link #encode(Command)}.
+     * @return The resolved command.
+     * @throws IllegalArgumentException when the record is invalid.
+     */
+    public static Command decode(byte[] record) {
+        return CommandResolver.resolve(toAutoApiBytes(record));
+    }
+
+    // the encoded length of the components, or -1 if they do not fill the property exactly
+    private static int getEncodedComponentsLength(byte[] bytes, int start, int end, long base) {
+        int length = 0;
+        int position = start;
+
+        while (position < end) {
+            if (position + COMPONENT_HEADER_LENGTH > end) return -1;
+            int componentLength = getLength(bytes, position);
+            int data = position + COMPONENT_HEADER_LENGTH;
+            if (data + componentLength > end) return -1;
+
+            if (isTimestampDelta(bytes, position, base, bytes[start - PROPERTY_HEADER_LENGTH])) {
+                long delta = Property.getLong(bytes, data, TIMESTAMP_LENGTH) - base;
+                length += 1 + getVarLongLength(zigZag(delta) << 1 | 1);
+            } else {
+                length += 1 + getVarLongLength((long) componentLength << 1) + componentLength;
+            }
+
+            position = data + componentLength;
+        }
+
+        return length;
+    }
+
+    private static void encodeComponents(byte[] bytes, int start, int end, long base,
+                                         byte propertyIdentifier, Writer writer) {
+        int position = start;
+
+        while (position < end) {
+            int componentLength = getLength(bytes, position);
+            int data = position + COMPONENT_HEADER_LENGTH;
+            writer.write(bytes[position]);
+
+            if (isTimestampDelta(bytes, position, base, propertyIdentifier)) {
+                long delta = Property.getLong(bytes, data, TIMESTAMP_LENGTH) - base;
+                writer.writeVarLong(zigZag(delta) << 1 | 1);
+            } else {
+                writer.writeVarLong((long) componentLength << 1);
+                writer.write(bytes, data, componentLength);
+            }
+
+            position = data + componentLength;
+        }
+    }
+
+    // Whether the component is a timestamp that is stored as the delta to the base. The zigzag
+    // delta is shifted for the flag, so it has to fit in 63 bits.
+    private static boolean isTimestampDelta(byte[] bytes, int componentPosition, long base,
+                                            byte propertyIdentifier) {
+        if (getLength(bytes, componentPosition) != TIMESTAMP_LENGTH ||
+                isTimestamp(propertyIdentifier, bytes[componentPosition]) == false) return false;
+
+        long delta = Property.getLong(bytes, componentPosition + COMPONENT_HEADER_LENGTH,
+                TIMESTAMP_LENGTH) - base;
+        return zigZag(delta) >>> 63 == 0;
+    }
+
+    private static boolean isTimestamp(byte propertyIdentifier, byte componentIdentifier) {
+        return componentIdentifier == TIMESTAMP_COMPONENT_IDENTIFIER ||
+                (propertyIdentifier == Command.TIMESTAMP_IDENTIFIER &&
+                        componentIdentifier == VALUE_COMPONENT_IDENTIFIER);
+    }
+
+    /*
+     * Decodes a record to Auto API bytes. If there is a filter, only the properties with the
+     * filter identifier are decoded, and the tail is skipped. The record is read twice, to get
+     * the length and then to write the bytes.
+     */
+    private static byte[] decodeRecord(Reader reader, @Nullable Byte filter) {
+        int recordStart = reader.position;
+        int length = decodeRecord(reader, filter, (byte[]) null);
+        reader.position = recordStart;
+        byte[] bytes = new byte[length];
+        decodeRecord(reader, filter, bytes);
+        return bytes;
+    }
+
+    // returns the decoded length. Writes the bytes if the destination is not null.
+    private static int decodeRecord(Reader reader, @Nullable Byte filter,
+                                    @Nullable byte[] destination) {
+        Writer writer = new Writer(destination);
+        reader.copy(HEADER_LENGTH, writer);
+        long base = unZigZag(reader.readVarLong());
+        long propertyCount = reader.readVarLong();
+
+        for (long i = 0; i < propertyCount; i++) {
+            byte propertyIdentifier = reader.read();
+            long sizeAndFlag = reader.readVarLong();
+            int size = reader.checkRemaining(sizeAndFlag >>> 1);
+            int propertyEnd = reader.position + size;
+
+            if (filter != null && filter != propertyIdentifier) {
+                reader.position = propertyEnd;
+                continue;
+            }
+
+            writer.write(propertyIdentifier);
+            int lengthPosition = writer.position;
+            writer.position += 2;
+
+            if ((sizeAndFlag & 1) == 1) {
+                reader.copy(size, writer);
+            } else {
+                while (reader.position < propertyEnd) {
+                    writer.write(reader.read());
+                    long lengthAndFlag = reader.readVarLong();
+
+                    if ((lengthAndFlag & 1) == 1) {
+                        writer.writeShort(TIMESTAMP_LENGTH);
+                        writer.writeLong(base + unZigZag(lengthAndFlag >>> 1));
+                    } else {
+                        int componentLength = checkLength(lengthAndFlag >>> 1);
+                        writer.writeShort(componentLength);
+                        reader.copy(componentLength, writer);
+                    }
+                }
+
+                if (reader.position != propertyEnd)
+                    throw new IllegalArgumentException("Invalid property size");
+            }
+
+            writer.writeShort(lengthPosition, checkLength(writer.position - lengthPosition - 2));
+        }
+
+        if (filter == null) reader.copy(reader.checkRemaining(reader.readVarLong()), writer);
+
+        return writer.position;
+    }
+
+    private static int checkLength(long length) {
+        if (length > 0xFFFF) throw new IllegalArgumentException("Invalid length");
+        return (int) length;
+    }
+
+    private static int getLength(byte[] bytes, int identifierPosition) {
+        return ((bytes[identifierPosition + 1] & 0xFF) << 8) | (bytes[identifierPosition + 2] & 0xFF);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int getVarLongLength(long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    // reads a record with absolute gets, so the buffer can be shared
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte read() {
+            if (position >= buffer.limit()) throw new IllegalArgumentException("Invalid record");
+            return buffer.get(position++);
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("Invalid varint");
+        }
+
+        // the length, if the record has as many bytes left
+        int checkRemaining(long length) {
+            if (length < 0 || length > buffer.limit() - position)
+                throw new IllegalArgumentException("Invalid record");
+            return (int) length;
+        }
+
+        void copy(int length, Writer writer) {
+            if (position + length > buffer.limit()) throw new IllegalArgumentException("Invalid record");
+            if (writer.bytes != null) {
+                for (int i = 0; i < length; i++) {
+                    writer.bytes[writer.position + i] = buffer.get(position + i);
+                }
+            }
+            position += length;
+            writer.position += length;
+        }
+    }
+
+    // writes to the bytes, or only counts the length if there are no bytes
+    private static final class Writer {
+        private final byte[] bytes;
+        private int position;
+
+        Writer(@Nullable byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        void write(byte value) {
+            if (bytes != null) bytes[position] = value;
+            position++;
+        }
+
+        void write(byte[] source, int at, int length) {
+            if (bytes != null) System.arraycopy(source, at, bytes, position, length);
+            position += length;
+        }
+
+        void writeShort(int value) {
+            writeShort(position, value);
+            position += 2;
+        }
+
+        void writeShort(int at, int value) {
+            if (bytes == null) return;
+            bytes[at] = (byte) (value >> 8);
+            bytes[at + 1] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            if (bytes != null) Property.writeLong(bytes, position, value);
+            position += 8;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((byte) value);
+        }
+    }
+}
@@ -253,6 +253,18 @@ public class Tachograph {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            vehicleMotion.reset();
+            vehicleOverspeed.reset();
+            vehicleDirection.reset();
+            vehicleSpeed.reset();
     
             final ArrayList<Property<DriverWorkingState>> driversWorkingStatesBuilder = new ArrayList<>();
             final ArrayList<Property<DriverTimeState>> driversTimeStatesBuilder = new ArrayList<>();
@@ -447,17 +459,25 @@ public class Tachograph {
         NO_OVERSPEED((byte) 0x00),
         OVERSPEED((byte) 0x01);
     
-        public static VehicleOverspeed fromByte(byte byteValue) throws CommandParseException {
-            VehicleOverspeed[] values = VehicleOverspeed.values();
+        private static final VehicleOverspeed[] byByte = new VehicleOverspeed[256];
     
-            for (int i = 0; i < values.length; i++) {
-                VehicleOverspeed state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (VehicleOverspeed state : VehicleOverspeed.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static VehicleOverspeed fromByte(byte byteValue) throws CommandParseException {
+            VehicleOverspeed state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Tachograph.VehicleOverspeed does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Tachograph.VehicleOverspeed does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static VehicleOverspeed fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -475,17 +495,25 @@ public class Tachograph {
         FORWARD((byte) 0x00),
         REVERSE((byte) 0x01);
     
-        public static VehicleDirection fromByte(byte byteValue) throws CommandParseException {
-            VehicleDirection[] values = VehicleDirection.values();
+        private static final VehicleDirection[] byByte = new VehicleDirection[256];
     
-            for (int i = 0; i < values.length; i++) {
-                VehicleDirection state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (VehicleDirection state : VehicleDirection.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static VehicleDirection fromByte(byte byteValue) throws CommandParseException {
+            VehicleDirection state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Tachograph.VehicleDirection does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Tachograph.VehicleDirection does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static VehicleDirection fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -29,6 +29,8 @@ import com.highmobility.autoapi.value.ActiveSelectedState;
 import com.highmobility.value.Bytes;
 import java.util.Calendar;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -240,6 +242,22 @@ public class TheftAlarm {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            status.reset();
+            interiorProtectionStatus.reset();
+            towProtectionStatus.reset();
+            lastWarningReason.reset();
+            lastEvent.reset();
+            lastEventLevel.reset();
+            eventType.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -363,17 +381,25 @@ public class TheftAlarm {
         ARMED((byte) 0x01),
         TRIGGERED((byte) 0x02);
     
-        public static Status fromByte(byte byteValue) throws CommandParseException {
-            Status[] values = Status.values();
+        private static final Status[] byByte = new Status[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Status state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Status state : Status.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("TheftAlarm.Status does not contain: " + hexFromByte(byteValue));
+        public static Status fromByte(byte byteValue) throws CommandParseException {
+            Status state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("TheftAlarm.Status does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Status fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -410,17 +436,25 @@ public class TheftAlarm {
         REMOTE((byte) 0x13),
         UNKNOWN((byte) 0x14);
     
-        public static LastWarningReason fromByte(byte byteValue) throws CommandParseException {
-            LastWarningReason[] values = LastWarningReason.values();
+        private static final LastWarningReason[] byByte = new LastWarningReason[256];
     
-            for (int i = 0; i < values.length; i++) {
-                LastWarningReason state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (LastWarningReason state : LastWarningReason.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static LastWarningReason fromByte(byte byteValue) throws CommandParseException {
+            LastWarningReason state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("TheftAlarm.LastWarningReason does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("TheftAlarm.LastWarningReason does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static LastWarningReason fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -439,17 +473,25 @@ public class TheftAlarm {
         MEDIUM((byte) 0x01),
         HIGH((byte) 0x02);
     
-        public static LastEventLevel fromByte(byte byteValue) throws CommandParseException {
-            LastEventLevel[] values = LastEventLevel.values();
+        private static final LastEventLevel[] byByte = new LastEventLevel[256];
     
-            for (int i = 0; i < values.length; i++) {
-                LastEventLevel state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (LastEventLevel state : LastEventLevel.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("TheftAlarm.LastEventLevel does not contain: " + hexFromByte(byteValue));
+        public static LastEventLevel fromByte(byte byteValue) throws CommandParseException {
+            LastEventLevel state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("TheftAlarm.LastEventLevel does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static LastEventLevel fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -475,17 +517,25 @@ public class TheftAlarm {
         LEFT((byte) 0x08),
         UNKNOWN((byte) 0x09);
     
-        public static EventType fromByte(byte byteValue) throws CommandParseException {
-            EventType[] values = EventType.values();
+        private static final EventType[] byByte = new EventType[256];
     
-            for (int i = 0; i < values.length; i++) {
-                EventType state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (EventType state : EventType.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("TheftAlarm.EventType does not contain: " + hexFromByte(byteValue));
+        public static EventType fromByte(byte byteValue) throws CommandParseException {
+            EventType state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("TheftAlarm.EventType does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static EventType fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -33,6 +33,8 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -184,6 +186,27 @@ public class Trips {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            type.reset();
+            driverName.reset();
+            description.reset();
+            startTime.reset();
+            endTime.reset();
+            startAddress.reset();
+            endAddress.reset();
+            startCoordinates.reset();
+            endCoordinates.reset();
+            startOdometer.reset();
+            endOdometer.reset();
+            averageFuelConsumption.reset();
+            distance.reset();
     
             final ArrayList<Property<AddressComponent>> startAddressComponentsBuilder = new ArrayList<>();
             final ArrayList<Property<AddressComponent>> endAddressComponentsBuilder = new ArrayList<>();
@@ -458,17 +481,25 @@ public class Trips {
         SINGLE((byte) 0x00),
         MULTI((byte) 0x01);
     
-        public static Type fromByte(byte byteValue) throws CommandParseException {
-            Type[] values = Type.values();
+        private static final Type[] byByte = new Type[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Type state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Type state : Type.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Trips.Type does not contain: " + hexFromByte(byteValue));
+        public static Type fromByte(byte byteValue) throws CommandParseException {
+            Type state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Trips.Type does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Type fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -531,6 +531,51 @@ public class Usage {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            averageWeeklyDistance.reset();
+            averageWeeklyDistanceLongRun.reset();
+            accelerationEvaluation.reset();
+            drivingStyleEvaluation.reset();
+            lastTripEnergyConsumption.reset();
+            lastTripFuelConsumption.reset();
+            mileageAfterLastTrip.reset();
+            lastTripElectricPortion.reset();
+            lastTripAverageEnergyRecuperation.reset();
+            lastTripBatteryRemaining.reset();
+            lastTripDate.reset();
+            averageFuelConsumption.reset();
+            currentFuelConsumption.reset();
+            odometerAfterLastTrip.reset();
+            safetyDrivingScore.reset();
+            rapidAccelerationGrade.reset();
+            rapidDecelerationGrade.reset();
+            lateNightGrade.reset();
+            distanceOverTime.reset();
+            electricConsumptionRateSinceStart.reset();
+            electricConsumptionRateSinceReset.reset();
+            electricDistanceLastTrip.reset();
+            electricDistanceSinceReset.reset();
+            electricDurationLastTrip.reset();
+            electricDurationSinceReset.reset();
+            fuelConsumptionRateLastTrip.reset();
+            fuelConsumptionRateSinceReset.reset();
+            averageSpeedLastTrip.reset();
+            averageSpeedSinceReset.reset();
+            fuelDistanceLastTrip.reset();
+            fuelDistanceSinceReset.reset();
+            drivingDurationLastTrip.reset();
+            drivingDurationSinceReset.reset();
+            ecoScoreTotal.reset();
+            ecoScoreFreeWheel.reset();
+            ecoScoreConstant.reset();
+            ecoScoreBonusRange.reset();
     
             final ArrayList<Property<DrivingModeActivationPeriod>> drivingModesActivationPeriodsBuilder = new ArrayList<>();
             final ArrayList<Property<DrivingModeEnergyConsumption>> drivingModesEnergyConsumptionsBuilder = new ArrayList<>();
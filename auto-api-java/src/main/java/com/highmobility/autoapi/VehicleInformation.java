@@ -33,6 +33,8 @@ import com.highmobility.value.Bytes;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -291,6 +293,33 @@ public class VehicleInformation {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            powertrain.reset();
+            modelName.reset();
+            name.reset();
+            licensePlate.reset();
+            salesDesignation.reset();
+            modelYear.reset();
+            colourName.reset();
+            powerInKW.reset();
+            numberOfDoors.reset();
+            numberOfSeats.reset();
+            engineVolume.reset();
+            engineMaxTorque.reset();
+            gearbox.reset();
+            displayUnit.reset();
+            driverSeatLocation.reset();
+            power.reset();
+            language.reset();
+            timeformat.reset();
+            drive.reset();
     
             final ArrayList<Property<String>> equipmentsBuilder = new ArrayList<>();
     
@@ -614,17 +643,25 @@ public class VehicleInformation {
         HYDROGEN((byte) 0x04),
         HYDROGEN_HYBRID((byte) 0x05);
     
-        public static Powertrain fromByte(byte byteValue) throws CommandParseException {
-            Powertrain[] values = Powertrain.values();
+        private static final Powertrain[] byByte = new Powertrain[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Powertrain state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Powertrain state : Powertrain.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static Powertrain fromByte(byte byteValue) throws CommandParseException {
+            Powertrain state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("VehicleInformation.Powertrain does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("VehicleInformation.Powertrain does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Powertrain fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -643,17 +680,25 @@ public class VehicleInformation {
         AUTOMATIC((byte) 0x01),
         SEMI_AUTOMATIC((byte) 0x02);
     
-        public static Gearbox fromByte(byte byteValue) throws CommandParseException {
-            Gearbox[] values = Gearbox.values();
+        private static final Gearbox[] byByte = new Gearbox[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Gearbox state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Gearbox state : Gearbox.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("VehicleInformation.Gearbox does not contain: " + hexFromByte(byteValue));
+        public static Gearbox fromByte(byte byteValue) throws CommandParseException {
+            Gearbox state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("VehicleInformation.Gearbox does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Gearbox fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -671,17 +716,25 @@ public class VehicleInformation {
         KM((byte) 0x00),
         MILES((byte) 0x01);
     
-        public static DisplayUnit fromByte(byte byteValue) throws CommandParseException {
-            DisplayUnit[] values = DisplayUnit.values();
+        private static final DisplayUnit[] byByte = new DisplayUnit[256];
     
-            for (int i = 0; i < values.length; i++) {
-                DisplayUnit state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (DisplayUnit state : DisplayUnit.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("VehicleInformation.DisplayUnit does not contain: " + hexFromByte(byteValue));
+        public static DisplayUnit fromByte(byte byteValue) throws CommandParseException {
+            DisplayUnit state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("VehicleInformation.DisplayUnit does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static DisplayUnit fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -700,17 +753,25 @@ public class VehicleInformation {
         RIGHT((byte) 0x01),
         CENTER((byte) 0x02);
     
-        public static DriverSeatLocation fromByte(byte byteValue) throws CommandParseException {
-            DriverSeatLocation[] values = DriverSeatLocation.values();
+        private static final DriverSeatLocation[] byByte = new DriverSeatLocation[256];
     
-            for (int i = 0; i < values.length; i++) {
-                DriverSeatLocation state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (DriverSeatLocation state : DriverSeatLocation.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static DriverSeatLocation fromByte(byte byteValue) throws CommandParseException {
+            DriverSeatLocation state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("VehicleInformation.DriverSeatLocation does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("VehicleInformation.DriverSeatLocation does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static DriverSeatLocation fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -728,17 +789,25 @@ public class VehicleInformation {
         TWELVE_H((byte) 0x00),
         TWENTY_FOUR_H((byte) 0x01);
     
-        public static Timeformat fromByte(byte byteValue) throws CommandParseException {
-            Timeformat[] values = Timeformat.values();
+        private static final Timeformat[] byByte = new Timeformat[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Timeformat state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Timeformat state : Timeformat.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("VehicleInformation.Timeformat does not contain: " + hexFromByte(byteValue));
+        public static Timeformat fromByte(byte byteValue) throws CommandParseException {
+            Timeformat state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("VehicleInformation.Timeformat does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Timeformat fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -770,17 +839,25 @@ public class VehicleInformation {
          */
         AWD((byte) 0x03);
     
-        public static Drive fromByte(byte byteValue) throws CommandParseException {
-            Drive[] values = Drive.values();
+        private static final Drive[] byByte = new Drive[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Drive state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Drive state : Drive.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static Drive fromByte(byte byteValue) throws CommandParseException {
+            Drive state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("VehicleInformation.Drive does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("VehicleInformation.Drive does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Drive fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -0,0 +1,299 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.autoapi.property.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * The latest properties of vehicles, merged from the received states. States are added with
+ * {@link #update(Command)} and merged property by property into the vehicle's snapshot, so a
+ * partial state only replaces the properties it contains.
+ * <p>
+ * A property replaces the stored one unless the stored property is newer. The property timestamp
+ * component is used, or the command timestamp if the property has no timestamp. A property
+ * without either timestamp does not replace a property with a timestamp. Properties without a
+ * value, eg with only a failure component, are not stored, so the last known value is kept.
+ * <p>
+ * Properties that are repeated in a state, like the door positions, are stored together and
+ * replaced as a group. The newest timestamp of the group decides whether it replaces the stored
+ * group, so the result doesn't depend on the order of the properties in the state.
+ * <p>
+ * The states in {@link VehicleStatus}, {@link MultiCommand} and {@link Historical} commands are
+ * merged with the VIN of the containing command.
+ * <p>
+ * The store keeps references to the stored properties. The states should not be reparsed after
+ * they are added, eg they should not come from {@link ReusingCommandResolver}. The store is thread
+ * safe.
+ */
+public class VehicleStateStore {
+    private static final Property[] NO_PROPERTIES = new Property[0];
+
+    private final ConcurrentHashMap<String, VehicleState> vehicles = new ConcurrentHashMap<>();
+
+    /**
+     * Merge a state into the snapshot of the state's VIN.
+     *
+     * @param command The state.
+     * @return The number of stored properties.
+     * @throws IllegalArgumentException when the command has no VIN.
+     */
+    public int update(Command command) {
+        String vin = command.getVin();
+        if (vin == null) throw new IllegalArgumentException("The command has no VIN");
+        return update(vin, command);
+    }
+
+    /**
+     * Merge a state into the snapshot of the VIN.
+     *
+     * @param vin     The VIN.
+     * @param command The state.
+     * @return The number of stored properties.
+     */
+    public int update(String vin, Command command) {
+        if (command.getCommandType() != Type.SET) return 0;
+        VehicleState state = vehicles.computeIfAbsent(vin, v -> new VehicleState());
+        return state.update(command, Property.NO_TIMESTAMP);
+    }
+
+    /**
+     * @param vin                The VIN.
+     * @param identifier         The capability identifier.
+     * @param propertyIdentifier The property identifier.
+     * @return The latest property, or null if there is none. The first one, if the property is
+     * repeated.
+     */
+    @Nullable public Property getProperty(String vin, int identifier, byte propertyIdentifier) {
+        VehicleState state = vehicles.get(vin);
+        if (state == null) return null;
+        Property[] properties = state.get(getKey(identifier, propertyIdentifier));
+        return properties == null ? null : properties[0];
+    }
+
+    /**
+     * @param vin                The VIN.
+     * @param identifier         The capability identifier.
+     * @param propertyIdentifier The property identifier.
+     * @return The latest properties with the identifier, or an empty array if there are none.
+     */
+    public Property[] getProperties(String vin, int identifier, byte propertyIdentifier) {
+        VehicleState state = vehicles.get(vin);
+        if (state == null) return NO_PROPERTIES;
+        Property[] properties = state.get(getKey(identifier, propertyIdentifier));
+        return properties == null ? NO_PROPERTIES : properties.clone();
+    }
+
+    /**
+     * @param vin        The VIN.
+     * @param identifier The capability identifier.
+     * @return The latest properties of the capability.
+     */
+    public List<Property> getProperties(String vin, int identifier) {
+        VehicleState state = vehicles.get(vin);
+        if (state == null) return new ArrayList<>();
+        return state.getCapability(identifier & 0xFFFF);
+    }
+
+    /**
+     * @return The VINs in the store.
+     */
+    public Set<String> getVins() {
+        return vehicles.keySet();
+    }
+
+    /**
+     * Remove the snapshot of a vehicle.
+     *
+     * @param vin The VIN.
+     */
+    public void remove(String vin) {
+        vehicles.remove(vin);
+    }
+
+    /**
+     * Remove all of the snapshots.
+     */
+    public void clear() {
+        vehicles.clear();
+    }
+
+    // the capability and property identifiers fit in 24 bits
+    static int getKey(int identifier, byte propertyIdentifier) {
+        return ((identifier & 0xFFFF) << 8) | (propertyIdentifier & 0xFF);
+    }
+
+    /**
+     * The properties of one vehicle, in an open addressing table keyed by {@link #getKey(int,
+     * byte)}.
+     */
+    static final class VehicleState {
+        private static final int EMPTY = -1;
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] keys;
+        private Property[][] values;
+        private long[] timestamps;
+        private int size;
+
+        VehicleState() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        synchronized int update(Command command, long commandTimestamp) {
+            if (command.getTimestampMillis() != Property.NO_TIMESTAMP)
+                commandTimestamp = command.getTimestampMillis();
+
+            int identifier = command.getIdentifier();
+            Property[] properties = command.getProperties();
+            // the key and the property index, sorted so the repeated properties are next to each
+            // other in the order of the state
+            long[] sorted = new long[properties.length];
+            int count = 0;
+
+            for (int i = 0; i < properties.length; i++) {
+                Property property = properties[i];
+                if (property.isUniversalProperty() || property.getValueComponent() == null ||
+                        CommandScanner.isStatesProperty(identifier,
+                                property.getPropertyIdentifier())) continue;
+
+                int key = getKey(identifier, property.getPropertyIdentifier());
+                sorted[count++] = (long) key << 32 | i;
+            }
+
+            Arrays.sort(sorted, 0, count);
+            int stored = 0;
+
+            for (int start = 0, end; start < count; start = end) {
+                int key = (int) (sorted[start] >>> 32);
+                end = start + 1;
+                while (end < count && (int) (sorted[end] >>> 32) == key) end++;
+
+                Property[] group = new Property[end - start];
+                long timestamp = Property.NO_TIMESTAMP;
+
+                for (int i = start; i < end; i++) {
+                    Property property = properties[(int) sorted[i]];
+                    group[i - start] = property;
+
+                    long propertyTimestamp = property.getTimestampMillis();
+                    if (propertyTimestamp == Property.NO_TIMESTAMP)
+                        propertyTimestamp = commandTimestamp;
+                    timestamp = Math.max(timestamp, propertyTimestamp);
+                }
+
+                if (put(key, group, timestamp)) stored += group.length;
+            }
+
+            List<Property<Command>> states = getStates(command);
+            if (states != null) {
+                for (Property<Command> state : states) {
+                    Command nested = state.getValue();
+                    if (nested != null && nested.getCommandType() == Type.SET)
+                        stored += update(nested, commandTimestamp);
+                }
+            }
+
+            return stored;
+        }
+
+        synchronized Property[] get(int key) {
+            int index = indexOf(key);
+            return keys[index] == EMPTY ? null : values[index];
+        }
+
+        synchronized List<Property> getCapability(int identifier) {
+            ArrayList<Property> properties = new ArrayList<>();
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && keys[i] >>> 8 == identifier)
+                    properties.addAll(Arrays.asList(values[i]));
+            }
+            return properties;
+        }
+
+        // store the properties with the key, unless the stored ones are newer
+        private boolean put(int key, Property[] properties, long timestamp) {
+            int index = indexOf(key);
+
+            if (keys[index] == EMPTY) {
+                keys[index] = key;
+                values[index] = properties;
+                timestamps[index] = timestamp;
+                if (++size * 2 > keys.length) allocate(keys.length * 2);
+                return true;
+            }
+
+            if (timestamps[index] > timestamp) return false;
+
+            values[index] = properties;
+            timestamps[index] = timestamp;
+            return true;
+        }
+
+        private int indexOf(int key) {
+            int mask = keys.length - 1;
+            int index = (key * 0x9E3779B9 >>> 16) & mask;
+            while (keys[index] != EMPTY && keys[index] != key) index = (index + 1) & mask;
+            return index;
+        }
+
+        private void allocate(int capacity) {
+            int[] oldKeys = keys;
+            Property[][] oldValues = values;
+            long[] oldTimestamps = timestamps;
+
+            keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new Property[capacity][];
+            timestamps = new long[capacity];
+
+            if (oldKeys == null) return;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) continue;
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                timestamps[index] = oldTimestamps[i];
+            }
+        }
+
+        @Nullable private static List<Property<Command>> getStates(Command command) {
+            if (command instanceof VehicleStatus.State)
+                return ((VehicleStatus.State) command).getStates();
+            if (command instanceof MultiCommand.State)
+                return ((MultiCommand.State) command).getMultiStates();
+            if (command instanceof Historical.State)
+                return ((Historical.State) command).getStates();
+            return null;
+        }
+    }
+}
@@ -107,17 +107,25 @@ public class VideoHandover {
         FRONT((byte) 0x00),
         REAR((byte) 0x01);
     
-        public static Screen fromByte(byte byteValue) throws CommandParseException {
-            Screen[] values = Screen.values();
+        private static final Screen[] byByte = new Screen[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Screen state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Screen state : Screen.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static Screen fromByte(byte byteValue) throws CommandParseException {
+            Screen state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("VideoHandover.Screen does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("VideoHandover.Screen does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Screen fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
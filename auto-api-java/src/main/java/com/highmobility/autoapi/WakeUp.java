@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.autoapi.property.Property;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 /**
@@ -44,6 +46,8 @@ public class WakeUp {
      * Wake up command
      */
     public static class WakeUpCommand extends SetCommand {
+        static final byte[] STATUS_VALUE = new byte[]{(byte) 0x00};
+    
         Property<Status> status = new Property<>(Status.class, PROPERTY_STATUS);
     
         /**
@@ -52,7 +56,7 @@ public class WakeUp {
         public WakeUpCommand() {
             super(IDENTIFIER);
         
-            addProperty(status.addValueComponent(new Bytes("00")));
+            addProperty(status.addValueComponent(new Bytes(STATUS_VALUE)));
             createBytes();
         }
     
@@ -64,7 +68,7 @@ public class WakeUp {
                     return null;
                 });
             }
-            if ((status.getValue() == null || status.getValueComponent().getValueBytes().equals("00") == false)) 
+            if ((status.getValue() == null || status.getValueComponent().valueEquals(STATUS_VALUE) == false)) 
                 throw new NoPropertiesException();
         }
     }
@@ -73,17 +77,25 @@ public class WakeUp {
         WAKE_UP((byte) 0x00),
         SLEEP((byte) 0x01);
     
-        public static Status fromByte(byte byteValue) throws CommandParseException {
-            Status[] values = Status.values();
+        private static final Status[] byByte = new Status[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Status state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Status state : Status.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("WakeUp.Status does not contain: " + hexFromByte(byteValue));
+        public static Status fromByte(byte byteValue) throws CommandParseException {
+            Status state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("WakeUp.Status does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Status fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
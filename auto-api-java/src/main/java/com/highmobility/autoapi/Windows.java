@@ -265,7 +265,14 @@ public class Windows {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
     
+        @Override void parseProperties() {
             final ArrayList<Property<WindowOpenPercentage>> openPercentagesBuilder = new ArrayList<>();
             final ArrayList<Property<WindowPosition>> positionsBuilder = new ArrayList<>();
     
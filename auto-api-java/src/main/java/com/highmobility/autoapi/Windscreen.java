@@ -352,6 +352,23 @@ public class Windscreen {
     
         State(byte[] bytes) throws CommandParseException {
             super(bytes);
+            parseProperties();
+        }
+    
+        @Override public boolean canReparse() {
+            return true;
+        }
+    
+        @Override void parseProperties() {
+            wipersStatus.reset();
+            wipersIntensity.reset();
+            windscreenDamage.reset();
+            windscreenZoneMatrix.reset();
+            windscreenDamageZone.reset();
+            windscreenNeedsReplacement.reset();
+            windscreenDamageConfidence.reset();
+            windscreenDamageDetectionTime.reset();
+    
             while (propertyIterator.hasNext()) {
                 propertyIterator.parseNext(p -> {
                     switch (p.getPropertyIdentifier()) {
@@ -488,17 +505,25 @@ public class Windscreen {
         ACTIVE((byte) 0x01),
         AUTOMATIC((byte) 0x02);
     
-        public static WipersStatus fromByte(byte byteValue) throws CommandParseException {
-            WipersStatus[] values = WipersStatus.values();
+        private static final WipersStatus[] byByte = new WipersStatus[256];
     
-            for (int i = 0; i < values.length; i++) {
-                WipersStatus state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (WipersStatus state : WipersStatus.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Windscreen.WipersStatus does not contain: " + hexFromByte(byteValue));
+        public static WipersStatus fromByte(byte byteValue) throws CommandParseException {
+            WipersStatus state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Windscreen.WipersStatus does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static WipersStatus fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -518,17 +543,25 @@ public class Windscreen {
         LEVEL_2((byte) 0x02),
         LEVEL_3((byte) 0x03);
     
-        public static WipersIntensity fromByte(byte byteValue) throws CommandParseException {
-            WipersIntensity[] values = WipersIntensity.values();
+        private static final WipersIntensity[] byByte = new WipersIntensity[256];
     
-            for (int i = 0; i < values.length; i++) {
-                WipersIntensity state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (WipersIntensity state : WipersIntensity.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Windscreen.WipersIntensity does not contain: " + hexFromByte(byteValue));
+        public static WipersIntensity fromByte(byte byteValue) throws CommandParseException {
+            WipersIntensity state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Windscreen.WipersIntensity does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static WipersIntensity fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -548,17 +581,25 @@ public class Windscreen {
         DAMAGE_SMALLER_THAN_1_INCH((byte) 0x02),
         DAMAGE_LARGER_THAN_1_INCH((byte) 0x03);
     
-        public static WindscreenDamage fromByte(byte byteValue) throws CommandParseException {
-            WindscreenDamage[] values = WindscreenDamage.values();
+        private static final WindscreenDamage[] byByte = new WindscreenDamage[256];
     
-            for (int i = 0; i < values.length; i++) {
-                WindscreenDamage state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (WindscreenDamage state : WindscreenDamage.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Windscreen.WindscreenDamage does not contain: " + hexFromByte(byteValue));
+        public static WindscreenDamage fromByte(byte byteValue) throws CommandParseException {
+            WindscreenDamage state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Windscreen.WindscreenDamage does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static WindscreenDamage fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -577,17 +618,25 @@ public class Windscreen {
         NO_REPLACEMENT_NEEDED((byte) 0x01),
         REPLACEMENT_NEEDED((byte) 0x02);
     
-        public static WindscreenNeedsReplacement fromByte(byte byteValue) throws CommandParseException {
-            WindscreenNeedsReplacement[] values = WindscreenNeedsReplacement.values();
+        private static final WindscreenNeedsReplacement[] byByte = new WindscreenNeedsReplacement[256];
     
-            for (int i = 0; i < values.length; i++) {
-                WindscreenNeedsReplacement state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (WindscreenNeedsReplacement state : WindscreenNeedsReplacement.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Windscreen.WindscreenNeedsReplacement does not contain: " + hexFromByte(byteValue));
+        public static WindscreenNeedsReplacement fromByte(byte byteValue) throws CommandParseException {
+            WindscreenNeedsReplacement state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Windscreen.WindscreenNeedsReplacement does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static WindscreenNeedsReplacement fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
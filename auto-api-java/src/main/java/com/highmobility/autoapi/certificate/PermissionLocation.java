@@ -23,19 +23,96 @@
  */
 package com.highmobility.autoapi.certificate;
 
+import com.highmobility.autoapi.Command;
 import com.highmobility.autoapi.Identifier;
 import com.highmobility.value.BitLocation;
 
+import javax.annotation.Nullable;
+
 /**
  * Used to get the Auto API bit locations for the Access Certificate permissions field in crypto
  * package.
+ * <p>
+ * The locations are created once and shared, so they should not be modified.
  */
 public class PermissionLocation {
+    // all of the capability identifiers are in the lower byte
+    private static final int IDENTIFIER_COUNT = 0x100;
+    private static final Type[] TYPES = Type.values();
+
+    private static final BitLocation RESET_LOCATION = new BitLocation(1, 2);
+    private static final BitLocation HEAD_UNIT_READ_LOCATION = new BitLocation(6, 7);
+    private static final BitLocation HEAD_UNIT_WRITE_LOCATION = new BitLocation(4, 7);
+
+    // indexed by identifier * TYPES.length + type. The byte index and bit mask are used for the
+    // permission checks, with a 0 mask for no location.
+    private static final BitLocation[] locations = new BitLocation[IDENTIFIER_COUNT * TYPES.length];
+    private static final byte[] byteIndexes = new byte[IDENTIFIER_COUNT * TYPES.length];
+    private static final byte[] bitMasks = new byte[IDENTIFIER_COUNT * TYPES.length];
+
+    static {
+        for (int identifier = 0; identifier < IDENTIFIER_COUNT; identifier++) {
+            for (Type type : TYPES) {
+                int index = identifier * TYPES.length + type.ordinal();
+                BitLocation location = createLocation(identifier, type);
+                if (location == null) continue;
+
+                locations[index] = location;
+                byteIndexes[index] = (byte) location.getByteLocation();
+                bitMasks[index] = (byte) (1 << location.getBitLocation());
+            }
+        }
+    }
+
     public static BitLocation allowCarSdkResetLocation() {
-        return new BitLocation(1, 2);
+        return RESET_LOCATION;
+    }
+
+    /**
+     * @param identifier The capability identifier.
+     * @param type       The permission type.
+     * @return The location of the permission bit, or null if the capability does not have the
+     * permission.
+     */
+    @Nullable public static BitLocation locationFor(Integer identifier, Type type) {
+        if (identifier < 0 || identifier >= IDENTIFIER_COUNT) return null;
+        if (type == null) return createLocation(identifier, null);
+        return locations[identifier * TYPES.length + type.ordinal()];
+    }
+
+    /**
+     * Check a permission in the Access Certificate permissions, without allocating.
+     *
+     * @param permissions The permissions bytes.
+     * @param identifier  The capability identifier.
+     * @param type        The permission type.
+     * @return Whether the permission bit is set. False if the capability does not have the
+     * permission.
+     */
+    public static boolean isAllowed(byte[] permissions, int identifier, Type type) {
+        if (identifier < 0 || identifier >= IDENTIFIER_COUNT) return false;
+
+        int index = identifier * TYPES.length + type.ordinal();
+        int byteIndex = byteIndexes[index];
+        return bitMasks[index] != 0 && byteIndex < permissions.length &&
+                (permissions[byteIndex] & bitMasks[index]) != 0;
+    }
+
+    /**
+     * Check whether a command sent to the vehicle is allowed by the Access Certificate permissions.
+     * Get commands need the read permission and set commands the write permission.
+     *
+     * @param permissions The permissions bytes.
+     * @param command     The command.
+     * @return Whether the command is allowed.
+     */
+    public static boolean isAllowed(byte[] permissions, Command command) {
+        Type type = command.getCommandType() == com.highmobility.autoapi.Type.SET ? Type.WRITE :
+                Type.READ;
+        return isAllowed(permissions, command.getIdentifier(), type);
     }
 
-    public static BitLocation locationFor(Integer identifier, Type type) {
+    @Nullable private static BitLocation createLocation(int identifier, Type type) {
         switch (identifier) {
             case Identifier.CAPABILITIES:
                 if (type == Type.READ) return new BitLocation(2, 0);
@@ -201,11 +278,11 @@ public class PermissionLocation {
     }
 
     public static BitLocation headUnitReadLocation() {
-        return new BitLocation(6, 7);
+        return HEAD_UNIT_READ_LOCATION;
     }
 
     public static BitLocation headUnitWriteLocation() {
-        return new BitLocation(4, 7);
+        return HEAD_UNIT_WRITE_LOCATION;
     }
 
     public enum Type {READ, WRITE, LIMITED}
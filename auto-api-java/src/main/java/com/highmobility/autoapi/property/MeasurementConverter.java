@@ -0,0 +1,278 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.property;
+
+import java.util.Arrays;
+
+/**
+ * Converts measurement values between the units of a measurement type, eg {@link
+ * com.highmobility.autoapi.value.measurement.Speed.Unit}, with conversion factors precomputed
+ * for every pair of units.
+ * <p>
+ * Most conversions are a multiplication and an addition, so arrays of values are converted in a
+ * single loop. The fuel and energy efficiency conversions between distance and volume based units
+ * are a division. The results can differ from the measurement classes' {@code convert} methods in
+ * the last digits, because the factors are combined.
+ */
+public final class MeasurementConverter {
+    private static final byte SCALE = 0;
+    private static final byte RECIPROCAL = 1;
+    private static final byte CONVERT = 2;
+
+    private static final double[] TEST_VALUES = new double[]{2, -7.25, 1234.5};
+    private static final double TOLERANCE = 1e-9;
+
+    private final Class<? extends Enum<?>> unitClass;
+    private final byte identifier;
+    private final MeasurementUnits.Converter converter;
+    private final Enum<?>[] units;
+    // the unit ordinal for the unit id, or -1
+    private final int[] indexesById = new int[256];
+
+    // indexed by from * units.length + to
+    private final byte[] kinds;
+    private final double[] factors;
+    private final double[] offsets;
+
+    MeasurementConverter(MeasurementUnits.Measurement measurement) {
+        this.unitClass = measurement.unitClass;
+        this.identifier = measurement.identifier;
+        this.converter = measurement.converter;
+        this.units = measurement.units;
+
+        Arrays.fill(indexesById, -1);
+        for (int i = 0; i < units.length; i++) {
+            indexesById[measurement.unitIds[i] & 0xFF] = i;
+        }
+
+        int count = units.length * units.length;
+        kinds = new byte[count];
+        factors = new double[count];
+        offsets = new double[count];
+
+        for (int from = 0; from < units.length; from++) {
+            for (int to = 0; to < units.length; to++) {
+                createFactors(from, to);
+            }
+        }
+    }
+
+    // Finds the factors from the measurement class' conversion. The factors are checked against
+    // the conversion, and the conversion itself is used if they do not match.
+    private void createFactors(int from, int to) {
+        int index = from * units.length + to;
+
+        if (from == to) {
+            kinds[index] = SCALE;
+            factors[index] = 1;
+            return;
+        }
+
+        double offset = convertWithClass(0, from, to);
+        double factor = convertWithClass(1, from, to) - offset;
+
+        if (matches(from, to, factor, offset, false)) {
+            kinds[index] = SCALE;
+            factors[index] = factor;
+            offsets[index] = offset;
+        } else if (matches(from, to, convertWithClass(1, from, to), 0, true)) {
+            kinds[index] = RECIPROCAL;
+            factors[index] = convertWithClass(1, from, to);
+        } else {
+            kinds[index] = CONVERT;
+        }
+    }
+
+    private boolean matches(int from, int to, double factor, double offset, boolean reciprocal) {
+        if (Double.isFinite(factor) == false || Double.isFinite(offset) == false) return false;
+
+        for (double value : TEST_VALUES) {
+            double expected = convertWithClass(value, from, to);
+            double actual = reciprocal ? factor / value : value * factor + offset;
+            if (Math.abs(expected - actual) > TOLERANCE * Math.max(1, Math.abs(expected)))
+                return false;
+        }
+
+        return true;
+    }
+
+    private double convertWithClass(double value, int from, int to) {
+        return converter.convert(value, units[from], units[to]);
+    }
+
+    /**
+     * @param unitClass The unit class, eg {@link com.highmobility.autoapi.value.measurement.Speed.Unit}.
+     * @return The converter for the unit's measurement type.
+     * @throws IllegalArgumentException when the class is not a measurement unit.
+     */
+    public static MeasurementConverter forUnit(Class<? extends Enum<?>> unitClass) {
+        MeasurementUnits.Measurement measurement = MeasurementUnits.get(unitClass);
+        if (measurement == null) throw new IllegalArgumentException("Not a measurement unit: " + unitClass);
+        return measurement.getConverter();
+    }
+
+    /**
+     * @return The measurement type identifier, the first byte of the measurement value bytes.
+     */
+    public byte getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * @param unitId The unit identifier, the second byte of the measurement value bytes.
+     * @return Whether the unit is one of the measurement type's units.
+     */
+    public boolean isUnit(byte unitId) {
+        return indexesById[unitId & 0xFF] != -1;
+    }
+
+    /**
+     * Convert a value.
+     *
+     * @param value The value.
+     * @param from  The value's unit.
+     * @param to    The unit to convert to.
+     * @return The converted value.
+     */
+    public double convert(double value, Enum<?> from, Enum<?> to) {
+        int index = getIndex(from, to);
+        return convert(value, index, from.ordinal());
+    }
+
+    /**
+     * Convert a value with the unit identifier, eg from the measurement value bytes.
+     *
+     * @param value  The value.
+     * @param unitId The value's unit identifier.
+     * @param to     The unit to convert to.
+     * @return The converted value.
+     * @throws IllegalArgumentException when the unit identifier is unknown.
+     */
+    public double convert(double value, byte unitId, Enum<?> to) {
+        checkUnit(to);
+        int from = getIndex(unitId);
+        return convert(value, from * units.length + to.ordinal(), from);
+    }
+
+    /**
+     * Convert the values in place.
+     *
+     * @param values The values.
+     * @param from   The values' unit.
+     * @param to     The unit to convert to.
+     */
+    public void convert(double[] values, Enum<?> from, Enum<?> to) {
+        convert(values, 0, values, 0, values.length, from, to);
+    }
+
+    /**
+     * Convert a range of values to the destination. The source and destination can be the same
+     * array.
+     *
+     * @param source            The values.
+     * @param sourceOffset      The position of the first value.
+     * @param destination       The array for the converted values.
+     * @param destinationOffset The position of the first converted value.
+     * @param length            The number of values.
+     * @param from              The values' unit.
+     * @param to                The unit to convert to.
+     */
+    public void convert(double[] source, int sourceOffset, double[] destination,
+                        int destinationOffset, int length, Enum<?> from, Enum<?> to) {
+        if (sourceOffset < 0 || destinationOffset < 0 || length < 0 ||
+                sourceOffset + length > source.length ||
+                destinationOffset + length > destination.length)
+            throw new IndexOutOfBoundsException();
+
+        int index = getIndex(from, to);
+        double factor = factors[index];
+
+        switch (kinds[index]) {
+            case SCALE:
+                double offset = offsets[index];
+                for (int i = 0; i < length; i++) {
+                    destination[destinationOffset + i] = source[sourceOffset + i] * factor + offset;
+                }
+                break;
+            case RECIPROCAL:
+                for (int i = 0; i < length; i++) {
+                    destination[destinationOffset + i] = factor / source[sourceOffset + i];
+                }
+                break;
+            default:
+                for (int i = 0; i < length; i++) {
+                    destination[destinationOffset + i] =
+                            converter.convert(source[sourceOffset + i], from, to);
+                }
+        }
+    }
+
+    /**
+     * Convert values that have different units in place, eg from the unit bytes of the received
+     * measurements.
+     *
+     * @param values  The values.
+     * @param unitIds The unit identifier of each value, eg {@link
+     *                com.highmobility.autoapi.value.measurement.Speed.Unit#getId()}.
+     * @param to      The unit to convert to.
+     * @throws IllegalArgumentException when a unit identifier is unknown.
+     */
+    public void convert(double[] values, byte[] unitIds, Enum<?> to) {
+        if (unitIds.length < values.length) throw new IndexOutOfBoundsException();
+        checkUnit(to);
+
+        for (int i = 0; i < values.length; i++) {
+            int from = getIndex(unitIds[i]);
+            values[i] = convert(values[i], from * units.length + to.ordinal(), from);
+        }
+    }
+
+    private double convert(double value, int index, int from) {
+        switch (kinds[index]) {
+            case SCALE:
+                return value * factors[index] + offsets[index];
+            case RECIPROCAL:
+                return factors[index] / value;
+            default:
+                return converter.convert(value, units[from], units[index % units.length]);
+        }
+    }
+
+    private int getIndex(Enum<?> from, Enum<?> to) {
+        checkUnit(from);
+        checkUnit(to);
+        return from.ordinal() * units.length + to.ordinal();
+    }
+
+    private int getIndex(byte unitId) {
+        int index = indexesById[unitId & 0xFF];
+        if (index == -1) throw new IllegalArgumentException("Unknown unit " + unitId);
+        return index;
+    }
+
+    private void checkUnit(Enum<?> unit) {
+        if (unit.getDeclaringClass() != unitClass)
+            throw new IllegalArgumentException("Not a " + unitClass.getName() + ": " + unit);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.property;
+
+import com.highmobility.autoapi.value.measurement.AccelerationUnit;
+import com.highmobility.autoapi.value.measurement.Angle;
+import com.highmobility.autoapi.value.measurement.AngularVelocity;
+import com.highmobility.autoapi.value.measurement.Duration;
+import com.highmobility.autoapi.value.measurement.ElectricCurrent;
+import com.highmobility.autoapi.value.measurement.ElectricPotentialDifference;
+import com.highmobility.autoapi.value.measurement.Energy;
+import com.highmobility.autoapi.value.measurement.EnergyEfficiency;
+import com.highmobility.autoapi.value.measurement.Frequency;
+import com.highmobility.autoapi.value.measurement.FuelEfficiency;
+import com.highmobility.autoapi.value.measurement.Illuminance;
+import com.highmobility.autoapi.value.measurement.Length;
+import com.highmobility.autoapi.value.measurement.Power;
+import com.highmobility.autoapi.value.measurement.Pressure;
+import com.highmobility.autoapi.value.measurement.Speed;
+import com.highmobility.autoapi.value.measurement.Temperature;
+import com.highmobility.autoapi.value.measurement.Torque;
+import com.highmobility.autoapi.value.measurement.Volume;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The measurement unit classes and their conversions, used to convert measurement values straight
+ * from the value bytes.
+ */
+final class MeasurementUnits {
+    interface Converter {
+        double convert(double value, Enum<?> fromUnit, Enum<?> toUnit);
+    }
+
+    static class Measurement {
+        final Class<? extends Enum<?>> unitClass;
+        final byte identifier;
+        final Converter converter;
+        // the units and their identifiers, by ordinal
+        final Enum<?>[] units;
+        final byte[] unitIds;
+        private final Enum<?>[] unitsById = new Enum<?>[256];
+        // the conversion factors are created on the first bulk conversion of the type
+        private volatile MeasurementConverter measurementConverter;
+
+        Measurement(Class<? extends Enum<?>> unitClass, byte identifier, Converter converter) {
+            this.unitClass = unitClass;
+            this.identifier = identifier;
+            this.converter = converter;
+            this.units = unitClass.getEnumConstants();
+            this.unitIds = new byte[units.length];
+
+            try {
+                Method getId = unitClass.getMethod("getId");
+                for (int i = 0; i < units.length; i++) {
+                    unitIds[i] = (Byte) getId.invoke(units[i]);
+                    unitsById[unitIds[i] & 0xFF] = units[i];
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Not a measurement unit: " + unitClass, e);
+            }
+        }
+
+        /**
+         * @param unitId The unit identifier, the second byte of the measurement value bytes.
+         * @return The unit, or null if the identifier is not one of the type's units.
+         */
+        @Nullable Enum<?> getUnit(byte unitId) {
+            return unitsById[unitId & 0xFF];
+        }
+
+        MeasurementConverter getConverter() {
+            MeasurementConverter measurementConverter = this.measurementConverter;
+
+            if (measurementConverter == null) {
+                measurementConverter = new MeasurementConverter(this);
+                this.measurementConverter = measurementConverter;
+            }
+
+            return measurementConverter;
+        }
+    }
+
+    private static final Map<Class<?>, Measurement> measurements = new HashMap<>();
+
+    static {
+        register(AccelerationUnit.Unit.class, AccelerationUnit.IDENTIFIER, (value, from, to) ->
+                AccelerationUnit.convert(value, (AccelerationUnit.Unit) from, (AccelerationUnit.Unit) to));
+        register(Angle.Unit.class, Angle.IDENTIFIER, (value, from, to) ->
+                Angle.convert(value, (Angle.Unit) from, (Angle.Unit) to));
+        register(AngularVelocity.Unit.class, AngularVelocity.IDENTIFIER, (value, from, to) ->
+                AngularVelocity.convert(value, (AngularVelocity.Unit) from, (AngularVelocity.Unit) to));
+        register(Duration.Unit.class, Duration.IDENTIFIER, (value, from, to) ->
+                Duration.convert(value, (Duration.Unit) from, (Duration.Unit) to));
+        register(ElectricCurrent.Unit.class, ElectricCurrent.IDENTIFIER, (value, from, to) ->
+                ElectricCurrent.convert(value, (ElectricCurrent.Unit) from, (ElectricCurrent.Unit) to));
+        register(ElectricPotentialDifference.Unit.class, ElectricPotentialDifference.IDENTIFIER, (value, from, to) ->
+                ElectricPotentialDifference.convert(value, (ElectricPotentialDifference.Unit) from, (ElectricPotentialDifference.Unit) to));
+        register(Energy.Unit.class, Energy.IDENTIFIER, (value, from, to) ->
+                Energy.convert(value, (Energy.Unit) from, (Energy.Unit) to));
+        register(EnergyEfficiency.Unit.class, EnergyEfficiency.IDENTIFIER, (value, from, to) ->
+                EnergyEfficiency.convert(value, (EnergyEfficiency.Unit) from, (EnergyEfficiency.Unit) to));
+        register(Frequency.Unit.class, Frequency.IDENTIFIER, (value, from, to) ->
+                Frequency.convert(value, (Frequency.Unit) from, (Frequency.Unit) to));
+        register(FuelEfficiency.Unit.class, FuelEfficiency.IDENTIFIER, (value, from, to) ->
+                FuelEfficiency.convert(value, (FuelEfficiency.Unit) from, (FuelEfficiency.Unit) to));
+        register(Illuminance.Unit.class, Illuminance.IDENTIFIER, (value, from, to) ->
+                Illuminance.convert(value, (Illuminance.Unit) from, (Illuminance.Unit) to));
+        register(Length.Unit.class, Length.IDENTIFIER, (value, from, to) ->
+                Length.convert(value, (Length.Unit) from, (Length.Unit) to));
+        register(Power.Unit.class, Power.IDENTIFIER, (value, from, to) ->
+                Power.convert(value, (Power.Unit) from, (Power.Unit) to));
+        register(Pressure.Unit.class, Pressure.IDENTIFIER, (value, from, to) ->
+                Pressure.convert(value, (Pressure.Unit) from, (Pressure.Unit) to));
+        register(Speed.Unit.class, Speed.IDENTIFIER, (value, from, to) ->
+                Speed.convert(value, (Speed.Unit) from, (Speed.Unit) to));
+        register(Temperature.Unit.class, Temperature.IDENTIFIER, (value, from, to) ->
+                Temperature.convert(value, (Temperature.Unit) from, (Temperature.Unit) to));
+        register(Torque.Unit.class, Torque.IDENTIFIER, (value, from, to) ->
+                Torque.convert(value, (Torque.Unit) from, (Torque.Unit) to));
+        register(Volume.Unit.class, Volume.IDENTIFIER, (value, from, to) ->
+                Volume.convert(value, (Volume.Unit) from, (Volume.Unit) to));
+    }
+
+    private MeasurementUnits() {
+    }
+
+    @Nullable static Measurement get(Class<?> unitClass) {
+        return measurements.get(unitClass);
+    }
+
+    private static void register(Class<? extends Enum<?>> unitClass, byte identifier,
+                                 Converter converter) {
+        measurements.put(unitClass, new Measurement(unitClass, identifier, converter));
+    }
+}
@@ -25,16 +25,15 @@ package com.highmobility.autoapi.property;
 
 import com.highmobility.autoapi.Command;
 import com.highmobility.autoapi.CommandParseException;
-import com.highmobility.autoapi.exception.ParseException;
+import com.highmobility.autoapi.CommandResolver;
 import com.highmobility.autoapi.value.Availability;
 import com.highmobility.value.Bytes;
 
 import javax.annotation.Nullable;
 
-import java.io.UnsupportedEncodingException;
-import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import static com.highmobility.autoapi.AutoApiLogger.getLogger;
@@ -81,6 +80,11 @@ public class Property<V> extends Bytes {
     }
      */
 
+    /**
+     * Returned from the getTimestampMillis() methods when there is no timestamp.
+     */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
     protected static final byte[] unknownBytes = new byte[]{0x00, 0x00, 0x00};
 
     @Nullable
@@ -95,6 +99,8 @@ public class Property<V> extends Bytes {
     protected List<PropertyComponent> components;
 
     private Class<V> valueClass = null;
+    // whether the properties updated from this one decode the value lazily. Set once per parse
+    boolean lazyDecoding;
 
     public byte getPropertyIdentifier() {
         return bytes[0];
@@ -108,6 +114,44 @@ public class Property<V> extends Bytes {
         return value != null ? value.getValue() : null;
     }
 
+    /**
+     * Read a double or float value from the value bytes, without creating a Double object.
+     *
+     * @return The value.
+     * @throws IllegalStateException when there is no double or float value.
+     */
+    public double getDoubleValue() {
+        return requireValueComponent().getDoubleValue();
+    }
+
+    /**
+     * Read a boolean value from the value bytes, without creating a Boolean object.
+     *
+     * @return The value.
+     * @throws IllegalStateException when there is no value.
+     */
+    public boolean getBooleanValue() {
+        return requireValueComponent().getBooleanValue();
+    }
+
+    /**
+     * Read a measurement value in the given unit from the value bytes, without creating the
+     * measurement object, eg {@code getValueIn(Speed.Unit.KILOMETERS_PER_HOUR)}.
+     *
+     * @param unit The unit to convert the value to.
+     * @return The value in the unit.
+     * @throws IllegalStateException    when the value is not a measurement of the unit's type.
+     * @throws IllegalArgumentException when the unit is not a measurement unit.
+     */
+    public double getValueIn(Enum<?> unit) {
+        return requireValueComponent().getValueIn(unit);
+    }
+
+    PropertyComponentValue<V> requireValueComponent() {
+        if (value == null) throw new IllegalStateException("The property has no value");
+        return value;
+    }
+
     /**
      * @return All of the components.
      */
@@ -145,6 +189,17 @@ public class Property<V> extends Bytes {
         return timestamp.getCalendar();
     }
 
+    /**
+     * Get the timestamp without creating a Calendar.
+     *
+     * @return The timestamp of the property in milliseconds since the epoch, or {@link
+     * #NO_TIMESTAMP} if there is no timestamp.
+     */
+    public long getTimestampMillis() {
+        if (timestamp == null) return NO_TIMESTAMP;
+        return timestamp.getTimestampMillis();
+    }
+
     @Nullable
     PropertyComponentTimestamp getTimestampComponent() {
         return timestamp;
@@ -188,9 +243,19 @@ public class Property<V> extends Bytes {
     // cannot create Bytes ctor because it would overlap with some Bytes subclasses that need to use
     // the class ctor.
     public Property(byte[] bytes) {
+        this(bytes, CommandResolver.isLazyDecoding());
+    }
+
+    /**
+     * @param bytes        The property bytes.
+     * @param lazyDecoding Whether the properties updated from this property decode the value on
+     *                     the first {@link #getValue()} call.
+     */
+    public Property(byte[] bytes, boolean lazyDecoding) {
         if (bytes == null || bytes.length == 0) bytes = unknownBytes;
         if (bytes.length < 3) bytes = Arrays.copyOf(bytes, 3);
         this.bytes = bytes;
+        this.lazyDecoding = lazyDecoding;
         findComponents();
     }
 
@@ -244,10 +309,14 @@ public class Property<V> extends Bytes {
         this.value = p.value;
 
         if (this.value != null) {
-            try {
-                this.value.setClass(valueClass);
-            } catch (Exception e) {
-                getLogger().debug(String.format("Invalid bytes %s for property: %s\n%s", p, valueClass.getSimpleName(), e));
+            if (p.lazyDecoding) {
+                this.value.setClassLazily(valueClass);
+            } else {
+                try {
+                    this.value.setClass(valueClass);
+                } catch (Exception e) {
+                    getLogger().debug(String.format("Invalid bytes %s for property: %s\n%s", p, valueClass.getSimpleName(), e));
+                }
             }
         }
 
@@ -300,6 +369,25 @@ public class Property<V> extends Bytes {
         return update(bytes[0], value, null, null, null);
     }
 
+    /**
+     * Remove the components, leaving an empty property with the same identifier. Used when a
+     * command is reparsed.
+     *
+     * @return Self.
+     */
+    public Property<V> reset() {
+        if (components != null || bytes.length != 3)
+            this.bytes = new byte[]{getPropertyIdentifier(), 0, 0};
+
+        this.value = null;
+        this.timestamp = null;
+        this.failure = null;
+        this.availability = null;
+        this.components = null;
+
+        return this;
+    }
+
     public Property addValueComponent(Bytes valueComponentValue) {
         try {
             byte[] valueLength = Property.intToBytes(valueComponentValue.getLength(), 2);
@@ -355,40 +443,43 @@ public class Property<V> extends Bytes {
         }
 
         ArrayList<PropertyComponent> componentsBuilder = new ArrayList<>(componentsSize);
-        Bytes builder = new Bytes(3 + componentBytesLength);
+        byte[] builder = new byte[3 + componentBytesLength];
 
-        builder.set(0, propertyIdentifier);
-        builder.set(1, Property.intToBytes(componentBytesLength, 2));
+        builder[0] = propertyIdentifier;
+        writeInt(builder, 1, componentBytesLength, 2);
 
         int pointer = 3;
 
         if (value != null) {
-            builder.set(pointer, value);
-            pointer += value.getLength();
+            pointer = copyComponent(value, builder, pointer);
             componentsBuilder.add(value);
         }
 
         if (timestamp != null) {
-            builder.set(pointer, timestamp);
-            pointer += timestamp.getLength();
+            pointer = copyComponent(timestamp, builder, pointer);
             componentsBuilder.add(timestamp);
         }
 
         if (failure != null) {
-            builder.set(pointer, failure);
-            pointer += failure.getLength();
+            pointer = copyComponent(failure, builder, pointer);
             componentsBuilder.add(failure);
         }
 
         if (availability != null) {
-            builder.set(pointer, availability);
+            copyComponent(availability, builder, pointer);
             componentsBuilder.add(availability);
         }
 
-        bytes = builder.getByteArray();
+        bytes = builder;
         components = componentsBuilder;
     }
 
+    private static int copyComponent(PropertyComponent component, byte[] destination, int at) {
+        byte[] componentBytes = component.getByteArray();
+        System.arraycopy(componentBytes, 0, destination, at, componentBytes.length);
+        return at + componentBytes.length;
+    }
+
     /**
      * Set a new identifier for the property
      *
@@ -447,13 +538,24 @@ public class Property<V> extends Bytes {
 
     public static byte[] longToBytes(long l) {
         byte[] result = new byte[8];
-        for (int i = 7; i >= 0; i--) {
-            result[i] = (byte) (l & 0xFF);
-            l >>= 8;
-        }
+        writeLong(result, 0, l);
         return result;
     }
 
+    /**
+     * Write the long as 8 big endian bytes.
+     *
+     * @param destination The destination bytes.
+     * @param at          The position in the destination.
+     * @param value       The value.
+     */
+    public static void writeLong(byte[] destination, int at, long value) {
+        for (int i = at + 7; i >= at; i--) {
+            destination[i] = (byte) value;
+            value >>= 8;
+        }
+    }
+
     public static float getFloat(Bytes bytes) throws IllegalArgumentException {
         return getFloat(bytes.getByteArray());
     }
@@ -474,7 +576,24 @@ public class Property<V> extends Bytes {
     }
 
     public static byte[] floatToBytes(float value) {
-        return ByteBuffer.allocate(4).putFloat(value).array();
+        byte[] result = new byte[4];
+        writeFloat(result, 0, value);
+        return result;
+    }
+
+    /**
+     * Write the float as 4 big endian bytes.
+     *
+     * @param destination The destination bytes.
+     * @param at          The position in the destination.
+     * @param value       The value.
+     */
+    public static void writeFloat(byte[] destination, int at, float value) {
+        int bits = Float.floatToRawIntBits(value);
+        destination[at] = (byte) (bits >> 24);
+        destination[at + 1] = (byte) (bits >> 16);
+        destination[at + 2] = (byte) (bits >> 8);
+        destination[at + 3] = (byte) bits;
     }
 
     public static double getDouble(Bytes bytes) throws IllegalArgumentException {
@@ -495,10 +614,20 @@ public class Property<V> extends Bytes {
     }
 
     public static byte[] doubleToBytes(double value) {
-        long bits = Double.doubleToLongBits(value);
-        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
-        buffer.putLong(bits);
-        return buffer.array();
+        byte[] result = new byte[8];
+        writeDouble(result, 0, value);
+        return result;
+    }
+
+    /**
+     * Write the double as 8 big endian bytes.
+     *
+     * @param destination The destination bytes.
+     * @param at          The position in the destination.
+     * @param value       The value.
+     */
+    public static void writeDouble(byte[] destination, int at, double value) {
+        writeLong(destination, at, Double.doubleToLongBits(value));
     }
 
     public static int floatToIntPercentage(float value) {
@@ -580,23 +709,38 @@ public class Property<V> extends Bytes {
      * @throws IllegalArgumentException when input is invalid
      */
     public static byte[] intToBytes(int value, int length) throws IllegalArgumentException {
-        if (length == 1) return new byte[]{(byte) value};
-
-        byte[] bytes = BigInteger.valueOf(value).toByteArray();
+        byte[] bytes = new byte[length];
+        writeInt(bytes, 0, value, length);
+        return bytes;
+    }
 
-        if (bytes.length == length) {
-            return bytes;
-        } else if (bytes.length < length) {
-            // put the allBytes to last elements
-            byte[] withZeroBytes = new byte[length];
+    /**
+     * Write the int as big endian bytes. The value needs to fit in the length as a signed number,
+     * and shorter values are padded with 0x00 bytes. With length 1 the lowest byte is written.
+     *
+     * @param destination The destination bytes.
+     * @param at          The position in the destination.
+     * @param value       The value.
+     * @param length      The number of bytes to write.
+     * @throws IllegalArgumentException when the value does not fit in the length.
+     */
+    public static void writeInt(byte[] destination, int at, int value, int length)
+            throws IllegalArgumentException {
+        if (length == 1) {
+            destination[at] = (byte) value;
+            return;
+        }
 
-            for (int i = 0; i < bytes.length; i++) {
-                withZeroBytes[length - 1 - i] = bytes[bytes.length - 1 - i];
-            }
+        // the minimal two's complement length, as in BigInteger.toByteArray()
+        int bitLength = 32 - Integer.numberOfLeadingZeros(value < 0 ? ~value : value);
+        int valueLength = bitLength / 8 + 1;
+        if (valueLength > length) throw new IllegalArgumentException();
 
-            return withZeroBytes;
-        } else {
-            throw new IllegalArgumentException();
+        int end = at + length;
+        for (int i = at; i < end - valueLength; i++) destination[i] = 0x00;
+        for (int i = end - 1; i >= end - valueLength; i--) {
+            destination[i] = (byte) value;
+            value >>= 8;
         }
     }
 
@@ -617,12 +761,7 @@ public class Property<V> extends Bytes {
     }
 
     public static String getString(byte[] bytes) {
-        try {
-            return new String(bytes, PropertyComponentValue.CHARSET);
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
-            throw new ParseException();
-        }
+        return getString(bytes, 0, bytes.length);
     }
 
     public static String getString(Bytes bytes, int at, int length) {
@@ -630,16 +769,13 @@ public class Property<V> extends Bytes {
     }
 
     public static String getString(byte[] bytes, int at, int length) {
-        return getString(Arrays.copyOfRange(bytes, at, at + length));
+        StringCache cache = CommandResolver.getStringCache();
+        if (cache != null) return cache.get(bytes, at, length);
+        return new String(bytes, at, length, StandardCharsets.UTF_8);
     }
 
     public static byte[] stringToBytes(String string) {
-        try {
-            return string.getBytes(PropertyComponentValue.CHARSET);
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
-            throw new ParseException();
-        }
+        return string.getBytes(StandardCharsets.UTF_8);
     }
 
     public static int getUtf8Length(CharSequence sequence) {
@@ -698,15 +834,13 @@ public class Property<V> extends Bytes {
     }
 
     public static Calendar getCalendar(byte[] bytes, int at, int length) throws IllegalArgumentException {
-        Calendar c;
-        if (bytes.length >= at + length) {
-            c = new GregorianCalendar();
-            long epoch = Property.getLong(bytes, at, length);
-            c.setTimeInMillis(epoch);
-        } else {
-            throw new IllegalArgumentException();
-        }
+        if (bytes.length < at + length) throw new IllegalArgumentException();
+        return getCalendar(Property.getLong(bytes, at, length));
+    }
 
+    public static Calendar getCalendar(long epochMillis) {
+        Calendar c = new GregorianCalendar();
+        c.setTimeInMillis(epochMillis);
         c.getTime(); // this is needed to set the right time...
         return c;
     }
@@ -716,11 +850,13 @@ public class Property<V> extends Bytes {
     }
 
     public static int[] getIntegerArray(Bytes valueBytes) {
-        int length = valueBytes.getLength();
+        return getIntegerArray(valueBytes.getByteArray(), 0, valueBytes.getLength());
+    }
 
+    public static int[] getIntegerArray(byte[] bytes, int at, int length) {
         int[] value = new int[length];
         for (int i = 0; i < length; i++) {
-            value[i] = Property.getUnsignedInt(valueBytes.get(i));
+            value[i] = Property.getUnsignedInt(bytes[at + i]);
         }
 
         return value;
@@ -26,17 +26,55 @@ package com.highmobility.autoapi.property;
 import com.highmobility.autoapi.exception.ParseException;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 public class PropertyComponent extends Bytes {
+    // component identifier and 2 length bytes
+    static final int HEADER_LENGTH = 3;
+
     byte identifier;
-    Bytes valueBytes;
+    // For incoming components, the value is read from bytes at HEADER_LENGTH. It is copied to its
+    // own Bytes only if requested.
+    @Nullable
+    private volatile Bytes cachedValueBytes;
 
     /**
      * @return The component value bytes, without the header.
      */
     public Bytes getValueBytes() {
+        Bytes valueBytes = cachedValueBytes;
+
+        if (valueBytes == null) {
+            valueBytes = getRange(HEADER_LENGTH, getLength());
+            cachedValueBytes = valueBytes;
+        }
+
         return valueBytes;
     }
 
+    /**
+     * @return The component value length, without the header.
+     */
+    int getValueLength() {
+        return bytes.length - HEADER_LENGTH;
+    }
+
+    /**
+     * Compare the value bytes in place, without copying them.
+     *
+     * @param value The expected value bytes.
+     * @return Whether the component value bytes are equal to the value.
+     */
+    public boolean valueEquals(byte[] value) {
+        if (bytes.length - HEADER_LENGTH != value.length) return false;
+
+        for (int i = 0; i < value.length; i++) {
+            if (bytes[HEADER_LENGTH + i] != value[i]) return false;
+        }
+
+        return true;
+    }
+
     /**
      * @return The identifier.
      */
@@ -48,12 +86,17 @@ public class PropertyComponent extends Bytes {
         if (componentBytes.getLength() < 3) throw new ParseException();
         bytes = componentBytes.getByteArray();
         identifier = bytes[0];
-        valueBytes = componentBytes.getRange(3, getLength());
+    }
+
+    // the component bytes, including the header
+    PropertyComponent(byte[] componentBytes) {
+        bytes = componentBytes;
+        identifier = bytes[0];
     }
 
     PropertyComponent(byte identifier, Bytes valueBytes) {
         this(identifier, valueBytes.getLength());
-        this.valueBytes = valueBytes;
+        cachedValueBytes = valueBytes;
         set(3, valueBytes);
     }
 
@@ -65,7 +108,6 @@ public class PropertyComponent extends Bytes {
         // component identifier
         bytes[0] = identifier;
         // component length
-        set(1, Property.intToBytes(valueSize, 2));
-        valueBytes = new Bytes(valueSize);
+        Property.writeInt(bytes, 1, valueSize, 2);
     }
 }
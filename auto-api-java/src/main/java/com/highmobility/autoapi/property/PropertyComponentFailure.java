@@ -73,7 +73,6 @@ public class PropertyComponentFailure extends PropertyComponent {
             ByteUtils.setBytes(bytes, description.getBytes(), 5);
         }
 
-        this.valueBytes = getRange(3, size());
         this.failureReason = failureReason;
         this.description = description;
     }
@@ -108,17 +107,25 @@ public class PropertyComponentFailure extends PropertyComponent {
          */
         INTERNAL_OEM_ERROR((byte) 0x06);
 
-        public static Reason fromByte(byte byteValue) throws CommandParseException {
-            Reason[] values = Reason.values();
+        private static final Reason[] byByte = new Reason[256];
 
-            for (int i = 0; i < values.length; i++) {
-                Reason value1 = values[i];
-                if (value1.getByte() == byteValue) {
-                    return value1;
-                }
-            }
+        static {
+            for (Reason reason : Reason.values()) byByte[reason.getByte() & 0xFF] = reason;
+        }
 
-            throw new CommandParseException("Failure.Reason does not contain " + hexFromByte(byteValue));
+        public static Reason fromByte(byte byteValue) throws CommandParseException {
+            Reason reason = byByte[byteValue & 0xFF];
+            if (reason == null)
+                throw new CommandParseException("Failure.Reason does not contain " + hexFromByte(byteValue));
+            return reason;
+        }
+
+        /**
+         * @param byteValue The byte value.
+         * @return The reason, or null if there is none for the byte.
+         */
+        @Nullable public static Reason fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
 
         private final byte value;
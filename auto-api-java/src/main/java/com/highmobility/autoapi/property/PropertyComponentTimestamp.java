@@ -27,26 +27,45 @@ import com.highmobility.value.Bytes;
 
 import java.util.Calendar;
 
+import javax.annotation.Nullable;
+
 public class PropertyComponentTimestamp extends PropertyComponent {
     private static final byte IDENTIFIER = 0x02;
-    private final Calendar timestamp;
+    private final long timestampMillis;
+    // created on the first getCalendar() call
+    @Nullable private volatile Calendar timestamp;
 
     /**
      * @return The timestamp calendar.
      */
     public Calendar getCalendar() {
-        return timestamp;
+        Calendar calendar = timestamp;
+        if (calendar == null) {
+            synchronized (this) {
+                if (timestamp == null) timestamp = Property.getCalendar(timestampMillis);
+                calendar = timestamp;
+            }
+        }
+
+        return calendar;
+    }
+
+    /**
+     * @return The timestamp in milliseconds since the epoch.
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
     }
 
     public PropertyComponentTimestamp(Bytes bytes) {
         super(bytes);
-        timestamp = Property.getCalendar(valueBytes);
+        timestampMillis = Property.getLong(this.bytes, HEADER_LENGTH, getValueLength());
     }
 
     public PropertyComponentTimestamp(Calendar timestamp) {
         super(IDENTIFIER, PropertyComponentValue.CALENDAR_SIZE);
         this.timestamp = timestamp;
-        valueBytes = new Bytes(Property.calendarToBytes(timestamp));
-        set(3, valueBytes);
+        this.timestampMillis = timestamp.getTimeInMillis();
+        Property.writeLong(bytes, HEADER_LENGTH, timestampMillis);
     }
 }
@@ -26,6 +26,7 @@ package com.highmobility.autoapi.property;
 import com.highmobility.autoapi.Command;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.CommandResolver;
+import com.highmobility.autoapi.value.measurement.MeasurementType;
 import com.highmobility.value.Bytes;
 
 import java.lang.reflect.Constructor;
@@ -44,14 +45,21 @@ public class PropertyComponentValue<V> extends PropertyComponent {
     @Nullable
     protected V value;
 
+    // set while the value is waiting to be decoded on the first getValue() call
+    @Nullable
+    private volatile Class<V> lazyValueClass;
+    // integer sign is not known from the value class
+    boolean signed;
+
     @Nullable
     public V getValue() {
+        if (lazyValueClass != null) decodeLazily();
         return value;
     }
 
     @Nullable
     public Byte getValueByte() {
-        return valueBytes != null && valueBytes.getLength() > 0 ? valueBytes.get(0) : null;
+        return getValueLength() > 0 ? bytes[HEADER_LENGTH] : null;
     }
 
     public Class<V> getValueClass() {
@@ -68,58 +76,123 @@ public class PropertyComponentValue<V> extends PropertyComponent {
     }
 
     PropertyComponentValue(@Nullable V value) {
-        super(IDENTIFIER, getBytes(value));
+        super(getComponentBytes(value));
         valueClass = (Class<V>) value.getClass();
         this.value = value;
     }
 
     public void setClass(Class<V> valueClass) throws CommandParseException {
-        // map bytes to the type
+        // map bytes to the type. The value is read in place, after the component header.
+        int length = getValueLength();
+
         if (PropertyValueObject.class.isAssignableFrom(valueClass)) {
-            value = getValueWithReflection(valueClass, valueBytes);
+            value = getValueObject(valueClass);
         } else if (ByteEnum.class.isAssignableFrom(valueClass)) {
-            value = getValueWithReflection(valueClass, valueBytes);
+            value = getByteEnum(valueClass);
         } else if (Boolean.class.isAssignableFrom(valueClass)) {
-            value = (V) Property.getBool(valueBytes.get(0));
+            value = (V) Property.getBool(bytes[HEADER_LENGTH]);
         } else if (Float.class.isAssignableFrom(valueClass)) {
-            value = (V) (Float) Property.getFloat(valueBytes);
+            if (length < 4) throw new IllegalArgumentException();
+            value = (V) (Float) Property.getFloat(bytes, HEADER_LENGTH);
         } else if (Double.class.isAssignableFrom(valueClass)) {
-            value = (V) (Double) Property.getDouble(valueBytes);
+            if (length < 8) throw new IllegalArgumentException();
+            value = (V) (Double) Double.longBitsToDouble(Property.getLong(bytes, HEADER_LENGTH, length));
         } else if (Calendar.class.isAssignableFrom(valueClass)) {
-            value = (V) Property.getCalendar(valueBytes);
+            value = (V) Property.getCalendar(bytes, HEADER_LENGTH, length);
         } else if (String.class.isAssignableFrom(valueClass)) {
-            value = (V) Property.getString(valueBytes);
+            value = (V) Property.getString(bytes, HEADER_LENGTH, length);
         } else if (int[].class.isAssignableFrom(valueClass)) {
-            value = (V) Property.getIntegerArray(valueBytes);
+            value = (V) Property.getIntegerArray(bytes, HEADER_LENGTH, length);
         } else if (Command.class.isAssignableFrom(valueClass)) {
-            value = (V) CommandResolver.resolve(valueBytes);
+            value = (V) CommandResolver.resolve(getValueBytes());
         } else if (Bytes.class.isAssignableFrom(valueClass)) {
-            value = (V) valueBytes;
+            value = (V) getValueBytes();
         } else if (Byte.class.isAssignableFrom(valueClass)) {
-            value = (V) valueBytes.get(0);
+            value = (V) (Byte) bytes[HEADER_LENGTH];
         }
 
         this.valueClass = valueClass;
     }
 
-    private V getValueWithReflection(Class<V> valueClass, Bytes valueBytes) throws CommandParseException {
+    /**
+     * Set the value class, but decode the value only on the first {@link #getValue()} call.
+     *
+     * @param valueClass The value class.
+     */
+    void setClassLazily(Class<V> valueClass) {
+        this.valueClass = valueClass;
+        this.value = null;
+        this.lazyValueClass = valueClass;
+    }
+
+    private synchronized void decodeLazily() {
+        Class<V> valueClass = lazyValueClass;
+        if (valueClass == null) return; // decoded in another thread
+
+        try {
+            if (Integer.class.isAssignableFrom(valueClass)) {
+                if (getValueLength() >= 1) value = (V) getInteger(signed);
+            } else {
+                setClass(valueClass);
+            }
+        } catch (Exception e) {
+            getLogger().debug(String.format("Invalid bytes %s for property: %s\n%s",
+                    getValueBytes(), valueClass.getSimpleName(), e));
+        }
+
+        lazyValueClass = null;
+    }
+
+    private V getValueObject(Class<V> valueClass) throws CommandParseException {
+        ValueDecoders.ValueObjectDecoder decoder = ValueDecoders.getValueObjectDecoder(valueClass);
+        if (decoder == null) return getValueWithReflection(valueClass);
+
+        try {
+            return (V) decoder.decode(getValueBytes());
+        } catch (CommandParseException e) {
+            getLogger().warn(getDebugMessage(valueClass));
+            throw e;
+        } catch (RuntimeException e) {
+            getLogger().warn(getDebugMessage(valueClass));
+            e.printStackTrace();
+            throw new CommandParseException("Value initialisation error");
+        }
+    }
+
+    // an unknown byte is logged and decoded to null, without throwing
+    @Nullable
+    private V getByteEnum(Class<V> valueClass) throws CommandParseException {
+        ValueDecoders.ByteEnumDecoder decoder = ValueDecoders.getByteEnumDecoder(valueClass);
+        if (decoder == null) return getValueWithReflection(valueClass);
+
+        V value = (V) decoder.decode(bytes[HEADER_LENGTH]);
+        if (value == null) {
+            getLogger().debug(String.format("Invalid bytes %s for property: %s",
+                    getValueBytes(), valueClass.getSimpleName()));
+        }
+
+        return value;
+    }
+
+    // used for value classes that are not in ValueDecoders
+    private V getValueWithReflection(Class<V> valueClass) throws CommandParseException {
         try {
             // we use reflection with ValueObject and Enum
             if (PropertyValueObject.class.isAssignableFrom(valueClass)) {
                 Constructor constructor = valueClass.getConstructor(new Class[]{Bytes.class});
-                return (V) constructor.newInstance(new Object[]{valueBytes});
+                return (V) constructor.newInstance(new Object[]{getValueBytes()});
             } else {
                 Method method = valueClass.getMethod("fromByte", byte.class);
-                return (V) method.invoke(null, valueBytes.get(0));
+                return (V) method.invoke(null, bytes[HEADER_LENGTH]);
             }
         } catch (InstantiationException | IllegalAccessException | NoSuchMethodException e) {
-            getLogger().warn(getDebugMessage(valueClass, valueBytes));
+            getLogger().warn(getDebugMessage(valueClass));
 
             e.printStackTrace();
             throw new IllegalArgumentException("Cannot instantiate value: " + valueClass +
                     "\n" + e.getMessage());
         } catch (InvocationTargetException e) {
-            getLogger().warn(getDebugMessage(valueClass, valueBytes));
+            getLogger().warn(getDebugMessage(valueClass));
 
             // throw error that is from auto api value parsing
             if (e.getCause() instanceof CommandParseException) {
@@ -131,8 +204,104 @@ public class PropertyComponentValue<V> extends PropertyComponent {
         }
     }
 
-    private String getDebugMessage(Class<V> valueClass, Bytes valueBytes) {
-        return String.format("Failed parsing %s, bytes %s", valueClass.getName(), valueBytes);
+    // the integer length is the value length
+    Integer getInteger(boolean signed) {
+        return getIntValue(signed);
+    }
+
+    // MARK: primitive values, read from the bytes
+
+    int getIntValue(boolean signed) {
+        int length = getValueLength();
+
+        if (signed) {
+            if (length == 1) return bytes[HEADER_LENGTH];
+            else if (length >= 2) return (short) ((bytes[HEADER_LENGTH] << 8) | (bytes[HEADER_LENGTH + 1] & 0xFF));
+            throw new IllegalArgumentException();
+        }
+
+        return Property.getUnsignedInt(bytes, HEADER_LENGTH, length);
+    }
+
+    double getDoubleValue() {
+        int length = getValueLength();
+        if (length == 8) return Double.longBitsToDouble(Property.getLong(bytes, HEADER_LENGTH, 8));
+        else if (length == 4) return Property.getFloat(bytes, HEADER_LENGTH);
+        throw new IllegalStateException("The value is not a double or float: " + getValueBytes());
+    }
+
+    boolean getBooleanValue() {
+        if (getValueLength() < 1) throw new IllegalStateException("The value is empty");
+        return bytes[HEADER_LENGTH] != 0x00;
+    }
+
+    double getValueIn(Enum<?> unit) {
+        MeasurementUnits.Measurement measurement = MeasurementUnits.get(unit.getDeclaringClass());
+        if (measurement == null) throw new IllegalArgumentException("Not a measurement unit: " + unit);
+
+        if (getValueLength() != MeasurementType.SIZE || bytes[HEADER_LENGTH] != measurement.identifier) {
+            throw new IllegalStateException(String.format("The value is not a %s: %s",
+                    unit.getDeclaringClass().getEnclosingClass().getSimpleName(), getValueBytes()));
+        }
+
+        Enum<?> from = measurement.getUnit(bytes[HEADER_LENGTH + 1]);
+        if (from == null) throw new IllegalStateException("Unknown unit: " + getValueBytes());
+
+        double value = Property.getDouble(bytes, HEADER_LENGTH + 2);
+        return measurement.converter.convert(value, from, unit);
+    }
+
+    private String getDebugMessage(Class<V> valueClass) {
+        return String.format("Failed parsing %s, bytes %s", valueClass.getName(), getValueBytes());
+    }
+
+    // Write the value after the component header. Fixed size values are written directly, without
+    // creating their value bytes first.
+    private static byte[] getComponentBytes(Object value) {
+        byte[] bytes;
+
+        if (value instanceof PropertyValueObject) {
+            bytes = copyToComponent((PropertyValueObject) value);
+        } else if (value instanceof ByteEnum) {
+            bytes = createComponentBytes(1);
+            bytes[HEADER_LENGTH] = ((ByteEnum) value).getByte();
+        } else if (value instanceof Boolean) {
+            bytes = createComponentBytes(1);
+            bytes[HEADER_LENGTH] = Property.boolToByte((Boolean) value);
+        } else if (value instanceof Byte) {
+            bytes = createComponentBytes(1);
+            bytes[HEADER_LENGTH] = (Byte) value;
+        } else if (value instanceof Float) {
+            bytes = createComponentBytes(4);
+            Property.writeFloat(bytes, HEADER_LENGTH, (Float) value);
+        } else if (value instanceof Integer) {
+            bytes = createComponentBytes(4);
+            Property.writeInt(bytes, HEADER_LENGTH, (Integer) value, 4);
+        } else if (value instanceof Double) {
+            bytes = createComponentBytes(8);
+            Property.writeDouble(bytes, HEADER_LENGTH, (Double) value);
+        } else if (value instanceof Calendar) {
+            bytes = createComponentBytes(CALENDAR_SIZE);
+            Property.writeLong(bytes, HEADER_LENGTH, ((Calendar) value).getTimeInMillis());
+        } else {
+            bytes = copyToComponent(getBytes(value));
+        }
+
+        return bytes;
+    }
+
+    private static byte[] copyToComponent(Bytes valueBytes) {
+        byte[] value = valueBytes.getByteArray();
+        byte[] bytes = createComponentBytes(value.length);
+        System.arraycopy(value, 0, bytes, HEADER_LENGTH, value.length);
+        return bytes;
+    }
+
+    private static byte[] createComponentBytes(int valueLength) {
+        byte[] bytes = new byte[HEADER_LENGTH + valueLength];
+        bytes[0] = IDENTIFIER;
+        Property.writeInt(bytes, 1, valueLength, 2);
+        return bytes;
     }
 
     public static Bytes getBytes(Object value) {
@@ -24,7 +24,6 @@
 package com.highmobility.autoapi.property;
 
 import com.highmobility.autoapi.CommandParseException;
-import com.highmobility.value.Bytes;
 
 import javax.annotation.Nullable;
 
@@ -42,9 +41,8 @@ public class PropertyInteger extends Property<Integer> {
         super(Integer.class, identifier);
         this.failure = value.failure;
         this.timestamp = value.timestamp;
-        Integer intValue = null;
-        if (value.value != null) intValue = value.value.value;
-        update(signed, length, intValue);
+        // getValue() decodes the value if it was parsed lazily
+        update(signed, length, value.getValue());
     }
 
     public PropertyInteger(int identifier, boolean signed, int length, Property<Integer> value) {
@@ -61,15 +59,31 @@ public class PropertyInteger extends Property<Integer> {
         this((byte) identifier, signed);
     }
 
+    /**
+     * Read the value from the value bytes, without creating an Integer object.
+     *
+     * @return The value.
+     * @throws IllegalStateException when there is no value.
+     */
+    public int getIntValue() {
+        PropertyComponentValue<Integer> value = requireValueComponent();
+        if (value.getValueLength() < 1) throw new IllegalStateException("The value is empty");
+        return value.getIntValue(signed);
+    }
+
     @Override public Property update(Property p) throws CommandParseException {
         // this copies the components and creates bytes
         super.update(p);
 
+        if (p.lazyDecoding) {
+            if (value != null) value.signed = signed;
+            return this;
+        }
+
         if (p.getValueComponent() != null &&
                 value != null &&
-                p.getValueComponent().getValueBytes().getLength() >= 1) {
-            if (signed) value.value = getSignedInt(p.getValueComponent().getValueBytes());
-            else value.value = getUnsignedInt(p.getValueComponent().getValueBytes());
+                p.getValueComponent().getValueLength() >= 1) {
+            value.value = p.getValueComponent().getInteger(signed);
         }
 
         return this;
@@ -97,8 +111,7 @@ public class PropertyInteger extends Property<Integer> {
     private static class PropertyComponentValueInteger extends PropertyComponentValue<Integer> {
         PropertyComponentValueInteger(Integer value, boolean signed, int newLength) {
             super(PropertyComponentValue.IDENTIFIER, newLength);
-            this.valueBytes = new Bytes(intToBytes(value, newLength));
-            set(3, valueBytes);
+            writeInt(bytes, HEADER_LENGTH, value, newLength);
             this.value = value;
         }
     }
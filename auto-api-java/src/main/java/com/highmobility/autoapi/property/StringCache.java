@@ -0,0 +1,157 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.property;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of decoded UTF-8 strings, keyed on their bytes. Repeated string values, like
+ * VINs and check control messages, then share one String instance instead of being decoded for
+ * every command.
+ * <p>
+ * The cache is a fixed size table. A new string replaces the one in its slot, so the cache never
+ * grows beyond its capacity. It can be used from multiple threads.
+ * </p>
+ *
+ * @see com.highmobility.autoapi.CommandResolver#setStringCache(StringCache)
+ */
+public class StringCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_STRING_LENGTH = 64;
+
+    private final Entry[] entries;
+    private final int mask;
+    private final int maxStringLength;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public StringCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    /**
+     * @param capacity        The maximum number of cached strings. Rounded up to a power of two.
+     * @param maxStringLength The maximum byte length of a cached string. Longer strings are
+     *                        decoded without the cache.
+     */
+    public StringCache(int capacity, int maxStringLength) {
+        if (capacity < 1 || capacity > 1 << 30 || maxStringLength < 0)
+            throw new IllegalArgumentException();
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+        this.maxStringLength = maxStringLength;
+    }
+
+    /**
+     * Get the string for the UTF-8 bytes, decoding it only if it is not in the cache.
+     *
+     * @param bytes  The bytes.
+     * @param at     The start of the string.
+     * @param length The byte length of the string.
+     * @return The string.
+     */
+    public String get(byte[] bytes, int at, int length) {
+        if (length > maxStringLength) return new String(bytes, at, length, StandardCharsets.UTF_8);
+
+        int hash = hash(bytes, at, length);
+        int index = hash & mask;
+        Entry entry = entries[index];
+
+        if (entry != null && entry.matches(hash, bytes, at, length)) {
+            hits.incrementAndGet();
+            return entry.string;
+        }
+
+        misses.incrementAndGet();
+        String string = new String(bytes, at, length, StandardCharsets.UTF_8);
+        // the entry fields are final, so other threads see a complete entry or the previous one
+        entries[index] = new Entry(hash, Arrays.copyOfRange(bytes, at, at + length), string);
+        return string;
+    }
+
+    /**
+     * @return The number of strings that were found in the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of strings that were decoded and added to the cache.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The maximum number of cached strings.
+     */
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * Remove the cached strings and reset the statistics.
+     */
+    public void clear() {
+        Arrays.fill(entries, null);
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private static int hash(byte[] bytes, int at, int length) {
+        int hash = 1;
+        for (int i = at; i < at + length; i++) hash = 31 * hash + bytes[i];
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Entry {
+        final int hash;
+        final byte[] bytes;
+        final String string;
+
+        Entry(int hash, byte[] bytes, String string) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.string = string;
+        }
+
+        boolean matches(int hash, byte[] bytes, int at, int length) {
+            if (this.hash != hash || this.bytes.length != length) return false;
+
+            for (int i = 0; i < length; i++) {
+                if (this.bytes[i] != bytes[at + i]) return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.property;
+
+import com.highmobility.autoapi.Charging;
+import com.highmobility.autoapi.ChassisSettings;
+import com.highmobility.autoapi.CommandParseException;
+import com.highmobility.autoapi.CruiseControl;
+import com.highmobility.autoapi.DriverFatigue;
+import com.highmobility.autoapi.FailureMessage;
+import com.highmobility.autoapi.HomeCharger;
+import com.highmobility.autoapi.HonkHornFlashLights;
+import com.highmobility.autoapi.Hood;
+import com.highmobility.autoapi.Ignition;
+import com.highmobility.autoapi.KeyfobPosition;
+import com.highmobility.autoapi.Lights;
+import com.highmobility.autoapi.Maintenance;
+import com.highmobility.autoapi.Notifications;
+import com.highmobility.autoapi.ParkingTicket;
+import com.highmobility.autoapi.PowerTakeoff;
+import com.highmobility.autoapi.Race;
+import com.highmobility.autoapi.RemoteControl;
+import com.highmobility.autoapi.RooftopControl;
+import com.highmobility.autoapi.Tachograph;
+import com.highmobility.autoapi.TheftAlarm;
+import com.highmobility.autoapi.Trips;
+import com.highmobility.autoapi.VehicleInformation;
+import com.highmobility.autoapi.VideoHandover;
+import com.highmobility.autoapi.WakeUp;
+import com.highmobility.autoapi.Windscreen;
+import com.highmobility.autoapi.value.Acceleration;
+import com.highmobility.autoapi.value.ActionItem;
+import com.highmobility.autoapi.value.ActiveSelectedState;
+import com.highmobility.autoapi.value.ActiveState;
+import com.highmobility.autoapi.value.AddressComponent;
+import com.highmobility.autoapi.value.Availability;
+import com.highmobility.autoapi.value.Axle;
+import com.highmobility.autoapi.value.BrakeTorqueVectoring;
+import com.highmobility.autoapi.value.Brand;
+import com.highmobility.autoapi.value.CheckControlMessage;
+import com.highmobility.autoapi.value.ConditionBasedService;
+import com.highmobility.autoapi.value.ConfirmedTroubleCode;
+import com.highmobility.autoapi.value.ConnectionState;
+import com.highmobility.autoapi.value.Coordinates;
+import com.highmobility.autoapi.value.DashboardLight;
+import com.highmobility.autoapi.value.DepartureTime;
+import com.highmobility.autoapi.value.Detected;
+import com.highmobility.autoapi.value.DieselExhaustFilterStatus;
+import com.highmobility.autoapi.value.DistanceOverTime;
+import com.highmobility.autoapi.value.DoorPosition;
+import com.highmobility.autoapi.value.DriverCardPresent;
+import com.highmobility.autoapi.value.DriverTimeState;
+import com.highmobility.autoapi.value.DriverWorkingState;
+import com.highmobility.autoapi.value.DrivingMode;
+import com.highmobility.autoapi.value.DrivingModeActivationPeriod;
+import com.highmobility.autoapi.value.DrivingModeEnergyConsumption;
+import com.highmobility.autoapi.value.EnabledState;
+import com.highmobility.autoapi.value.Failure;
+import com.highmobility.autoapi.value.FluidLevel;
+import com.highmobility.autoapi.value.Grade;
+import com.highmobility.autoapi.value.HmkitVersion;
+import com.highmobility.autoapi.value.HvacWeekdayStartingTime;
+import com.highmobility.autoapi.value.KeyValue;
+import com.highmobility.autoapi.value.Light;
+import com.highmobility.autoapi.value.Location;
+import com.highmobility.autoapi.value.LocationLongitudinal;
+import com.highmobility.autoapi.value.LocationWheel;
+import com.highmobility.autoapi.value.Lock;
+import com.highmobility.autoapi.value.LockState;
+import com.highmobility.autoapi.value.NetworkSecurity;
+import com.highmobility.autoapi.value.OemTroubleCodeValue;
+import com.highmobility.autoapi.value.OnOffState;
+import com.highmobility.autoapi.value.PersonDetected;
+import com.highmobility.autoapi.value.Position;
+import com.highmobility.autoapi.value.PriceTariff;
+import com.highmobility.autoapi.value.ReadingLamp;
+import com.highmobility.autoapi.value.ReductionTime;
+import com.highmobility.autoapi.value.RgbColour;
+import com.highmobility.autoapi.value.SeatLocation;
+import com.highmobility.autoapi.value.SeatbeltState;
+import com.highmobility.autoapi.value.SpringRate;
+import com.highmobility.autoapi.value.StartStop;
+import com.highmobility.autoapi.value.SupportedCapability;
+import com.highmobility.autoapi.value.Time;
+import com.highmobility.autoapi.value.Timer;
+import com.highmobility.autoapi.value.TirePressure;
+import com.highmobility.autoapi.value.TirePressureStatus;
+import com.highmobility.autoapi.value.TireTemperature;
+import com.highmobility.autoapi.value.TroubleCode;
+import com.highmobility.autoapi.value.Webhook;
+import com.highmobility.autoapi.value.Weekday;
+import com.highmobility.autoapi.value.WheelRpm;
+import com.highmobility.autoapi.value.WindowLocation;
+import com.highmobility.autoapi.value.WindowOpenPercentage;
+import com.highmobility.autoapi.value.WindowPosition;
+import com.highmobility.autoapi.value.Zone;
+import com.highmobility.autoapi.value.measurement.AccelerationUnit;
+import com.highmobility.autoapi.value.measurement.Angle;
+import com.highmobility.autoapi.value.measurement.AngularVelocity;
+import com.highmobility.autoapi.value.measurement.Duration;
+import com.highmobility.autoapi.value.measurement.ElectricCurrent;
+import com.highmobility.autoapi.value.measurement.ElectricPotentialDifference;
+import com.highmobility.autoapi.value.measurement.Energy;
+import com.highmobility.autoapi.value.measurement.EnergyEfficiency;
+import com.highmobility.autoapi.value.measurement.Frequency;
+import com.highmobility.autoapi.value.measurement.FuelEfficiency;
+import com.highmobility.autoapi.value.measurement.Illuminance;
+import com.highmobility.autoapi.value.measurement.Length;
+import com.highmobility.autoapi.value.measurement.Power;
+import com.highmobility.autoapi.value.measurement.Pressure;
+import com.highmobility.autoapi.value.measurement.Speed;
+import com.highmobility.autoapi.value.measurement.Temperature;
+import com.highmobility.autoapi.value.measurement.Torque;
+import com.highmobility.autoapi.value.measurement.Volume;
+import com.highmobility.value.Bytes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Decoders for the property value classes, filled when the class is initialised. They are used
+ * instead of looking up the value constructor or fromByte method with reflection.
+ */
+final class ValueDecoders {
+    interface ValueObjectDecoder {
+        PropertyValueObject decode(Bytes valueBytes) throws CommandParseException;
+    }
+
+    interface ByteEnumDecoder {
+        // null for an unknown byte, so that invalid values are not thrown
+        @Nullable ByteEnum decode(byte value);
+    }
+
+    private static final Map<Class<?>, ValueObjectDecoder> valueObjects = new HashMap<>();
+    private static final Map<Class<?>, ByteEnumDecoder> byteEnums = new HashMap<>();
+
+    static {
+        // value objects
+        register(Acceleration.class, Acceleration::new);
+        register(ActionItem.class, ActionItem::new);
+        register(AddressComponent.class, AddressComponent::new);
+        register(Availability.class, Availability::new);
+        register(BrakeTorqueVectoring.class, BrakeTorqueVectoring::new);
+        register(CheckControlMessage.class, CheckControlMessage::new);
+        register(ConditionBasedService.class, ConditionBasedService::new);
+        register(ConfirmedTroubleCode.class, ConfirmedTroubleCode::new);
+        register(Coordinates.class, Coordinates::new);
+        register(DashboardLight.class, DashboardLight::new);
+        register(DepartureTime.class, DepartureTime::new);
+        register(DieselExhaustFilterStatus.class, DieselExhaustFilterStatus::new);
+        register(DistanceOverTime.class, DistanceOverTime::new);
+        register(DoorPosition.class, DoorPosition::new);
+        register(DriverCardPresent.class, DriverCardPresent::new);
+        register(DriverTimeState.class, DriverTimeState::new);
+        register(DriverWorkingState.class, DriverWorkingState::new);
+        register(DrivingModeActivationPeriod.class, DrivingModeActivationPeriod::new);
+        register(DrivingModeEnergyConsumption.class, DrivingModeEnergyConsumption::new);
+        register(Failure.class, Failure::new);
+        register(HmkitVersion.class, HmkitVersion::new);
+        register(HvacWeekdayStartingTime.class, HvacWeekdayStartingTime::new);
+        register(KeyValue.class, KeyValue::new);
+        register(Light.class, Light::new);
+        register(Lock.class, Lock::new);
+        register(OemTroubleCodeValue.class, OemTroubleCodeValue::new);
+        register(PersonDetected.class, PersonDetected::new);
+        register(PriceTariff.class, PriceTariff::new);
+        register(ReadingLamp.class, ReadingLamp::new);
+        register(ReductionTime.class, ReductionTime::new);
+        register(RgbColour.class, RgbColour::new);
+        register(SeatbeltState.class, SeatbeltState::new);
+        register(SpringRate.class, SpringRate::new);
+        register(SupportedCapability.class, SupportedCapability::new);
+        register(Time.class, Time::new);
+        register(Timer.class, Timer::new);
+        register(TirePressure.class, TirePressure::new);
+        register(TirePressureStatus.class, TirePressureStatus::new);
+        register(TireTemperature.class, TireTemperature::new);
+        register(TroubleCode.class, TroubleCode::new);
+        register(Webhook.class, Webhook::new);
+        register(WheelRpm.class, WheelRpm::new);
+        register(WindowOpenPercentage.class, WindowOpenPercentage::new);
+        register(WindowPosition.class, WindowPosition::new);
+        register(Zone.class, Zone::new);
+
+        // measurements
+        register(AccelerationUnit.class, AccelerationUnit::new);
+        register(Angle.class, Angle::new);
+        register(AngularVelocity.class, AngularVelocity::new);
+        register(Duration.class, Duration::new);
+        register(ElectricCurrent.class, ElectricCurrent::new);
+        register(ElectricPotentialDifference.class, ElectricPotentialDifference::new);
+        register(Energy.class, Energy::new);
+        register(EnergyEfficiency.class, EnergyEfficiency::new);
+        register(Frequency.class, Frequency::new);
+        register(FuelEfficiency.class, FuelEfficiency::new);
+        register(Illuminance.class, Illuminance::new);
+        register(Length.class, Length::new);
+        register(Power.class, Power::new);
+        register(Pressure.class, Pressure::new);
+        register(Speed.class, Speed::new);
+        register(Temperature.class, Temperature::new);
+        register(Torque.class, Torque::new);
+        register(Volume.class, Volume::new);
+
+        // enums
+        register(Acceleration.Direction.class, Acceleration.Direction::fromByteOrNull);
+        register(ActiveSelectedState.class, ActiveSelectedState::fromByteOrNull);
+        register(ActiveState.class, ActiveState::fromByteOrNull);
+        register(AddressComponent.Type.class, AddressComponent.Type::fromByteOrNull);
+        register(Availability.AppliesPer.class, Availability.AppliesPer::fromByteOrNull);
+        register(Availability.UpdateRate.class, Availability.UpdateRate::fromByteOrNull);
+        register(Axle.class, Axle::fromByteOrNull);
+        register(Brand.class, Brand::fromByteOrNull);
+        register(Charging.ChargeMode.class, Charging.ChargeMode::fromByteOrNull);
+        register(Charging.ChargingWindowChosen.class, Charging.ChargingWindowChosen::fromByteOrNull);
+        register(Charging.CurrentType.class, Charging.CurrentType::fromByteOrNull);
+        register(Charging.PlugType.class, Charging.PlugType::fromByteOrNull);
+        register(Charging.PluggedIn.class, Charging.PluggedIn::fromByteOrNull);
+        register(Charging.PreconditioningError.class, Charging.PreconditioningError::fromByteOrNull);
+        register(Charging.SmartChargingStatus.class, Charging.SmartChargingStatus::fromByteOrNull);
+        register(Charging.StarterBatteryState.class, Charging.StarterBatteryState::fromByteOrNull);
+        register(Charging.Status.class, Charging.Status::fromByteOrNull);
+        register(ChassisSettings.SportChrono.class, ChassisSettings.SportChrono::fromByteOrNull);
+        register(ConditionBasedService.DueStatus.class, ConditionBasedService.DueStatus::fromByteOrNull);
+        register(ConnectionState.class, ConnectionState::fromByteOrNull);
+        register(CruiseControl.Limiter.class, CruiseControl.Limiter::fromByteOrNull);
+        register(DashboardLight.Name.class, DashboardLight.Name::fromByteOrNull);
+        register(Detected.class, Detected::fromByteOrNull);
+        register(DieselExhaustFilterStatus.Cleaning.class, DieselExhaustFilterStatus.Cleaning::fromByteOrNull);
+        register(DieselExhaustFilterStatus.Component.class, DieselExhaustFilterStatus.Component::fromByteOrNull);
+        register(DieselExhaustFilterStatus.Status.class, DieselExhaustFilterStatus.Status::fromByteOrNull);
+        register(DoorPosition.Location.class, DoorPosition.Location::fromByteOrNull);
+        register(DriverCardPresent.CardPresent.class, DriverCardPresent.CardPresent::fromByteOrNull);
+        register(DriverFatigue.DetectedFatigueLevel.class, DriverFatigue.DetectedFatigueLevel::fromByteOrNull);
+        register(DriverTimeState.TimeState.class, DriverTimeState.TimeState::fromByteOrNull);
+        register(DriverWorkingState.WorkingState.class, DriverWorkingState.WorkingState::fromByteOrNull);
+        register(DrivingMode.class, DrivingMode::fromByteOrNull);
+        register(EnabledState.class, EnabledState::fromByteOrNull);
+        register(Failure.Reason.class, Failure.Reason::fromByteOrNull);
+        register(FailureMessage.FailureReason.class, FailureMessage.FailureReason::fromByteOrNull);
+        register(FluidLevel.class, FluidLevel::fromByteOrNull);
+        register(Grade.class, Grade::fromByteOrNull);
+        register(HomeCharger.AuthenticationMechanism.class, HomeCharger.AuthenticationMechanism::fromByteOrNull);
+        register(HomeCharger.AuthenticationState.class, HomeCharger.AuthenticationState::fromByteOrNull);
+        register(HomeCharger.ChargingStatus.class, HomeCharger.ChargingStatus::fromByteOrNull);
+        register(HomeCharger.PlugType.class, HomeCharger.PlugType::fromByteOrNull);
+        register(HonkHornFlashLights.Flashers.class, HonkHornFlashLights.Flashers::fromByteOrNull);
+        register(Hood.Position.class, Hood.Position::fromByteOrNull);
+        register(Ignition.IgnitionState.class, Ignition.IgnitionState::fromByteOrNull);
+        register(KeyfobPosition.Location.class, KeyfobPosition.Location::fromByteOrNull);
+        register(Lights.FrontExteriorLight.class, Lights.FrontExteriorLight::fromByteOrNull);
+        register(Lights.SwitchPosition.class, Lights.SwitchPosition::fromByteOrNull);
+        register(Location.class, Location::fromByteOrNull);
+        register(LocationLongitudinal.class, LocationLongitudinal::fromByteOrNull);
+        register(LocationWheel.class, LocationWheel::fromByteOrNull);
+        register(LockState.class, LockState::fromByteOrNull);
+        register(Maintenance.TeleserviceAvailability.class, Maintenance.TeleserviceAvailability::fromByteOrNull);
+        register(NetworkSecurity.class, NetworkSecurity::fromByteOrNull);
+        register(Notifications.Clear.class, Notifications.Clear::fromByteOrNull);
+        register(OnOffState.class, OnOffState::fromByteOrNull);
+        register(ParkingTicket.Status.class, ParkingTicket.Status::fromByteOrNull);
+        register(Position.class, Position::fromByteOrNull);
+        register(PowerTakeoff.Engaged.class, PowerTakeoff.Engaged::fromByteOrNull);
+        register(PriceTariff.PricingType.class, PriceTariff.PricingType::fromByteOrNull);
+        register(Race.GearMode.class, Race.GearMode::fromByteOrNull);
+        register(Race.VehicleMoving.class, Race.VehicleMoving::fromByteOrNull);
+        register(RemoteControl.ControlMode.class, RemoteControl.ControlMode::fromByteOrNull);
+        register(RooftopControl.ConvertibleRoofState.class, RooftopControl.ConvertibleRoofState::fromByteOrNull);
+        register(RooftopControl.SunroofRainEvent.class, RooftopControl.SunroofRainEvent::fromByteOrNull);
+        register(RooftopControl.SunroofState.class, RooftopControl.SunroofState::fromByteOrNull);
+        register(RooftopControl.SunroofTiltState.class, RooftopControl.SunroofTiltState::fromByteOrNull);
+        register(SeatLocation.class, SeatLocation::fromByteOrNull);
+        register(SeatbeltState.FastenedState.class, SeatbeltState.FastenedState::fromByteOrNull);
+        register(StartStop.class, StartStop::fromByteOrNull);
+        register(Tachograph.VehicleDirection.class, Tachograph.VehicleDirection::fromByteOrNull);
+        register(Tachograph.VehicleOverspeed.class, Tachograph.VehicleOverspeed::fromByteOrNull);
+        register(TheftAlarm.EventType.class, TheftAlarm.EventType::fromByteOrNull);
+        register(TheftAlarm.LastEventLevel.class, TheftAlarm.LastEventLevel::fromByteOrNull);
+        register(TheftAlarm.LastWarningReason.class, TheftAlarm.LastWarningReason::fromByteOrNull);
+        register(TheftAlarm.Status.class, TheftAlarm.Status::fromByteOrNull);
+        register(Timer.TimerType.class, Timer.TimerType::fromByteOrNull);
+        register(TirePressureStatus.Status.class, TirePressureStatus.Status::fromByteOrNull);
+        register(Trips.Type.class, Trips.Type::fromByteOrNull);
+        register(TroubleCode.System.class, TroubleCode.System::fromByteOrNull);
+        register(VehicleInformation.DisplayUnit.class, VehicleInformation.DisplayUnit::fromByteOrNull);
+        register(VehicleInformation.Drive.class, VehicleInformation.Drive::fromByteOrNull);
+        register(VehicleInformation.DriverSeatLocation.class, VehicleInformation.DriverSeatLocation::fromByteOrNull);
+        register(VehicleInformation.Gearbox.class, VehicleInformation.Gearbox::fromByteOrNull);
+        register(VehicleInformation.Powertrain.class, VehicleInformation.Powertrain::fromByteOrNull);
+        register(VehicleInformation.Timeformat.class, VehicleInformation.Timeformat::fromByteOrNull);
+        register(VideoHandover.Screen.class, VideoHandover.Screen::fromByteOrNull);
+        register(WakeUp.Status.class, WakeUp.Status::fromByteOrNull);
+        register(Webhook.Available.class, Webhook.Available::fromByteOrNull);
+        register(Webhook.Event.class, Webhook.Event::fromByteOrNull);
+        register(Weekday.class, Weekday::fromByteOrNull);
+        register(WindowLocation.class, WindowLocation::fromByteOrNull);
+        register(WindowPosition.Position.class, WindowPosition.Position::fromByteOrNull);
+        register(Windscreen.WindscreenDamage.class, Windscreen.WindscreenDamage::fromByteOrNull);
+        register(Windscreen.WindscreenNeedsReplacement.class, Windscreen.WindscreenNeedsReplacement::fromByteOrNull);
+        register(Windscreen.WipersIntensity.class, Windscreen.WipersIntensity::fromByteOrNull);
+        register(Windscreen.WipersStatus.class, Windscreen.WipersStatus::fromByteOrNull);
+    }
+
+    private ValueDecoders() {
+    }
+
+    @Nullable static ValueObjectDecoder getValueObjectDecoder(Class<?> valueClass) {
+        return valueObjects.get(valueClass);
+    }
+
+    @Nullable static ByteEnumDecoder getByteEnumDecoder(Class<?> valueClass) {
+        return byteEnums.get(valueClass);
+    }
+
+    private static void register(Class<? extends PropertyValueObject> valueClass,
+                                 ValueObjectDecoder decoder) {
+        valueObjects.put(valueClass, decoder);
+    }
+
+    private static void register(Class<? extends ByteEnum> valueClass, ByteEnumDecoder decoder) {
+        byteEnums.put(valueClass, decoder);
+    }
+}
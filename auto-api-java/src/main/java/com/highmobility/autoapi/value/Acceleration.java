@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.autoapi.value.measurement.AccelerationUnit;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class Acceleration extends PropertyValueObject {
@@ -89,17 +91,25 @@ public class Acceleration extends PropertyValueObject {
         FRONT_LATERAL((byte) 0x02),
         REAR_LATERAL((byte) 0x03);
     
-        public static Direction fromByte(byte byteValue) throws CommandParseException {
-            Direction[] values = Direction.values();
+        private static final Direction[] byByte = new Direction[256];
+    
+        static {
+            for (Direction state : Direction.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Direction state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Direction fromByte(byte byteValue) throws CommandParseException {
+            Direction state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Acceleration.Direction does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Acceleration.Direction does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Direction fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
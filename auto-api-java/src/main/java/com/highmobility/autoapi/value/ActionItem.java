@@ -55,10 +55,10 @@ public class ActionItem extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(id, 1));
+        Property.writeInt(bytes, bytePosition, id, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(name), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(name), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(name));
     }
@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum ActiveSelectedState implements ByteEnum {
@@ -33,17 +35,25 @@ public enum ActiveSelectedState implements ByteEnum {
     INACTIVE_NOT_SELECTED((byte) 0x01),
     ACTIVE((byte) 0x02);
 
-    public static ActiveSelectedState fromByte(byte byteValue) throws CommandParseException {
-        ActiveSelectedState[] values = ActiveSelectedState.values();
+    private static final ActiveSelectedState[] byByte = new ActiveSelectedState[256];
+
+    static {
+        for (ActiveSelectedState state : ActiveSelectedState.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            ActiveSelectedState state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static ActiveSelectedState fromByte(byte byteValue) throws CommandParseException {
+        ActiveSelectedState state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("ActiveSelectedState does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("ActiveSelectedState does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static ActiveSelectedState fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum ActiveState implements ByteEnum {
     INACTIVE((byte) 0x00),
     ACTIVE((byte) 0x01);
 
-    public static ActiveState fromByte(byte byteValue) throws CommandParseException {
-        ActiveState[] values = ActiveState.values();
+    private static final ActiveState[] byByte = new ActiveState[256];
+
+    static {
+        for (ActiveState state : ActiveState.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            ActiveState state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static ActiveState fromByte(byte byteValue) throws CommandParseException {
+        ActiveState state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("ActiveState does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("ActiveState does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static ActiveState fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
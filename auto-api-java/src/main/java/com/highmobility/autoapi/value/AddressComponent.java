@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class AddressComponent extends PropertyValueObject {
@@ -61,7 +63,7 @@ public class AddressComponent extends PropertyValueObject {
         set(bytePosition, type.getByte());
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(value), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(value), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(value));
     }
@@ -94,17 +96,25 @@ public class AddressComponent extends PropertyValueObject {
         STATE_PROVINCE((byte) 0x06),
         OTHER((byte) 0x07);
     
-        public static Type fromByte(byte byteValue) throws CommandParseException {
-            Type[] values = Type.values();
+        private static final Type[] byByte = new Type[256];
+    
+        static {
+            for (Type state : Type.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Type state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Type fromByte(byte byteValue) throws CommandParseException {
+            Type state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("AddressComponent.Type does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("AddressComponent.Type does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Type fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
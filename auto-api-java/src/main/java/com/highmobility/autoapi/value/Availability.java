@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.autoapi.value.measurement.Frequency;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class Availability extends PropertyValueObject {
@@ -128,17 +130,25 @@ public class Availability extends PropertyValueObject {
          */
         ON_CHANGE((byte) 0x06);
     
-        public static UpdateRate fromByte(byte byteValue) throws CommandParseException {
-            UpdateRate[] values = UpdateRate.values();
+        private static final UpdateRate[] byByte = new UpdateRate[256];
+    
+        static {
+            for (UpdateRate state : UpdateRate.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                UpdateRate state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static UpdateRate fromByte(byte byteValue) throws CommandParseException {
+            UpdateRate state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Availability.UpdateRate does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Availability.UpdateRate does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static UpdateRate fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -156,17 +166,25 @@ public class Availability extends PropertyValueObject {
         APP((byte) 0x00),
         VEHICLE((byte) 0x01);
     
-        public static AppliesPer fromByte(byte byteValue) throws CommandParseException {
-            AppliesPer[] values = AppliesPer.values();
+        private static final AppliesPer[] byByte = new AppliesPer[256];
     
-            for (int i = 0; i < values.length; i++) {
-                AppliesPer state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (AppliesPer state : AppliesPer.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Availability.AppliesPer does not contain: " + hexFromByte(byteValue));
+        public static AppliesPer fromByte(byte byteValue) throws CommandParseException {
+            AppliesPer state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Availability.AppliesPer does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static AppliesPer fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum Axle implements ByteEnum {
     FRONT((byte) 0x00),
     REAR((byte) 0x01);
 
-    public static Axle fromByte(byte byteValue) throws CommandParseException {
-        Axle[] values = Axle.values();
+    private static final Axle[] byByte = new Axle[256];
+
+    static {
+        for (Axle state : Axle.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            Axle state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static Axle fromByte(byte byteValue) throws CommandParseException {
+        Axle state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("Axle does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("Axle does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static Axle fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -50,9 +50,17 @@ enum class Brand(val id: Byte):ByteEnum {
     EMULATOR(0x2a);
 
     companion object {
-        private val map = values().associateBy(Brand::id)
+        private val byByte = arrayOfNulls<Brand>(256).also { table ->
+            values().forEach { table[it.id.toInt() and 0xFF] = it }
+        }
+
         fun fromInt(type: Byte) =
-            map[type] ?: throw CommandParseException("No brand with id %s", hexFromByte(type))
+            fromByteOrNull(type) ?: throw CommandParseException("No brand with id %s", hexFromByte(type))
+
+        /**
+         * @return The brand, or null if there is none for the byte.
+         */
+        @JvmStatic fun fromByteOrNull(type: Byte): Brand? = byByte[type.toInt() and 0xFF]
     }
 
     override fun getByte(): Byte = id
@@ -74,18 +74,18 @@ public class CheckControlMessage extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(ID, 2));
+        Property.writeInt(bytes, bytePosition, ID, 2);
         bytePosition += 2;
 
         set(bytePosition, remainingTime);
         bytePosition += remainingTime.getLength();
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(text), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(text), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(text));
         bytePosition += Property.getUtf8Length(text);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(status), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(status), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(status));
     }
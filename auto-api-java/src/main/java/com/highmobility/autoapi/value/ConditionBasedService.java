@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class ConditionBasedService extends PropertyValueObject {
@@ -94,24 +96,24 @@ public class ConditionBasedService extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(year, 2));
+        Property.writeInt(bytes, bytePosition, year, 2);
         bytePosition += 2;
 
-        set(bytePosition, Property.intToBytes(month, 1));
+        Property.writeInt(bytes, bytePosition, month, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(id, 2));
+        Property.writeInt(bytes, bytePosition, id, 2);
         bytePosition += 2;
 
         set(bytePosition, dueStatus.getByte());
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(text), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(text), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(text));
         bytePosition += Property.getUtf8Length(text);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(description), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(description), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(description));
     }
@@ -153,17 +155,25 @@ public class ConditionBasedService extends PropertyValueObject {
         PENDING((byte) 0x01),
         OVERDUE((byte) 0x02);
     
-        public static DueStatus fromByte(byte byteValue) throws CommandParseException {
-            DueStatus[] values = DueStatus.values();
+        private static final DueStatus[] byByte = new DueStatus[256];
+    
+        static {
+            for (DueStatus state : DueStatus.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                DueStatus state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static DueStatus fromByte(byte byteValue) throws CommandParseException {
+            DueStatus state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("ConditionBasedService.DueStatus does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("ConditionBasedService.DueStatus does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static DueStatus fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
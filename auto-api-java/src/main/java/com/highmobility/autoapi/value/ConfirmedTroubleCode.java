@@ -73,22 +73,22 @@ public class ConfirmedTroubleCode extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(ID), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(ID), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(ID));
         bytePosition += Property.getUtf8Length(ID);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(ecuAddress), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(ecuAddress), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(ecuAddress));
         bytePosition += Property.getUtf8Length(ecuAddress);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(ecuVariantName), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(ecuVariantName), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(ecuVariantName));
         bytePosition += Property.getUtf8Length(ecuVariantName);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(status), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(status), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(status));
     }
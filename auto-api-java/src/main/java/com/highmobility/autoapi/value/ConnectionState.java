@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum ConnectionState implements ByteEnum {
     DISCONNECTED((byte) 0x00),
     CONNECTED((byte) 0x01);
 
-    public static ConnectionState fromByte(byte byteValue) throws CommandParseException {
-        ConnectionState[] values = ConnectionState.values();
+    private static final ConnectionState[] byByte = new ConnectionState[256];
+
+    static {
+        for (ConnectionState state : ConnectionState.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            ConnectionState state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static ConnectionState fromByte(byte byteValue) throws CommandParseException {
+        ConnectionState state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("ConnectionState does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("ConnectionState does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static ConnectionState fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -57,10 +57,10 @@ public class Coordinates extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.doubleToBytes(latitude));
+        Property.writeDouble(bytes, bytePosition, latitude);
         bytePosition += 8;
 
-        set(bytePosition, Property.doubleToBytes(longitude));
+        Property.writeDouble(bytes, bytePosition, longitude);
     }
 
     public Coordinates(Bytes valueBytes) throws CommandParseException {
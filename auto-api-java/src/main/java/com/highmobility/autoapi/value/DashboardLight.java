@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class DashboardLight extends PropertyValueObject {
@@ -176,17 +178,25 @@ public class DashboardLight extends PropertyValueObject {
         BATTERY_LOW_WARNING((byte) 0x5b),
         BRAKE_FLUID_WARNING((byte) 0x5c);
     
-        public static Name fromByte(byte byteValue) throws CommandParseException {
-            Name[] values = Name.values();
+        private static final Name[] byByte = new Name[256];
+    
+        static {
+            for (Name state : Name.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Name state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Name fromByte(byte byteValue) throws CommandParseException {
+            Name state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DashboardLight.Name does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DashboardLight.Name does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Name fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
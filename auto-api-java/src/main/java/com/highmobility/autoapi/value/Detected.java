@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum Detected implements ByteEnum {
     NOT_DETECTED((byte) 0x00),
     DETECTED((byte) 0x01);
 
-    public static Detected fromByte(byte byteValue) throws CommandParseException {
-        Detected[] values = Detected.values();
+    private static final Detected[] byByte = new Detected[256];
+
+    static {
+        for (Detected state : Detected.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            Detected state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static Detected fromByte(byte byteValue) throws CommandParseException {
+        Detected state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("Detected does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("Detected does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static Detected fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
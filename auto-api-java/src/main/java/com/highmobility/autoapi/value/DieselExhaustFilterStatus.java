@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class DieselExhaustFilterStatus extends PropertyValueObject {
@@ -103,17 +105,25 @@ public class DieselExhaustFilterStatus extends PropertyValueObject {
         AT_LIMIT((byte) 0x03),
         OVER_LIMIT((byte) 0x04);
     
-        public static Status fromByte(byte byteValue) throws CommandParseException {
-            Status[] values = Status.values();
+        private static final Status[] byByte = new Status[256];
+    
+        static {
+            for (Status state : Status.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Status state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Status fromByte(byte byteValue) throws CommandParseException {
+            Status state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DieselExhaustFilterStatus.Status does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DieselExhaustFilterStatus.Status does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Status fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -134,17 +144,25 @@ public class DieselExhaustFilterStatus extends PropertyValueObject {
         OVERBOOST_CODE_REGULATOR((byte) 0x03),
         OFF_BOARD_REGENERATION((byte) 0x04);
     
-        public static Component fromByte(byte byteValue) throws CommandParseException {
-            Component[] values = Component.values();
+        private static final Component[] byByte = new Component[256];
+    
+        static {
+            for (Component state : Component.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Component state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Component fromByte(byte byteValue) throws CommandParseException {
+            Component state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DieselExhaustFilterStatus.Component does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DieselExhaustFilterStatus.Component does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Component fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -164,17 +182,25 @@ public class DieselExhaustFilterStatus extends PropertyValueObject {
         COMPLETE((byte) 0x02),
         INTERRUPTED((byte) 0x03);
     
-        public static Cleaning fromByte(byte byteValue) throws CommandParseException {
-            Cleaning[] values = Cleaning.values();
+        private static final Cleaning[] byByte = new Cleaning[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Cleaning state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Cleaning state : Cleaning.values()) byByte[state.getByte() & 0xFF] = state;
+        }
+    
+        public static Cleaning fromByte(byte byteValue) throws CommandParseException {
+            Cleaning state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DieselExhaustFilterStatus.Cleaning does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DieselExhaustFilterStatus.Cleaning does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Cleaning fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class DoorPosition extends PropertyValueObject {
@@ -88,17 +90,25 @@ public class DoorPosition extends PropertyValueObject {
         REAR_LEFT((byte) 0x03),
         ALL((byte) 0x05);
     
-        public static Location fromByte(byte byteValue) throws CommandParseException {
-            Location[] values = Location.values();
+        private static final Location[] byByte = new Location[256];
+    
+        static {
+            for (Location state : Location.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Location state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Location fromByte(byte byteValue) throws CommandParseException {
+            Location state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DoorPosition.Location does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DoorPosition.Location does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Location fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class DriverCardPresent extends PropertyValueObject {
@@ -60,7 +62,7 @@ public class DriverCardPresent extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(driverNumber, 1));
+        Property.writeInt(bytes, bytePosition, driverNumber, 1);
         bytePosition += 1;
 
         set(bytePosition, cardPresent.getByte());
@@ -86,17 +88,25 @@ public class DriverCardPresent extends PropertyValueObject {
         NOT_PRESENT((byte) 0x00),
         PRESENT((byte) 0x01);
     
-        public static CardPresent fromByte(byte byteValue) throws CommandParseException {
-            CardPresent[] values = CardPresent.values();
+        private static final CardPresent[] byByte = new CardPresent[256];
+    
+        static {
+            for (CardPresent state : CardPresent.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                CardPresent state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static CardPresent fromByte(byte byteValue) throws CommandParseException {
+            CardPresent state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DriverCardPresent.CardPresent does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DriverCardPresent.CardPresent does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static CardPresent fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class DriverTimeState extends PropertyValueObject {
@@ -60,7 +62,7 @@ public class DriverTimeState extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(driverNumber, 1));
+        Property.writeInt(bytes, bytePosition, driverNumber, 1);
         bytePosition += 1;
 
         set(bytePosition, timeState.getByte());
@@ -91,17 +93,25 @@ public class DriverTimeState extends PropertyValueObject {
         FIFTEEN_MIN_BEFORE_SIXTEEN((byte) 0x05),
         SIXTEEN_REACHED((byte) 0x06);
     
-        public static TimeState fromByte(byte byteValue) throws CommandParseException {
-            TimeState[] values = TimeState.values();
+        private static final TimeState[] byByte = new TimeState[256];
+    
+        static {
+            for (TimeState state : TimeState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                TimeState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static TimeState fromByte(byte byteValue) throws CommandParseException {
+            TimeState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DriverTimeState.TimeState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DriverTimeState.TimeState does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static TimeState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
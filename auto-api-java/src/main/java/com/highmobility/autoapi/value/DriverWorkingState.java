@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class DriverWorkingState extends PropertyValueObject {
@@ -60,7 +62,7 @@ public class DriverWorkingState extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(driverNumber, 1));
+        Property.writeInt(bytes, bytePosition, driverNumber, 1);
         bytePosition += 1;
 
         set(bytePosition, workingState.getByte());
@@ -88,17 +90,25 @@ public class DriverWorkingState extends PropertyValueObject {
         WORKING((byte) 0x02),
         DRIVING((byte) 0x03);
     
-        public static WorkingState fromByte(byte byteValue) throws CommandParseException {
-            WorkingState[] values = WorkingState.values();
+        private static final WorkingState[] byByte = new WorkingState[256];
+    
+        static {
+            for (WorkingState state : WorkingState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                WorkingState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static WorkingState fromByte(byte byteValue) throws CommandParseException {
+            WorkingState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("DriverWorkingState.WorkingState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("DriverWorkingState.WorkingState does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static WorkingState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum DrivingMode implements ByteEnum {
@@ -36,17 +38,25 @@ public enum DrivingMode implements ByteEnum {
     ECOPLUS((byte) 0x04),
     COMFORT((byte) 0x05);
 
-    public static DrivingMode fromByte(byte byteValue) throws CommandParseException {
-        DrivingMode[] values = DrivingMode.values();
+    private static final DrivingMode[] byByte = new DrivingMode[256];
+
+    static {
+        for (DrivingMode state : DrivingMode.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            DrivingMode state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static DrivingMode fromByte(byte byteValue) throws CommandParseException {
+        DrivingMode state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("DrivingMode does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("DrivingMode does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static DrivingMode fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -60,7 +60,7 @@ public class DrivingModeActivationPeriod extends PropertyValueObject {
         set(bytePosition, drivingMode.getByte());
         bytePosition += 1;
 
-        set(bytePosition, Property.doubleToBytes(period));
+        Property.writeDouble(bytes, bytePosition, period);
     }
 
     public DrivingModeActivationPeriod(Bytes valueBytes) throws CommandParseException {
@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum EnabledState implements ByteEnum {
     DISABLED((byte) 0x00),
     ENABLED((byte) 0x01);
 
-    public static EnabledState fromByte(byte byteValue) throws CommandParseException {
-        EnabledState[] values = EnabledState.values();
+    private static final EnabledState[] byByte = new EnabledState[256];
+
+    static {
+        for (EnabledState state : EnabledState.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            EnabledState state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static EnabledState fromByte(byte byteValue) throws CommandParseException {
+        EnabledState state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("EnabledState does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("EnabledState does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static EnabledState fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class Failure extends PropertyValueObject {
@@ -61,7 +63,7 @@ public class Failure extends PropertyValueObject {
         set(bytePosition, reason.getByte());
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(description), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(description), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(description));
     }
@@ -93,17 +95,25 @@ public class Failure extends PropertyValueObject {
         PENDING((byte) 0x05),
         OEM_ERROR((byte) 0x06);
     
-        public static Reason fromByte(byte byteValue) throws CommandParseException {
-            Reason[] values = Reason.values();
+        private static final Reason[] byByte = new Reason[256];
+    
+        static {
+            for (Reason state : Reason.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Reason state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Reason fromByte(byte byteValue) throws CommandParseException {
+            Reason state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Failure.Reason does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Failure.Reason does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Reason fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
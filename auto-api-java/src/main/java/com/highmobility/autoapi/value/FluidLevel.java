@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum FluidLevel implements ByteEnum {
     LOW((byte) 0x00),
     FILLED((byte) 0x01);
 
-    public static FluidLevel fromByte(byte byteValue) throws CommandParseException {
-        FluidLevel[] values = FluidLevel.values();
+    private static final FluidLevel[] byByte = new FluidLevel[256];
+
+    static {
+        for (FluidLevel state : FluidLevel.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            FluidLevel state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static FluidLevel fromByte(byte byteValue) throws CommandParseException {
+        FluidLevel state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("FluidLevel does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("FluidLevel does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static FluidLevel fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum Grade implements ByteEnum {
@@ -33,17 +35,25 @@ public enum Grade implements ByteEnum {
     NORMAL((byte) 0x01),
     WARNING((byte) 0x02);
 
-    public static Grade fromByte(byte byteValue) throws CommandParseException {
-        Grade[] values = Grade.values();
+    private static final Grade[] byByte = new Grade[256];
+
+    static {
+        for (Grade state : Grade.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            Grade state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static Grade fromByte(byte byteValue) throws CommandParseException {
+        Grade state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("Grade does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("Grade does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static Grade fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
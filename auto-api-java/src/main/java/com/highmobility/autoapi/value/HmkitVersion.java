@@ -66,13 +66,13 @@ public class HmkitVersion extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(major, 1));
+        Property.writeInt(bytes, bytePosition, major, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(minor, 1));
+        Property.writeInt(bytes, bytePosition, minor, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(patch, 1));
+        Property.writeInt(bytes, bytePosition, patch, 1);
     }
 
     public HmkitVersion(Bytes valueBytes) throws CommandParseException {
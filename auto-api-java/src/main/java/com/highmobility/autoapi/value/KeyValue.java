@@ -55,12 +55,12 @@ public class KeyValue extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(key), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(key), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(key));
         bytePosition += Property.getUtf8Length(key);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(value), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(value), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(value));
     }
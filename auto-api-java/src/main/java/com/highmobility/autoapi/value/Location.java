@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum Location implements ByteEnum {
@@ -34,17 +36,25 @@ public enum Location implements ByteEnum {
     REAR_RIGHT((byte) 0x02),
     REAR_LEFT((byte) 0x03);
 
-    public static Location fromByte(byte byteValue) throws CommandParseException {
-        Location[] values = Location.values();
+    private static final Location[] byByte = new Location[256];
+
+    static {
+        for (Location state : Location.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            Location state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static Location fromByte(byte byteValue) throws CommandParseException {
+        Location state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("Location does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("Location does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static Location fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
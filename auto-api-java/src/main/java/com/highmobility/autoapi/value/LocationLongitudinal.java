@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum LocationLongitudinal implements ByteEnum {
     FRONT((byte) 0x00),
     REAR((byte) 0x01);
 
-    public static LocationLongitudinal fromByte(byte byteValue) throws CommandParseException {
-        LocationLongitudinal[] values = LocationLongitudinal.values();
+    private static final LocationLongitudinal[] byByte = new LocationLongitudinal[256];
+
+    static {
+        for (LocationLongitudinal state : LocationLongitudinal.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            LocationLongitudinal state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static LocationLongitudinal fromByte(byte byteValue) throws CommandParseException {
+        LocationLongitudinal state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("LocationLongitudinal does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("LocationLongitudinal does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static LocationLongitudinal fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum LocationWheel implements ByteEnum {
@@ -36,17 +38,25 @@ public enum LocationWheel implements ByteEnum {
     REAR_RIGHT_OUTER((byte) 0x04),
     REAR_LEFT_OUTER((byte) 0x05);
 
-    public static LocationWheel fromByte(byte byteValue) throws CommandParseException {
-        LocationWheel[] values = LocationWheel.values();
+    private static final LocationWheel[] byByte = new LocationWheel[256];
+
+    static {
+        for (LocationWheel state : LocationWheel.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            LocationWheel state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static LocationWheel fromByte(byte byteValue) throws CommandParseException {
+        LocationWheel state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("LocationWheel does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("LocationWheel does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static LocationWheel fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum LockState implements ByteEnum {
     UNLOCKED((byte) 0x00),
     LOCKED((byte) 0x01);
 
-    public static LockState fromByte(byte byteValue) throws CommandParseException {
-        LockState[] values = LockState.values();
+    private static final LockState[] byByte = new LockState[256];
+
+    static {
+        for (LockState state : LockState.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            LockState state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static LockState fromByte(byte byteValue) throws CommandParseException {
+        LockState state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("LockState does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("LockState does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static LockState fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
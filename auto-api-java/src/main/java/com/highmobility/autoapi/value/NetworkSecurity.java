@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum NetworkSecurity implements ByteEnum {
@@ -34,17 +36,25 @@ public enum NetworkSecurity implements ByteEnum {
     WPA((byte) 0x02),
     WPA2_PERSONAL((byte) 0x03);
 
-    public static NetworkSecurity fromByte(byte byteValue) throws CommandParseException {
-        NetworkSecurity[] values = NetworkSecurity.values();
+    private static final NetworkSecurity[] byByte = new NetworkSecurity[256];
+
+    static {
+        for (NetworkSecurity state : NetworkSecurity.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            NetworkSecurity state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static NetworkSecurity fromByte(byte byteValue) throws CommandParseException {
+        NetworkSecurity state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("NetworkSecurity does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("NetworkSecurity does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static NetworkSecurity fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
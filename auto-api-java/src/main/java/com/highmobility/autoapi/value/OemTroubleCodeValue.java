@@ -55,12 +55,12 @@ public class OemTroubleCodeValue extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(ID), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(ID), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(ID));
         bytePosition += Property.getUtf8Length(ID);
 
-        set(bytePosition, Property.intToBytes(keyValue.getLength(), 2));
+        Property.writeInt(bytes, bytePosition, keyValue.getLength(), 2);
         bytePosition += 2;
         set(bytePosition, keyValue);
     }
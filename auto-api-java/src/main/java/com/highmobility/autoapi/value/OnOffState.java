@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum OnOffState implements ByteEnum {
     OFF((byte) 0x00),
     ON((byte) 0x01);
 
-    public static OnOffState fromByte(byte byteValue) throws CommandParseException {
-        OnOffState[] values = OnOffState.values();
+    private static final OnOffState[] byByte = new OnOffState[256];
+
+    static {
+        for (OnOffState state : OnOffState.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            OnOffState state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static OnOffState fromByte(byte byteValue) throws CommandParseException {
+        OnOffState state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("OnOffState does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("OnOffState does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static OnOffState fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
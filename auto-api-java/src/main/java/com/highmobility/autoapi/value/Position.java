@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum Position implements ByteEnum {
     CLOSED((byte) 0x00),
     OPEN((byte) 0x01);
 
-    public static Position fromByte(byte byteValue) throws CommandParseException {
-        Position[] values = Position.values();
+    private static final Position[] byByte = new Position[256];
+
+    static {
+        for (Position state : Position.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            Position state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static Position fromByte(byte byteValue) throws CommandParseException {
+        Position state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("Position does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("Position does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static Position fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
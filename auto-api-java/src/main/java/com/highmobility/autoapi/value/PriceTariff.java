@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class PriceTariff extends PropertyValueObject {
@@ -70,10 +72,10 @@ public class PriceTariff extends PropertyValueObject {
         set(bytePosition, pricingType.getByte());
         bytePosition += 1;
 
-        set(bytePosition, Property.doubleToBytes(price));
+        Property.writeDouble(bytes, bytePosition, price);
         bytePosition += 8;
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(currency), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(currency), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(currency));
     }
@@ -104,17 +106,25 @@ public class PriceTariff extends PropertyValueObject {
         PER_MINUTE((byte) 0x01),
         PER_KWH((byte) 0x02);
     
-        public static PricingType fromByte(byte byteValue) throws CommandParseException {
-            PricingType[] values = PricingType.values();
+        private static final PricingType[] byByte = new PricingType[256];
+    
+        static {
+            for (PricingType state : PricingType.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                PricingType state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static PricingType fromByte(byte byteValue) throws CommandParseException {
+            PricingType state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("PriceTariff.PricingType does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("PriceTariff.PricingType does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static PricingType fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -66,13 +66,13 @@ public class RgbColour extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(red, 1));
+        Property.writeInt(bytes, bytePosition, red, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(green, 1));
+        Property.writeInt(bytes, bytePosition, green, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(blue, 1));
+        Property.writeInt(bytes, bytePosition, blue, 1);
     }
 
     public RgbColour(Bytes valueBytes) throws CommandParseException {
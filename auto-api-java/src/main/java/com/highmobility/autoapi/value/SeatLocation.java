@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum SeatLocation implements ByteEnum {
@@ -35,17 +37,25 @@ public enum SeatLocation implements ByteEnum {
     REAR_LEFT((byte) 0x03),
     REAR_CENTER((byte) 0x04);
 
-    public static SeatLocation fromByte(byte byteValue) throws CommandParseException {
-        SeatLocation[] values = SeatLocation.values();
+    private static final SeatLocation[] byByte = new SeatLocation[256];
+
+    static {
+        for (SeatLocation state : SeatLocation.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            SeatLocation state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static SeatLocation fromByte(byte byteValue) throws CommandParseException {
+        SeatLocation state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("SeatLocation does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("SeatLocation does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static SeatLocation fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
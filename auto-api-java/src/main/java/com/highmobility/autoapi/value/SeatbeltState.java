@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class SeatbeltState extends PropertyValueObject {
@@ -85,17 +87,25 @@ public class SeatbeltState extends PropertyValueObject {
         NOT_FASTENED((byte) 0x00),
         FASTENED((byte) 0x01);
     
-        public static FastenedState fromByte(byte byteValue) throws CommandParseException {
-            FastenedState[] values = FastenedState.values();
+        private static final FastenedState[] byByte = new FastenedState[256];
+    
+        static {
+            for (FastenedState state : FastenedState.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                FastenedState state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static FastenedState fromByte(byte byteValue) throws CommandParseException {
+            FastenedState state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("SeatbeltState.FastenedState does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("SeatbeltState.FastenedState does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static FastenedState fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -26,23 +26,33 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum StartStop implements ByteEnum {
     START((byte) 0x00),
     STOP((byte) 0x01);
 
-    public static StartStop fromByte(byte byteValue) throws CommandParseException {
-        StartStop[] values = StartStop.values();
+    private static final StartStop[] byByte = new StartStop[256];
+
+    static {
+        for (StartStop state : StartStop.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            StartStop state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static StartStop fromByte(byte byteValue) throws CommandParseException {
+        StartStop state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("StartStop does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("StartStop does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static StartStop fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
@@ -55,10 +55,10 @@ public class SupportedCapability extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(capabilityID, 2));
+        Property.writeInt(bytes, bytePosition, capabilityID, 2);
         bytePosition += 2;
 
-        set(bytePosition, Property.intToBytes(supportedPropertyIDs.getLength(), 2));
+        Property.writeInt(bytes, bytePosition, supportedPropertyIDs.getLength(), 2);
         bytePosition += 2;
         set(bytePosition, supportedPropertyIDs);
     }
@@ -57,10 +57,10 @@ public class Time extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(hour, 1));
+        Property.writeInt(bytes, bytePosition, hour, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(minute, 1));
+        Property.writeInt(bytes, bytePosition, minute, 1);
     }
 
     public Time(Bytes valueBytes) throws CommandParseException {
@@ -31,6 +31,8 @@ import com.highmobility.value.Bytes;
 
 import java.util.Calendar;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class Timer extends PropertyValueObject {
@@ -89,17 +91,25 @@ public class Timer extends PropertyValueObject {
         PREFERRED_END_TIME((byte) 0x01),
         DEPARTURE_DATE((byte) 0x02);
     
-        public static TimerType fromByte(byte byteValue) throws CommandParseException {
-            TimerType[] values = TimerType.values();
+        private static final TimerType[] byByte = new TimerType[256];
+    
+        static {
+            for (TimerType state : TimerType.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                TimerType state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static TimerType fromByte(byte byteValue) throws CommandParseException {
+            TimerType state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Timer.TimerType does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Timer.TimerType does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static TimerType fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -29,6 +29,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class TroubleCode extends PropertyValueObject {
@@ -85,20 +87,20 @@ public class TroubleCode extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(occurrences, 1));
+        Property.writeInt(bytes, bytePosition, occurrences, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(ID), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(ID), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(ID));
         bytePosition += Property.getUtf8Length(ID);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(ecuID), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(ecuID), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(ecuID));
         bytePosition += Property.getUtf8Length(ecuID);
 
-        set(bytePosition, Property.intToBytes(Property.getUtf8Length(status), 2));
+        Property.writeInt(bytes, bytePosition, Property.getUtf8Length(status), 2);
         bytePosition += 2;
         set(bytePosition, Property.stringToBytes(status));
         bytePosition += Property.getUtf8Length(status);
@@ -144,17 +146,25 @@ public class TroubleCode extends PropertyValueObject {
         POWERTRAIN((byte) 0x03),
         NETWORK((byte) 0x04);
     
-        public static System fromByte(byte byteValue) throws CommandParseException {
-            System[] values = System.values();
+        private static final System[] byByte = new System[256];
+    
+        static {
+            for (System state : System.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                System state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static System fromByte(byte byteValue) throws CommandParseException {
+            System state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("TroubleCode.System does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("TroubleCode.System does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static System fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class Webhook extends PropertyValueObject {
@@ -85,17 +87,25 @@ public class Webhook extends PropertyValueObject {
         UNAVAILABLE((byte) 0x00),
         AVAILABLE((byte) 0x01);
     
-        public static Available fromByte(byte byteValue) throws CommandParseException {
-            Available[] values = Available.values();
+        private static final Available[] byByte = new Available[256];
+    
+        static {
+            for (Available state : Available.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Available state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Available fromByte(byte byteValue) throws CommandParseException {
+            Available state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Webhook.Available does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("Webhook.Available does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Available fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -135,17 +145,25 @@ public class Webhook extends PropertyValueObject {
          */
         TIRE_PRESSURE_CHANGED((byte) 0x05);
     
-        public static Event fromByte(byte byteValue) throws CommandParseException {
-            Event[] values = Event.values();
+        private static final Event[] byByte = new Event[256];
     
-            for (int i = 0; i < values.length; i++) {
-                Event state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        static {
+            for (Event state : Event.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            throw new CommandParseException("Webhook.Event does not contain: " + hexFromByte(byteValue));
+        public static Event fromByte(byte byteValue) throws CommandParseException {
+            Event state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("Webhook.Event does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
+    
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Event fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
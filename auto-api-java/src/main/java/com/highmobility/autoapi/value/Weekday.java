@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum Weekday implements ByteEnum {
@@ -38,17 +40,25 @@ public enum Weekday implements ByteEnum {
     SUNDAY((byte) 0x06),
     AUTOMATIC((byte) 0x07);
 
-    public static Weekday fromByte(byte byteValue) throws CommandParseException {
-        Weekday[] values = Weekday.values();
+    private static final Weekday[] byByte = new Weekday[256];
+
+    static {
+        for (Weekday state : Weekday.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            Weekday state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static Weekday fromByte(byte byteValue) throws CommandParseException {
+        Weekday state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("Weekday does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("Weekday does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static Weekday fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
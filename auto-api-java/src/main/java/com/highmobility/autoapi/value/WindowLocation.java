@@ -26,6 +26,8 @@ package com.highmobility.autoapi.value;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.property.ByteEnum;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public enum WindowLocation implements ByteEnum {
@@ -35,17 +37,25 @@ public enum WindowLocation implements ByteEnum {
     REAR_LEFT((byte) 0x03),
     HATCH((byte) 0x04);
 
-    public static WindowLocation fromByte(byte byteValue) throws CommandParseException {
-        WindowLocation[] values = WindowLocation.values();
+    private static final WindowLocation[] byByte = new WindowLocation[256];
+
+    static {
+        for (WindowLocation state : WindowLocation.values()) byByte[state.getByte() & 0xFF] = state;
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            WindowLocation state = values[i];
-            if (state.getByte() == byteValue) {
-                return state;
-            }
-        }
+    public static WindowLocation fromByte(byte byteValue) throws CommandParseException {
+        WindowLocation state = byByte[byteValue & 0xFF];
+        if (state == null)
+            throw new CommandParseException("WindowLocation does not contain: " + hexFromByte(byteValue));
+        return state;
+    }
 
-        throw new CommandParseException("WindowLocation does not contain: " + hexFromByte(byteValue));
+    /**
+     * @param byteValue The byte value.
+     * @return The enum value, or null if there is none for the byte.
+     */
+    @Nullable public static WindowLocation fromByteOrNull(byte byteValue) {
+        return byByte[byteValue & 0xFF];
     }
 
     private final byte value;
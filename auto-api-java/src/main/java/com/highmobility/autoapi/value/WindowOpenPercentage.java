@@ -60,7 +60,7 @@ public class WindowOpenPercentage extends PropertyValueObject {
         set(bytePosition, location.getByte());
         bytePosition += 1;
 
-        set(bytePosition, Property.doubleToBytes(openPercentage));
+        Property.writeDouble(bytes, bytePosition, openPercentage);
     }
 
     public WindowOpenPercentage(Bytes valueBytes) throws CommandParseException {
@@ -28,6 +28,8 @@ import com.highmobility.autoapi.property.PropertyValueObject;
 import com.highmobility.autoapi.property.ByteEnum;
 import com.highmobility.value.Bytes;
 
+import javax.annotation.Nullable;
+
 import static com.highmobility.utils.ByteUtils.hexFromByte;
 
 public class WindowPosition extends PropertyValueObject {
@@ -86,17 +88,25 @@ public class WindowPosition extends PropertyValueObject {
         OPEN((byte) 0x01),
         INTERMEDIATE((byte) 0x02);
     
-        public static Position fromByte(byte byteValue) throws CommandParseException {
-            Position[] values = Position.values();
+        private static final Position[] byByte = new Position[256];
+    
+        static {
+            for (Position state : Position.values()) byByte[state.getByte() & 0xFF] = state;
+        }
     
-            for (int i = 0; i < values.length; i++) {
-                Position state = values[i];
-                if (state.getByte() == byteValue) {
-                    return state;
-                }
-            }
+        public static Position fromByte(byte byteValue) throws CommandParseException {
+            Position state = byByte[byteValue & 0xFF];
+            if (state == null)
+                throw new CommandParseException("WindowPosition.Position does not contain: " + hexFromByte(byteValue));
+            return state;
+        }
     
-            throw new CommandParseException("WindowPosition.Position does not contain: " + hexFromByte(byteValue));
+        /**
+         * @param byteValue The byte value.
+         * @return The enum value, or null if there is none for the byte.
+         */
+        @Nullable public static Position fromByteOrNull(byte byteValue) {
+            return byByte[byteValue & 0xFF];
         }
     
         private final byte value;
@@ -57,10 +57,10 @@ public class Zone extends PropertyValueObject {
         bytes = new byte[getLength()];
 
         int bytePosition = 0;
-        set(bytePosition, Property.intToBytes(horizontal, 1));
+        Property.writeInt(bytes, bytePosition, horizontal, 1);
         bytePosition += 1;
 
-        set(bytePosition, Property.intToBytes(vertical, 1));
+        Property.writeInt(bytes, bytePosition, vertical, 1);
     }
 
     public Zone(Bytes valueBytes) throws CommandParseException {
@@ -35,24 +35,19 @@ class AccelerationUnit : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x01
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x01) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inMetersPerSecondSquared(): Double {
-        return when (unit) {
-            Unit.METERS_PER_SECOND_SQUARED -> value * 1.0
-            Unit.GRAVITY -> value * 9.81
-        }
-    }
+    fun inMetersPerSecondSquared() = convert(value, unit, Unit.METERS_PER_SECOND_SQUARED)
     
-    fun inGravity() = inMetersPerSecondSquared() / 9.81
+    fun inGravity() = convert(value, unit, Unit.GRAVITY)
     
     enum class Unit(val id: Byte) {
         METERS_PER_SECOND_SQUARED(0x00),
@@ -63,4 +58,24 @@ class AccelerationUnit : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x01
+    
+        /**
+         * Convert a value between the units, without creating the AccelerationUnit object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val metersPerSecondSquared = when (from) {
+                Unit.METERS_PER_SECOND_SQUARED -> value * 1.0
+                Unit.GRAVITY -> value * 9.81
+            }
+    
+            return when (to) {
+                Unit.METERS_PER_SECOND_SQUARED -> metersPerSecondSquared
+                Unit.GRAVITY -> metersPerSecondSquared / 9.81
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -35,27 +35,21 @@ class Angle : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x02
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x02) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inDegrees(): Double {
-        return when (unit) {
-            Unit.DEGREES -> value * 1.0
-            Unit.RADIANS -> value * 57.295780
-            Unit.REVOLUTIONS -> value * 360.000000
-        }
-    }
+    fun inDegrees() = convert(value, unit, Unit.DEGREES)
     
-    fun inRadians() = inDegrees() / 57.295780
+    fun inRadians() = convert(value, unit, Unit.RADIANS)
     
-    fun inRevolutions() = inDegrees() / 360.000000
+    fun inRevolutions() = convert(value, unit, Unit.REVOLUTIONS)
     
     enum class Unit(val id: Byte) {
         DEGREES(0x00),
@@ -67,4 +61,26 @@ class Angle : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x02
+    
+        /**
+         * Convert a value between the units, without creating the Angle object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val degrees = when (from) {
+                Unit.DEGREES -> value * 1.0
+                Unit.RADIANS -> value * 57.295780
+                Unit.REVOLUTIONS -> value * 360.000000
+            }
+    
+            return when (to) {
+                Unit.DEGREES -> degrees
+                Unit.RADIANS -> degrees / 57.295780
+                Unit.REVOLUTIONS -> degrees / 360.000000
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -35,27 +35,21 @@ class AngularVelocity : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x03
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x03) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inRevolutionsPerMinute(): Double {
-        return when (unit) {
-            Unit.REVOLUTIONS_PER_MINUTE -> value * 1.0
-            Unit.DEGREES_PER_SECOND -> value * 6.0
-            Unit.RADIANS_PER_SECOND -> value * 9.549296585514
-        }
-    }
+    fun inRevolutionsPerMinute() = convert(value, unit, Unit.REVOLUTIONS_PER_MINUTE)
     
-    fun inDegreesPerSecond() = inRevolutionsPerMinute() / 6.0
+    fun inDegreesPerSecond() = convert(value, unit, Unit.DEGREES_PER_SECOND)
     
-    fun inRadiansPerSecond() = inRevolutionsPerMinute() / 9.549296585514
+    fun inRadiansPerSecond() = convert(value, unit, Unit.RADIANS_PER_SECOND)
     
     enum class Unit(val id: Byte) {
         REVOLUTIONS_PER_MINUTE(0x00),
@@ -67,4 +61,26 @@ class AngularVelocity : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x03
+    
+        /**
+         * Convert a value between the units, without creating the AngularVelocity object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val revolutionsPerMinute = when (from) {
+                Unit.REVOLUTIONS_PER_MINUTE -> value * 1.0
+                Unit.DEGREES_PER_SECOND -> value * 6.0
+                Unit.RADIANS_PER_SECOND -> value * 9.549296585514
+            }
+    
+            return when (to) {
+                Unit.REVOLUTIONS_PER_MINUTE -> revolutionsPerMinute
+                Unit.DEGREES_PER_SECOND -> revolutionsPerMinute / 6.0
+                Unit.RADIANS_PER_SECOND -> revolutionsPerMinute / 9.549296585514
+            }
+        }
+    }
 }
\ No newline at end of file
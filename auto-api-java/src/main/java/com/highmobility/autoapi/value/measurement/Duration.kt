@@ -35,36 +35,27 @@ class Duration : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x07
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x07) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inSeconds(): Double {
-        return when (unit) {
-            Unit.SECONDS -> value * 1.0
-            Unit.MINUTES -> value * 60.0
-            Unit.HOURS -> value * 3600.0
-            Unit.DAYS -> value * 86400.0
-            Unit.WEEKS -> value * 604800.0
-            Unit.MONTHS -> value * 2629800.0
-        }
-    }
+    fun inSeconds() = convert(value, unit, Unit.SECONDS)
     
-    fun inMinutes() = inSeconds() / 60.0
+    fun inMinutes() = convert(value, unit, Unit.MINUTES)
     
-    fun inHours() = inSeconds() / 3600.0
+    fun inHours() = convert(value, unit, Unit.HOURS)
     
-    fun inDays() = inSeconds() / 86400.0
+    fun inDays() = convert(value, unit, Unit.DAYS)
     
-    fun inWeeks() = inSeconds() / 604800.0
+    fun inWeeks() = convert(value, unit, Unit.WEEKS)
     
-    fun inMonths() = inSeconds() / 2629800.0
+    fun inMonths() = convert(value, unit, Unit.MONTHS)
     
     enum class Unit(val id: Byte) {
         SECONDS(0x00),
@@ -79,4 +70,32 @@ class Duration : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x07
+    
+        /**
+         * Convert a value between the units, without creating the Duration object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val seconds = when (from) {
+                Unit.SECONDS -> value * 1.0
+                Unit.MINUTES -> value * 60.0
+                Unit.HOURS -> value * 3600.0
+                Unit.DAYS -> value * 86400.0
+                Unit.WEEKS -> value * 604800.0
+                Unit.MONTHS -> value * 2629800.0
+            }
+    
+            return when (to) {
+                Unit.SECONDS -> seconds
+                Unit.MINUTES -> seconds / 60.0
+                Unit.HOURS -> seconds / 3600.0
+                Unit.DAYS -> seconds / 86400.0
+                Unit.WEEKS -> seconds / 604800.0
+                Unit.MONTHS -> seconds / 2629800.0
+            }
+        }
+    }
 }
\ No newline at end of file
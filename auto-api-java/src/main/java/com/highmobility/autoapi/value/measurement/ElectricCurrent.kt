@@ -35,27 +35,21 @@ class ElectricCurrent : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x09
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x09) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inAmperes(): Double {
-        return when (unit) {
-            Unit.AMPERES -> value * 1.0
-            Unit.MILLIAMPERES -> value * 0.001
-            Unit.KILOAMPERES -> value * 1000.0
-        }
-    }
+    fun inAmperes() = convert(value, unit, Unit.AMPERES)
     
-    fun inMilliamperes() = inAmperes() / 0.001
+    fun inMilliamperes() = convert(value, unit, Unit.MILLIAMPERES)
     
-    fun inKiloamperes() = inAmperes() / 1000.0
+    fun inKiloamperes() = convert(value, unit, Unit.KILOAMPERES)
     
     enum class Unit(val id: Byte) {
         AMPERES(0x00),
@@ -67,4 +61,26 @@ class ElectricCurrent : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x09
+    
+        /**
+         * Convert a value between the units, without creating the ElectricCurrent object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val amperes = when (from) {
+                Unit.AMPERES -> value * 1.0
+                Unit.MILLIAMPERES -> value * 0.001
+                Unit.KILOAMPERES -> value * 1000.0
+            }
+    
+            return when (to) {
+                Unit.AMPERES -> amperes
+                Unit.MILLIAMPERES -> amperes / 0.001
+                Unit.KILOAMPERES -> amperes / 1000.0
+            }
+        }
+    }
 }
\ No newline at end of file
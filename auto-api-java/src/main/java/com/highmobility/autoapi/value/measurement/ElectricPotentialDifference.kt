@@ -35,27 +35,21 @@ class ElectricPotentialDifference : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x0a
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x0a) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inVolts(): Double {
-        return when (unit) {
-            Unit.VOLTS -> value * 1.0
-            Unit.MILLIVOLTS -> value * 0.001
-            Unit.KILOVOLTS -> value * 1000.0
-        }
-    }
+    fun inVolts() = convert(value, unit, Unit.VOLTS)
     
-    fun inMillivolts() = inVolts() / 0.001
+    fun inMillivolts() = convert(value, unit, Unit.MILLIVOLTS)
     
-    fun inKilovolts() = inVolts() / 1000.0
+    fun inKilovolts() = convert(value, unit, Unit.KILOVOLTS)
     
     enum class Unit(val id: Byte) {
         VOLTS(0x00),
@@ -67,4 +61,26 @@ class ElectricPotentialDifference : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x0a
+    
+        /**
+         * Convert a value between the units, without creating the ElectricPotentialDifference object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val volts = when (from) {
+                Unit.VOLTS -> value * 1.0
+                Unit.MILLIVOLTS -> value * 0.001
+                Unit.KILOVOLTS -> value * 1000.0
+            }
+    
+            return when (to) {
+                Unit.VOLTS -> volts
+                Unit.MILLIVOLTS -> volts / 0.001
+                Unit.KILOVOLTS -> volts / 1000.0
+            }
+        }
+    }
 }
\ No newline at end of file
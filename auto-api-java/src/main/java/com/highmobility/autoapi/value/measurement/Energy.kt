@@ -35,27 +35,21 @@ class Energy : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x0c
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x0c) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inJoules(): Double {
-        return when (unit) {
-            Unit.JOULES -> value * 1.0
-            Unit.KILOJOULES -> value * 1000.0
-            Unit.KILOWATT_HOURS -> value * 3600000.0
-        }
-    }
+    fun inJoules() = convert(value, unit, Unit.JOULES)
     
-    fun inKilojoules() = inJoules() / 1000.0
+    fun inKilojoules() = convert(value, unit, Unit.KILOJOULES)
     
-    fun inKilowattHours() = inJoules() / 3600000.0
+    fun inKilowattHours() = convert(value, unit, Unit.KILOWATT_HOURS)
     
     enum class Unit(val id: Byte) {
         JOULES(0x00),
@@ -67,4 +61,26 @@ class Energy : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x0c
+    
+        /**
+         * Convert a value between the units, without creating the Energy object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val joules = when (from) {
+                Unit.JOULES -> value * 1.0
+                Unit.KILOJOULES -> value * 1000.0
+                Unit.KILOWATT_HOURS -> value * 3600000.0
+            }
+    
+            return when (to) {
+                Unit.JOULES -> joules
+                Unit.KILOJOULES -> joules / 1000.0
+                Unit.KILOWATT_HOURS -> joules / 3600000.0
+            }
+        }
+    }
 }
\ No newline at end of file
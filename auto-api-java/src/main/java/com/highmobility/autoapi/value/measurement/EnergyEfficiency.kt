@@ -35,24 +35,19 @@ class EnergyEfficiency : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x0d
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x0d) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inKwhPer100Kilometers(): Double {
-        return when (unit) {
-            Unit.KWH_PER_100_KILOMETERS -> value
-            Unit.MILES_PER_KWH -> 62.137119223733397 / value
-        }
-    }
+    fun inKwhPer100Kilometers() = convert(value, unit, Unit.KWH_PER_100_KILOMETERS)
     
-    fun inMilesPerKwh() = 62.137119223733397 / inKwhPer100Kilometers()
+    fun inMilesPerKwh() = convert(value, unit, Unit.MILES_PER_KWH)
     
     enum class Unit(val id: Byte) {
         KWH_PER_100_KILOMETERS(0x00),
@@ -63,4 +58,24 @@ class EnergyEfficiency : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x0d
+    
+        /**
+         * Convert a value between the units, without creating the EnergyEfficiency object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val kwhPer100Kilometers = when (from) {
+                Unit.KWH_PER_100_KILOMETERS -> value
+                Unit.MILES_PER_KWH -> 62.137119223733397 / value
+            }
+    
+            return when (to) {
+                Unit.KWH_PER_100_KILOMETERS -> kwhPer100Kilometers
+                Unit.MILES_PER_KWH -> 62.137119223733397 / kwhPer100Kilometers
+            }
+        }
+    }
 }
\ No newline at end of file
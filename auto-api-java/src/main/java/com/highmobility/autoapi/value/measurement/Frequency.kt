@@ -35,42 +35,31 @@ class Frequency : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x0e
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x0e) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inHertz(): Double {
-        return when (unit) {
-            Unit.HERTZ -> value * 1.0
-            Unit.MILLIHERTZ -> value * 0.001
-            Unit.KILOHERTZ -> value * 1.0e+3
-            Unit.MEGAHERTZ -> value * 1.0e+6
-            Unit.GIGAHERTZ -> value * 1.0e+9
-            Unit.TIMES_PER_MINUTE -> value * 60.0
-            Unit.TIMES_PER_HOUR -> value * 3600.0
-            Unit.TIMES_PER_DAY -> value * 86400.0
-        }
-    }
+    fun inHertz() = convert(value, unit, Unit.HERTZ)
     
-    fun inMillihertz() = inHertz() / 0.001
+    fun inMillihertz() = convert(value, unit, Unit.MILLIHERTZ)
     
-    fun inKilohertz() = inHertz() / 1.0e+3
+    fun inKilohertz() = convert(value, unit, Unit.KILOHERTZ)
     
-    fun inMegahertz() = inHertz() / 1.0e+6
+    fun inMegahertz() = convert(value, unit, Unit.MEGAHERTZ)
     
-    fun inGigahertz() = inHertz() / 1.0e+9
+    fun inGigahertz() = convert(value, unit, Unit.GIGAHERTZ)
     
-    fun inTimesPerMinute() = inHertz() / 60.0
+    fun inTimesPerMinute() = convert(value, unit, Unit.TIMES_PER_MINUTE)
     
-    fun inTimesPerHour() = inHertz() / 3600.0
+    fun inTimesPerHour() = convert(value, unit, Unit.TIMES_PER_HOUR)
     
-    fun inTimesPerDay() = inHertz() / 86400.0
+    fun inTimesPerDay() = convert(value, unit, Unit.TIMES_PER_DAY)
     
     enum class Unit(val id: Byte) {
         HERTZ(0x00),
@@ -87,4 +76,36 @@ class Frequency : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x0e
+    
+        /**
+         * Convert a value between the units, without creating the Frequency object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val hertz = when (from) {
+                Unit.HERTZ -> value * 1.0
+                Unit.MILLIHERTZ -> value * 0.001
+                Unit.KILOHERTZ -> value * 1.0e+3
+                Unit.MEGAHERTZ -> value * 1.0e+6
+                Unit.GIGAHERTZ -> value * 1.0e+9
+                Unit.TIMES_PER_MINUTE -> value * 60.0
+                Unit.TIMES_PER_HOUR -> value * 3600.0
+                Unit.TIMES_PER_DAY -> value * 86400.0
+            }
+    
+            return when (to) {
+                Unit.HERTZ -> hertz
+                Unit.MILLIHERTZ -> hertz / 0.001
+                Unit.KILOHERTZ -> hertz / 1.0e+3
+                Unit.MEGAHERTZ -> hertz / 1.0e+6
+                Unit.GIGAHERTZ -> hertz / 1.0e+9
+                Unit.TIMES_PER_MINUTE -> hertz / 60.0
+                Unit.TIMES_PER_HOUR -> hertz / 3600.0
+                Unit.TIMES_PER_DAY -> hertz / 86400.0
+            }
+        }
+    }
 }
\ No newline at end of file
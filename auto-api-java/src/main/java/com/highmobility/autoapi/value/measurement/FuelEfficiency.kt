@@ -35,27 +35,21 @@ class FuelEfficiency : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x0f
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x0f) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inLitersPer100Kilometers(): Double {
-        return when (unit) {
-            Unit.LITERS_PER_100_KILOMETERS -> value
-            Unit.MILES_PER_IMPERIAL_GALLON -> 282.4809363 / value
-            Unit.MILES_PER_GALLON -> 235.2145833 / value
-        }
-    }
+    fun inLitersPer100Kilometers() = convert(value, unit, Unit.LITERS_PER_100_KILOMETERS)
     
-    fun inMilesPerImperialGallon() = 282.4809363 / inLitersPer100Kilometers()
+    fun inMilesPerImperialGallon() = convert(value, unit, Unit.MILES_PER_IMPERIAL_GALLON)
     
-    fun inMilesPerGallon() = 235.2145833 / inLitersPer100Kilometers()
+    fun inMilesPerGallon() = convert(value, unit, Unit.MILES_PER_GALLON)
     
     enum class Unit(val id: Byte) {
         LITERS_PER_100_KILOMETERS(0x00),
@@ -67,4 +61,26 @@ class FuelEfficiency : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x0f
+    
+        /**
+         * Convert a value between the units, without creating the FuelEfficiency object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val litersPer100Kilometers = when (from) {
+                Unit.LITERS_PER_100_KILOMETERS -> value
+                Unit.MILES_PER_IMPERIAL_GALLON -> 282.4809363 / value
+                Unit.MILES_PER_GALLON -> 235.2145833 / value
+            }
+    
+            return when (to) {
+                Unit.LITERS_PER_100_KILOMETERS -> litersPer100Kilometers
+                Unit.MILES_PER_IMPERIAL_GALLON -> 282.4809363 / litersPer100Kilometers
+                Unit.MILES_PER_GALLON -> 235.2145833 / litersPer100Kilometers
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -35,21 +35,17 @@ class Illuminance : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x11
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x11) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inLux(): Double {
-        return when (unit) {
-            Unit.LUX -> value * 1.0
-        }
-    }
+    fun inLux() = convert(value, unit, Unit.LUX)
     
     enum class Unit(val id: Byte) {
         LUX(0x00);
@@ -59,4 +55,22 @@ class Illuminance : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x11
+    
+        /**
+         * Convert a value between the units, without creating the Illuminance object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val lux = when (from) {
+                Unit.LUX -> value * 1.0
+            }
+    
+            return when (to) {
+                Unit.LUX -> lux
+            }
+        }
+    }
 }
\ No newline at end of file
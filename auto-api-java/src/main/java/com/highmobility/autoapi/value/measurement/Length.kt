@@ -35,54 +35,39 @@ class Length : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x12
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x12) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inMeters(): Double {
-        return when (unit) {
-            Unit.METERS -> value * 1.0
-            Unit.MILLIMETERS -> value * 1.0e-3
-            Unit.CENTIMETERS -> value * 1.0e-2
-            Unit.DECIMETERS -> value * 1.0e-1
-            Unit.KILOMETERS -> value * 1.0e+3
-            Unit.MEGAMETERS -> value * 1.0e+6
-            Unit.INCHES -> value * 0.0254
-            Unit.FEET -> value * 0.3048
-            Unit.YARDS -> value * 0.9144
-            Unit.MILES -> value * 1609.344
-            Unit.SCANDINAVIAN_MILES -> value * 1.0e+4
-            Unit.NAUTICAL_MILES -> value * 1852.0
-        }
-    }
+    fun inMeters() = convert(value, unit, Unit.METERS)
     
-    fun inMillimeters() = inMeters() / 1.0e-3
+    fun inMillimeters() = convert(value, unit, Unit.MILLIMETERS)
     
-    fun inCentimeters() = inMeters() / 1.0e-2
+    fun inCentimeters() = convert(value, unit, Unit.CENTIMETERS)
     
-    fun inDecimeters() = inMeters() / 1.0e-1
+    fun inDecimeters() = convert(value, unit, Unit.DECIMETERS)
     
-    fun inKilometers() = inMeters() / 1.0e+3
+    fun inKilometers() = convert(value, unit, Unit.KILOMETERS)
     
-    fun inMegameters() = inMeters() / 1.0e+6
+    fun inMegameters() = convert(value, unit, Unit.MEGAMETERS)
     
-    fun inInches() = inMeters() / 0.0254
+    fun inInches() = convert(value, unit, Unit.INCHES)
     
-    fun inFeet() = inMeters() / 0.3048
+    fun inFeet() = convert(value, unit, Unit.FEET)
     
-    fun inYards() = inMeters() / 0.9144
+    fun inYards() = convert(value, unit, Unit.YARDS)
     
-    fun inMiles() = inMeters() / 1609.344
+    fun inMiles() = convert(value, unit, Unit.MILES)
     
-    fun inScandinavianMiles() = inMeters() / 1.0e+4
+    fun inScandinavianMiles() = convert(value, unit, Unit.SCANDINAVIAN_MILES)
     
-    fun inNauticalMiles() = inMeters() / 1852.0
+    fun inNauticalMiles() = convert(value, unit, Unit.NAUTICAL_MILES)
     
     enum class Unit(val id: Byte) {
         METERS(0x00),
@@ -103,4 +88,44 @@ class Length : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x12
+    
+        /**
+         * Convert a value between the units, without creating the Length object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val meters = when (from) {
+                Unit.METERS -> value * 1.0
+                Unit.MILLIMETERS -> value * 1.0e-3
+                Unit.CENTIMETERS -> value * 1.0e-2
+                Unit.DECIMETERS -> value * 1.0e-1
+                Unit.KILOMETERS -> value * 1.0e+3
+                Unit.MEGAMETERS -> value * 1.0e+6
+                Unit.INCHES -> value * 0.0254
+                Unit.FEET -> value * 0.3048
+                Unit.YARDS -> value * 0.9144
+                Unit.MILES -> value * 1609.344
+                Unit.SCANDINAVIAN_MILES -> value * 1.0e+4
+                Unit.NAUTICAL_MILES -> value * 1852.0
+            }
+    
+            return when (to) {
+                Unit.METERS -> meters
+                Unit.MILLIMETERS -> meters / 1.0e-3
+                Unit.CENTIMETERS -> meters / 1.0e-2
+                Unit.DECIMETERS -> meters / 1.0e-1
+                Unit.KILOMETERS -> meters / 1.0e+3
+                Unit.MEGAMETERS -> meters / 1.0e+6
+                Unit.INCHES -> meters / 0.0254
+                Unit.FEET -> meters / 0.3048
+                Unit.YARDS -> meters / 0.9144
+                Unit.MILES -> meters / 1609.344
+                Unit.SCANDINAVIAN_MILES -> meters / 1.0e+4
+                Unit.NAUTICAL_MILES -> meters / 1852.0
+            }
+        }
+    }
 }
\ No newline at end of file
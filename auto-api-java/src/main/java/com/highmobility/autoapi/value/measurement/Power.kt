@@ -35,33 +35,25 @@ class Power : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x14
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x14) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inWatts(): Double {
-        return when (unit) {
-            Unit.WATTS -> value * 1.0
-            Unit.MILLIWATTS -> value * 1.0e-3
-            Unit.KILOWATTS -> value * 1.0e+3
-            Unit.MEGAWATTS -> value * 1.0e+6
-            Unit.HORSEPOWER -> value * 745.7
-        }
-    }
+    fun inWatts() = convert(value, unit, Unit.WATTS)
     
-    fun inMilliwatts() = inWatts() / 1.0e-3
+    fun inMilliwatts() = convert(value, unit, Unit.MILLIWATTS)
     
-    fun inKilowatts() = inWatts() / 1.0e+3
+    fun inKilowatts() = convert(value, unit, Unit.KILOWATTS)
     
-    fun inMegawatts() = inWatts() / 1.0e+6
+    fun inMegawatts() = convert(value, unit, Unit.MEGAWATTS)
     
-    fun inHorsepower() = inWatts() / 745.7
+    fun inHorsepower() = convert(value, unit, Unit.HORSEPOWER)
     
     enum class Unit(val id: Byte) {
         WATTS(0x00),
@@ -75,4 +67,30 @@ class Power : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x14
+    
+        /**
+         * Convert a value between the units, without creating the Power object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val watts = when (from) {
+                Unit.WATTS -> value * 1.0
+                Unit.MILLIWATTS -> value * 1.0e-3
+                Unit.KILOWATTS -> value * 1.0e+3
+                Unit.MEGAWATTS -> value * 1.0e+6
+                Unit.HORSEPOWER -> value * 745.7
+            }
+    
+            return when (to) {
+                Unit.WATTS -> watts
+                Unit.MILLIWATTS -> watts / 1.0e-3
+                Unit.KILOWATTS -> watts / 1.0e+3
+                Unit.MEGAWATTS -> watts / 1.0e+6
+                Unit.HORSEPOWER -> watts / 745.7
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -35,39 +35,29 @@ class Pressure : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x15
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x15) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inPascals(): Double {
-        return when (unit) {
-            Unit.PASCALS -> value * 1.0
-            Unit.KILOPASCALS -> value * 1.0e+3
-            Unit.INCHES_OF_MERCURY -> value * 3386.39
-            Unit.BARS -> value * 1.0e+5
-            Unit.MILLIBARS -> value * 1.0e+2
-            Unit.MILLIMETERS_OF_MERCURY -> value * 133.322
-            Unit.POUNDS_FORCE_PER_SQUARE_INCH -> value * 6894.76
-        }
-    }
+    fun inPascals() = convert(value, unit, Unit.PASCALS)
     
-    fun inKilopascals() = inPascals() / 1.0e+3
+    fun inKilopascals() = convert(value, unit, Unit.KILOPASCALS)
     
-    fun inInchesOfMercury() = inPascals() / 3386.39
+    fun inInchesOfMercury() = convert(value, unit, Unit.INCHES_OF_MERCURY)
     
-    fun inBars() = inPascals() / 1.0e+5
+    fun inBars() = convert(value, unit, Unit.BARS)
     
-    fun inMillibars() = inPascals() / 1.0e+2
+    fun inMillibars() = convert(value, unit, Unit.MILLIBARS)
     
-    fun inMillimetersOfMercury() = inPascals() / 133.322
+    fun inMillimetersOfMercury() = convert(value, unit, Unit.MILLIMETERS_OF_MERCURY)
     
-    fun inPoundsForcePerSquareInch() = inPascals() / 6894.76
+    fun inPoundsForcePerSquareInch() = convert(value, unit, Unit.POUNDS_FORCE_PER_SQUARE_INCH)
     
     enum class Unit(val id: Byte) {
         PASCALS(0x00),
@@ -83,4 +73,34 @@ class Pressure : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x15
+    
+        /**
+         * Convert a value between the units, without creating the Pressure object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val pascals = when (from) {
+                Unit.PASCALS -> value * 1.0
+                Unit.KILOPASCALS -> value * 1.0e+3
+                Unit.INCHES_OF_MERCURY -> value * 3386.39
+                Unit.BARS -> value * 1.0e+5
+                Unit.MILLIBARS -> value * 1.0e+2
+                Unit.MILLIMETERS_OF_MERCURY -> value * 133.322
+                Unit.POUNDS_FORCE_PER_SQUARE_INCH -> value * 6894.76
+            }
+    
+            return when (to) {
+                Unit.PASCALS -> pascals
+                Unit.KILOPASCALS -> pascals / 1.0e+3
+                Unit.INCHES_OF_MERCURY -> pascals / 3386.39
+                Unit.BARS -> pascals / 1.0e+5
+                Unit.MILLIBARS -> pascals / 1.0e+2
+                Unit.MILLIMETERS_OF_MERCURY -> pascals / 133.322
+                Unit.POUNDS_FORCE_PER_SQUARE_INCH -> pascals / 6894.76
+            }
+        }
+    }
 }
\ No newline at end of file
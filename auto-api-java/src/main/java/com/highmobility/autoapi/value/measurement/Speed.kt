@@ -35,30 +35,23 @@ class Speed : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x16
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x16) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inMetersPerSecond(): Double {
-        return when (unit) {
-            Unit.METERS_PER_SECOND -> value * 1.0
-            Unit.KILOMETERS_PER_HOUR -> value * 0.27777777777778
-            Unit.MILES_PER_HOUR -> value * 0.44704
-            Unit.KNOTS -> value * 0.51444444444
-        }
-    }
+    fun inMetersPerSecond() = convert(value, unit, Unit.METERS_PER_SECOND)
     
-    fun inKilometersPerHour() = inMetersPerSecond() / 0.27777777777778
+    fun inKilometersPerHour() = convert(value, unit, Unit.KILOMETERS_PER_HOUR)
     
-    fun inMilesPerHour() = inMetersPerSecond() / 0.44704
+    fun inMilesPerHour() = convert(value, unit, Unit.MILES_PER_HOUR)
     
-    fun inKnots() = inMetersPerSecond() / 0.51444444444
+    fun inKnots() = convert(value, unit, Unit.KNOTS)
     
     enum class Unit(val id: Byte) {
         METERS_PER_SECOND(0x00),
@@ -71,4 +64,28 @@ class Speed : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x16
+    
+        /**
+         * Convert a value between the units, without creating the Speed object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val metersPerSecond = when (from) {
+                Unit.METERS_PER_SECOND -> value * 1.0
+                Unit.KILOMETERS_PER_HOUR -> value * 0.27777777777778
+                Unit.MILES_PER_HOUR -> value * 0.44704
+                Unit.KNOTS -> value * 0.51444444444
+            }
+    
+            return when (to) {
+                Unit.METERS_PER_SECOND -> metersPerSecond
+                Unit.KILOMETERS_PER_HOUR -> metersPerSecond / 0.27777777777778
+                Unit.MILES_PER_HOUR -> metersPerSecond / 0.44704
+                Unit.KNOTS -> metersPerSecond / 0.51444444444
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -35,27 +35,21 @@ class Temperature : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x17
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x17) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inKelvin(): Double {
-        return when (unit) {
-            Unit.KELVIN -> value * 1.0
-            Unit.CELSIUS -> value * 1.0 + 273.15
-            Unit.FAHRENHEIT -> value * 0.555556 + 255.372222
-        }
-    }
+    fun inKelvin() = convert(value, unit, Unit.KELVIN)
     
-    fun inCelsius() = (inKelvin() - 273.15) / 1.0
+    fun inCelsius() = convert(value, unit, Unit.CELSIUS)
     
-    fun inFahrenheit() = (inKelvin() - 255.372222) / 0.555556
+    fun inFahrenheit() = convert(value, unit, Unit.FAHRENHEIT)
     
     enum class Unit(val id: Byte) {
         KELVIN(0x00),
@@ -67,4 +61,26 @@ class Temperature : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x17
+    
+        /**
+         * Convert a value between the units, without creating the Temperature object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val kelvin = when (from) {
+                Unit.KELVIN -> value * 1.0
+                Unit.CELSIUS -> value * 1.0 + 273.15
+                Unit.FAHRENHEIT -> value * 0.555556 + 255.372222
+            }
+    
+            return when (to) {
+                Unit.KELVIN -> kelvin
+                Unit.CELSIUS -> (kelvin - 273.15) / 1.0
+                Unit.FAHRENHEIT -> (kelvin - 255.372222) / 0.555556
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -35,27 +35,21 @@ class Torque : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x18
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x18) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inNewtonMeters(): Double {
-        return when (unit) {
-            Unit.NEWTON_METERS -> value * 1.0
-            Unit.NEWTON_MILLIMETERS -> value * 1.0e-3
-            Unit.POUND_FEET -> value * 0.73756214927727
-        }
-    }
+    fun inNewtonMeters() = convert(value, unit, Unit.NEWTON_METERS)
     
-    fun inNewtonMillimeters() = inNewtonMeters() / 1.0e-3
+    fun inNewtonMillimeters() = convert(value, unit, Unit.NEWTON_MILLIMETERS)
     
-    fun inPoundFeet() = inNewtonMeters() / 0.73756214927727
+    fun inPoundFeet() = convert(value, unit, Unit.POUND_FEET)
     
     enum class Unit(val id: Byte) {
         NEWTON_METERS(0x00),
@@ -67,4 +61,26 @@ class Torque : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x18
+    
+        /**
+         * Convert a value between the units, without creating the Torque object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val newtonMeters = when (from) {
+                Unit.NEWTON_METERS -> value * 1.0
+                Unit.NEWTON_MILLIMETERS -> value * 1.0e-3
+                Unit.POUND_FEET -> value * 0.73756214927727
+            }
+    
+            return when (to) {
+                Unit.NEWTON_METERS -> newtonMeters
+                Unit.NEWTON_MILLIMETERS -> newtonMeters / 1.0e-3
+                Unit.POUND_FEET -> newtonMeters / 0.73756214927727
+            }
+        }
+    }
 }
\ No newline at end of file
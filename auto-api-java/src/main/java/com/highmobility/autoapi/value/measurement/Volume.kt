@@ -35,60 +35,43 @@ class Volume : MeasurementType {
         this.value = value
         this.unit = unit
     
-        bytes[0] = 0x19
+        bytes[0] = IDENTIFIER
         bytes[1] = unit.id
-        set(2, Property.doubleToBytes(value))
+        Property.writeDouble(bytes, 2, value)
     }
 
-    constructor(valueBytes: Bytes) : super(valueBytes, 0x19) {
+    constructor(valueBytes: Bytes) : super(valueBytes, IDENTIFIER) {
         unit = Unit.fromInt(valueBytes[1])
         value = Property.getDouble(valueBytes, 2)
     }
 
-    fun inLiters(): Double {
-        return when (unit) {
-            Unit.LITERS -> value * 1.0
-            Unit.MILLILITERS -> value * 1.0e-3
-            Unit.CENTILITERS -> value * 1.0e-2
-            Unit.DECILITERS -> value * 1.0e-1
-            Unit.CUBIC_MILLIMETERS -> value * 1.0e-6
-            Unit.CUBIC_CENTIMETERS -> value * 1.0e-3
-            Unit.CUBIC_DECIMETERS -> value * 1.0
-            Unit.CUBIC_METERS -> value * 1.0e+3
-            Unit.CUBIC_INCHES -> value * 0.016387064
-            Unit.CUBIC_FEET -> value * 28.316846592
-            Unit.FLUID_OUNCES -> value * 0.0295735296875
-            Unit.GALLONS -> value * 3.785411784
-            Unit.IMPERIAL_FLUID_OUNCES -> value * 0.0284130625
-            Unit.IMPERIAL_GALLONS -> value * 4.54609
-        }
-    }
+    fun inLiters() = convert(value, unit, Unit.LITERS)
     
-    fun inMilliliters() = inLiters() / 1.0e-3
+    fun inMilliliters() = convert(value, unit, Unit.MILLILITERS)
     
-    fun inCentiliters() = inLiters() / 1.0e-2
+    fun inCentiliters() = convert(value, unit, Unit.CENTILITERS)
     
-    fun inDeciliters() = inLiters() / 1.0e-1
+    fun inDeciliters() = convert(value, unit, Unit.DECILITERS)
     
-    fun inCubicMillimeters() = inLiters() / 1.0e-6
+    fun inCubicMillimeters() = convert(value, unit, Unit.CUBIC_MILLIMETERS)
     
-    fun inCubicCentimeters() = inLiters() / 1.0e-3
+    fun inCubicCentimeters() = convert(value, unit, Unit.CUBIC_CENTIMETERS)
     
-    fun inCubicDecimeters() = inLiters() / 1.0
+    fun inCubicDecimeters() = convert(value, unit, Unit.CUBIC_DECIMETERS)
     
-    fun inCubicMeters() = inLiters() / 1.0e+3
+    fun inCubicMeters() = convert(value, unit, Unit.CUBIC_METERS)
     
-    fun inCubicInches() = inLiters() / 0.016387064
+    fun inCubicInches() = convert(value, unit, Unit.CUBIC_INCHES)
     
-    fun inCubicFeet() = inLiters() / 28.316846592
+    fun inCubicFeet() = convert(value, unit, Unit.CUBIC_FEET)
     
-    fun inFluidOunces() = inLiters() / 0.0295735296875
+    fun inFluidOunces() = convert(value, unit, Unit.FLUID_OUNCES)
     
-    fun inGallons() = inLiters() / 3.785411784
+    fun inGallons() = convert(value, unit, Unit.GALLONS)
     
-    fun inImperialFluidOunces() = inLiters() / 0.0284130625
+    fun inImperialFluidOunces() = convert(value, unit, Unit.IMPERIAL_FLUID_OUNCES)
     
-    fun inImperialGallons() = inLiters() / 4.54609
+    fun inImperialGallons() = convert(value, unit, Unit.IMPERIAL_GALLONS)
     
     enum class Unit(val id: Byte) {
         LITERS(0x02),
@@ -111,4 +94,48 @@ class Volume : MeasurementType {
             fun fromInt(type: Byte) = map[type] ?: throw CommandParseException()
         }
     }
+    
+    companion object {
+        const val IDENTIFIER: Byte = 0x19
+    
+        /**
+         * Convert a value between the units, without creating the Volume object.
+         */
+        @JvmStatic
+        fun convert(value: Double, from: Unit, to: Unit): Double {
+            val liters = when (from) {
+                Unit.LITERS -> value * 1.0
+                Unit.MILLILITERS -> value * 1.0e-3
+                Unit.CENTILITERS -> value * 1.0e-2
+                Unit.DECILITERS -> value * 1.0e-1
+                Unit.CUBIC_MILLIMETERS -> value * 1.0e-6
+                Unit.CUBIC_CENTIMETERS -> value * 1.0e-3
+                Unit.CUBIC_DECIMETERS -> value * 1.0
+                Unit.CUBIC_METERS -> value * 1.0e+3
+                Unit.CUBIC_INCHES -> value * 0.016387064
+                Unit.CUBIC_FEET -> value * 28.316846592
+                Unit.FLUID_OUNCES -> value * 0.0295735296875
+                Unit.GALLONS -> value * 3.785411784
+                Unit.IMPERIAL_FLUID_OUNCES -> value * 0.0284130625
+                Unit.IMPERIAL_GALLONS -> value * 4.54609
+            }
+    
+            return when (to) {
+                Unit.LITERS -> liters
+                Unit.MILLILITERS -> liters / 1.0e-3
+                Unit.CENTILITERS -> liters / 1.0e-2
+                Unit.DECILITERS -> liters / 1.0e-1
+                Unit.CUBIC_MILLIMETERS -> liters / 1.0e-6
+                Unit.CUBIC_CENTIMETERS -> liters / 1.0e-3
+                Unit.CUBIC_DECIMETERS -> liters / 1.0
+                Unit.CUBIC_METERS -> liters / 1.0e+3
+                Unit.CUBIC_INCHES -> liters / 0.016387064
+                Unit.CUBIC_FEET -> liters / 28.316846592
+                Unit.FLUID_OUNCES -> liters / 0.0295735296875
+                Unit.GALLONS -> liters / 3.785411784
+                Unit.IMPERIAL_FLUID_OUNCES -> liters / 0.0284130625
+                Unit.IMPERIAL_GALLONS -> liters / 4.54609
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.autoapi.value.measurement.Length;
+import com.highmobility.value.Bytes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnarDecoderTest extends BaseTest {
+    // odometer 10 miles, battery level 0.75, anti-lock braking active
+    static final String ODOMETER = "1F000D01000A120E4024000000000000";
+    static final String BATTERY_LEVEL = "18000B0100083FE8000000000000";
+    static final String ANTI_LOCK_BRAKING = "10000401000101";
+    static final String TIMESTAMP = "A2000B0100080000017000000000";
+
+    ColumnarDecoder diagnosticsDecoder() {
+        return new ColumnarDecoder.Builder(Identifier.DIAGNOSTICS)
+                .addMeasurementColumn(Diagnostics.PROPERTY_ODOMETER, Length.Unit.KILOMETERS)
+                .addDoubleColumn(Diagnostics.PROPERTY_BATTERY_LEVEL)
+                .addByteColumn(Diagnostics.PROPERTY_ANTI_LOCK_BRAKING)
+                .addLongColumn(Command.TIMESTAMP_IDENTIFIER)
+                .build();
+    }
+
+    @Test public void decodesColumns() {
+        List<byte[]> commands = Arrays.asList(
+                new Bytes(COMMAND_HEADER + "003301" + ODOMETER + BATTERY_LEVEL +
+                        ANTI_LOCK_BRAKING + TIMESTAMP).getByteArray(),
+                new Bytes(COMMAND_HEADER + "003301" + BATTERY_LEVEL).getByteArray(),
+                // another capability, a get command and a missing command
+                new Bytes(COMMAND_HEADER + "006701" + "01000401000101").getByteArray(),
+                new Bytes(COMMAND_HEADER + "003300").getByteArray(),
+                null);
+
+        ColumnarDecoder.Columns columns = diagnosticsDecoder().decode(commands);
+        assertTrue(columns.getRowCount() == 5);
+
+        double[] odometer = columns.getDoubles(Diagnostics.PROPERTY_ODOMETER);
+        assertTrue(Math.abs(odometer[0] - 16.09344) < 1e-9);
+        assertTrue(columns.getDoubles(Diagnostics.PROPERTY_BATTERY_LEVEL)[1] == 0.75);
+        assertTrue(columns.getBytes(Diagnostics.PROPERTY_ANTI_LOCK_BRAKING)[0] == 0x01);
+        assertTrue(columns.getLongs(Command.TIMESTAMP_IDENTIFIER)[0] == 0x17000000000L);
+
+        assertTrue(columns.isNull(Diagnostics.PROPERTY_ODOMETER, 0) == false);
+        assertTrue(columns.isNull(Diagnostics.PROPERTY_ODOMETER, 1));
+        assertTrue(columns.isNull(Diagnostics.PROPERTY_BATTERY_LEVEL, 1) == false);
+        assertTrue(columns.getNulls(Diagnostics.PROPERTY_BATTERY_LEVEL)[0] == ~0b11L);
+        assertTrue(odometer[1] == 0);
+
+        for (int row = 2; row < 5; row++) {
+            assertTrue(columns.isNull(Diagnostics.PROPERTY_BATTERY_LEVEL, row));
+        }
+
+        assertThrows(IllegalArgumentException.class, () ->
+                columns.getLongs(Diagnostics.PROPERTY_BATTERY_LEVEL));
+        assertThrows(IllegalArgumentException.class, () ->
+                columns.getDoubles(Diagnostics.PROPERTY_SPEED));
+    }
+
+    @Test public void decodesCoordinates() {
+        ArrayList<byte[]> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add(new Bytes(COMMAND_HEADER + "003001" +
+                    "040013010010404A428F9F44D445402ACF562174C4CE").getByteArray());
+        }
+
+        // an angle is not an altitude
+        commands.add(new Bytes(COMMAND_HEADER + "003001" +
+                "06000D01000A0200402ABD80C308FEAC").getByteArray());
+
+        ColumnarDecoder decoder = new ColumnarDecoder.Builder(Identifier.VEHICLE_LOCATION)
+                .addCoordinatesColumn(VehicleLocation.PROPERTY_COORDINATES)
+                .addMeasurementColumn(VehicleLocation.PROPERTY_ALTITUDE, Length.Unit.METERS)
+                .build();
+        ColumnarDecoder.Columns columns = decoder.decode(commands);
+
+        assertTrue(columns.getLatitudes(VehicleLocation.PROPERTY_COORDINATES)[99] == 52.520008);
+        assertTrue(columns.getLongitudes(VehicleLocation.PROPERTY_COORDINATES)[99] == 13.404954);
+        assertTrue(columns.isNull(VehicleLocation.PROPERTY_COORDINATES, 100));
+        assertTrue(columns.isNull(VehicleLocation.PROPERTY_ALTITUDE, 100));
+        assertTrue(columns.getNulls(VehicleLocation.PROPERTY_COORDINATES)[1] == ~0xFFFFFFFFFL);
+    }
+
+    @Test public void decodesSignedLongs() {
+        // reverse gear is -1, and gear 4
+        List<byte[]> commands = Arrays.asList(
+                new Bytes(COMMAND_HEADER + "005701" + "0C0004010001FF").getByteArray(),
+                new Bytes(COMMAND_HEADER + "005701" + "0C000401000104").getByteArray());
+
+        ColumnarDecoder.Columns signed = new ColumnarDecoder.Builder(Identifier.RACE)
+                .addLongColumn(Race.PROPERTY_SELECTED_GEAR, true)
+                .build().decode(commands);
+        assertTrue(signed.getLongs(Race.PROPERTY_SELECTED_GEAR)[0] == -1);
+        assertTrue(signed.getLongs(Race.PROPERTY_SELECTED_GEAR)[1] == 4);
+
+        Race.State state = (Race.State) CommandResolver.resolve(commands.get(0));
+        assertTrue(state.getSelectedGear().getValue() == -1);
+
+        ColumnarDecoder.Columns unsigned = new ColumnarDecoder.Builder(Identifier.RACE)
+                .addLongColumn(Race.PROPERTY_SELECTED_GEAR)
+                .build().decode(commands);
+        assertTrue(unsigned.getLongs(Race.PROPERTY_SELECTED_GEAR)[0] == 0xFF);
+    }
+
+    @Test public void throwsForInvalidColumns() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ColumnarDecoder.Builder(Identifier.DIAGNOSTICS)
+                        .addDoubleColumn(Diagnostics.PROPERTY_BATTERY_LEVEL)
+                        .addLongColumn(Diagnostics.PROPERTY_BATTERY_LEVEL));
+        assertThrows(IllegalArgumentException.class, () ->
+                new ColumnarDecoder.Builder(Identifier.DIAGNOSTICS)
+                        .addMeasurementColumn(Diagnostics.PROPERTY_ODOMETER, Thread.State.NEW));
+    }
+}
@@ -23,27 +23,275 @@
  */
 package com.highmobility.autoapi;
 
+import com.highmobility.autoapi.property.Property;
+import com.highmobility.autoapi.value.Position;
 import com.highmobility.value.Bytes;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 import static com.highmobility.autoapi.Command.AUTO_API_VERSION;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CommandResolverTest extends BaseTest {
-    @Test public void logsInvalidProperties() {
+    @Test public void rejectsUnknownSetterDiscriminator() {
         setRuntime(CommandResolver.RunTime.JAVA);
+        Bytes invalidEndParking = new Bytes(
+                COMMAND_HEADER + "004701" +
+                        "01000401000104"
+        );
+
+        // The status value matches neither of the setters, so none of them is parsed
+        debugLogExpected(0, () -> {
+            CommandResolver java = CommandResolver.forRuntime(CommandResolver.RunTime.JAVA);
+            assertTrue(java.getSetterClass(invalidEndParking.getByteArray()) == null);
 
-        // It tries to match 2 to commands, but for both the property parsing fails
-        debugLogExpected(2, () -> {
-            Bytes invalidEndParking = new Bytes(
-                    COMMAND_HEADER + "004701" +
-                            "01000401000104"
-            );
             Command command = CommandResolver.resolve(invalidEndParking);
             assertTrue(command.getClass() == Command.class);
             assertTrue(command.getProperties().length == 1);
         });
+
+        // without setters, the bytes are resolved to the state
+        Command state = CommandResolver.forRuntime(CommandResolver.RunTime.ANDROID)
+                .parse(invalidEndParking);
+        assertTrue(state.getClass() == ParkingTicket.State.class);
+        assertTrue(state.getProperties().length == 1);
+    }
+
+    @Test public void discriminatesSetters() {
+        setRuntime(CommandResolver.RunTime.JAVA);
+
+        // the control mode value selects the setter without parsing the other candidates
+        debugLogExpected(0, () -> {
+            Command start = CommandResolver.resolve(new Bytes(COMMAND_HEADER + "002701" +
+                    "01000401000102"));
+            Command stop = CommandResolver.resolve(new Bytes(COMMAND_HEADER + "002701" +
+                    "01000401000105"));
+            assertTrue(start instanceof RemoteControl.StartControl);
+            assertTrue(stop instanceof RemoteControl.StopControl);
+        });
+
+        // a list property is enough for a list setter
+        Command timers = CommandResolver.resolve(new Bytes(COMMAND_HEADER + "002301" +
+                "15000C01000900000001598938e788"));
+        assertTrue(timers instanceof Charging.SetChargingTimers);
+    }
+
+    @Test public void resolvesWithFixedRuntime() {
+        Bytes startControl = new Bytes(COMMAND_HEADER + "002701" + "01000401000102");
+        CommandResolver java = CommandResolver.forRuntime(CommandResolver.RunTime.JAVA);
+        CommandResolver android = CommandResolver.forRuntime(CommandResolver.RunTime.ANDROID);
+
+        // the global runtime doesn't change the resolvers
+        setRuntime(CommandResolver.RunTime.ANDROID);
+        assertTrue(java.parse(startControl) instanceof RemoteControl.StartControl);
+        assertTrue(android.parse(startControl) instanceof RemoteControl.State);
+        assertTrue(CommandResolver.resolve(startControl) instanceof RemoteControl.State);
+
+        setRuntime(CommandResolver.RunTime.JAVA);
+        assertTrue(android.parse(startControl) instanceof RemoteControl.State);
+        assertTrue(CommandResolver.resolve(startControl) instanceof RemoteControl.StartControl);
+        assertTrue(java.getResolverRuntime() == CommandResolver.RunTime.JAVA);
+    }
+
+    @Test public void resolvesWithFixedLazyDecoding() {
+        Bytes bytes = new Bytes(COMMAND_HEADER + "004001" +
+                "02000401000103" + // 3 is invalid gasflap lock state
+                "03000401000101");
+        CommandResolver eager = CommandResolver.forRuntime(CommandResolver.RunTime.ANDROID);
+        CommandResolver lazy = CommandResolver.forRuntime(CommandResolver.RunTime.ANDROID, true);
+        assertTrue(eager.isResolverLazyDecoding() == false);
+        assertTrue(lazy.isResolverLazyDecoding());
+        assertTrue(lazy.getResolverRuntime() == CommandResolver.RunTime.ANDROID);
+
+        // the global option doesn't change the resolvers
+        CommandResolver.setLazyDecoding(true);
+
+        try {
+            debugLogExpected(() -> {
+                Fueling.State state = (Fueling.State) eager.parse(bytes);
+                assertTrue(state.getGasFlapPosition().getValue() == Position.OPEN);
+            });
+        } finally {
+            CommandResolver.setLazyDecoding(false);
+        }
+
+        // the values are not decoded on parse
+        Fueling.State state = (Fueling.State) lazy.parse(bytes);
+        debugLogExpected(() -> {
+            assertTrue(state.getGasFlapLock().getValue() == null);
+            assertTrue(state.getGasFlapPosition().getValue() == Position.OPEN);
+        });
+    }
+
+    @Test public void reusesStates() {
+        ReusingCommandResolver resolver = new ReusingCommandResolver();
+        Command open = resolver.resolve(new Bytes(COMMAND_HEADER + "006701" +
+                "01000401000101").getByteArray());
+        assertTrue(((Hood.State) open).getPosition().getValue() == Hood.Position.OPEN);
+
+        // the same state instance is reparsed, and the missing properties are reset
+        Command empty = resolver.resolve(new Bytes(COMMAND_HEADER + "006701").getByteArray());
+        assertTrue(empty == open);
+        assertTrue(((Hood.State) empty).getPosition().getValue() == null);
+        assertTrue(empty.getProperties().length == 0);
+
+        Command closed = resolver.resolve(new Bytes(COMMAND_HEADER + "006701" +
+                "01000401000100").getByteArray());
+        assertTrue(closed == open);
+        assertTrue(((Hood.State) closed).getPosition().getValue() == Hood.Position.CLOSED);
+
+        // other command types are resolved as before
+        Command get = resolver.resolve(new Bytes(COMMAND_HEADER + "006700").getByteArray());
+        assertTrue(get instanceof Hood.GetState);
+        assertTrue(resolver.resolve(new Bytes(COMMAND_HEADER + "006700").getByteArray()) != get);
+    }
+
+    @Test public void reparseThrowsForOtherCommands() {
+        Command hood = CommandResolver.resolve(new Bytes(COMMAND_HEADER + "006701"));
+        assertThrows(CommandParseException.class, () ->
+                hood.reparse(new Bytes(COMMAND_HEADER + "002301").getByteArray()));
+
+        Command get = CommandResolver.resolve(new Bytes(COMMAND_HEADER + "006700"));
+        assertTrue(get.canReparse() == false);
+        assertThrows(UnsupportedOperationException.class, () ->
+                get.reparse(new Bytes(COMMAND_HEADER + "006700").getByteArray()));
+    }
+
+    @Test public void resolvesBatches() throws InterruptedException {
+        ArrayList<byte[]> commands = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            commands.add(new Bytes(COMMAND_HEADER + "006701" + "0100040100010" + (i % 2)).getByteArray());
+        }
+        commands.add(null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<ResolveResult> fromExecutor = CommandResolver.resolveAll(commands, executor);
+        executor.shutdown();
+
+        List<ResolveResult> fromPool = CommandResolver.resolveAll(commands);
+        List<ResolveResult> fromStream =
+                CommandResolver.resolveStream(commands).collect(Collectors.toList());
+
+        for (List<ResolveResult> results : Arrays.asList(fromExecutor, fromPool, fromStream)) {
+            assertTrue(results.size() == 201);
+
+            for (int i = 0; i < 200; i++) {
+                Hood.State state = (Hood.State) results.get(i).getCommand();
+                assertTrue(state.getPosition().getValue() ==
+                        (i % 2 == 0 ? Hood.Position.CLOSED : Hood.Position.OPEN));
+            }
+
+            // the failure is returned in the result
+            assertTrue(results.get(200).isSuccess() == false);
+            assertTrue(results.get(200).getException() != null);
+        }
+    }
+
+    @Test public void failsCancelledBatches() throws InterruptedException {
+        // cancels the tasks instead of running them
+        ExecutorService cancelling = new AbstractExecutorService() {
+            @Override public void execute(Runnable command) {
+                ((Future<?>) command).cancel(false);
+            }
+
+            @Override public void shutdown() {
+            }
+
+            @Override public List<Runnable> shutdownNow() {
+                return new ArrayList<>();
+            }
+
+            @Override public boolean isShutdown() {
+                return false;
+            }
+
+            @Override public boolean isTerminated() {
+                return false;
+            }
+
+            @Override public boolean awaitTermination(long timeout, TimeUnit unit) {
+                return true;
+            }
+        };
+
+        ArrayList<byte[]> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add(new Bytes(COMMAND_HEADER + "006701").getByteArray());
+        }
+
+        List<ResolveResult> results = CommandResolver.resolveAll(commands, cancelling);
+        assertTrue(results.size() == 100);
+
+        for (ResolveResult result : results) {
+            assertTrue(result.isSuccess() == false);
+            assertTrue(result.getException() != null);
+        }
+    }
+
+    @Test public void resolvesProjection() {
+        Bytes location = new Bytes(COMMAND_HEADER + "003001" +
+                "040013010010404A428F9F44D445402ACF562174C4CE" +
+                "05000D01000A0200402ABD80C308FEAC" +
+                "06000D01000A12004060B00000000000");
+        Bytes hood = new Bytes(COMMAND_HEADER + "006701" + "01000401000101");
+
+        VehicleStatus.State.Builder builder = new VehicleStatus.State.Builder();
+        builder.addState(new Property<>(CommandResolver.resolve(location)));
+        builder.addState(new Property<>(CommandResolver.resolve(hood)));
+        builder.setVin("JF2SHBDC7CH451869");
+        VehicleStatus.State status = builder.build();
+
+        Projection projection = new Projection.Builder()
+                .include(Identifier.VEHICLE_LOCATION, VehicleLocation.PROPERTY_COORDINATES,
+                        VehicleLocation.PROPERTY_HEADING)
+                .build();
+
+        // only the location state is kept, without the altitude
+        VehicleStatus.State projected = (VehicleStatus.State) CommandResolver.resolve(
+                status.getByteArray(), projection);
+        assertTrue(projected.getVin().equals("JF2SHBDC7CH451869"));
+        assertTrue(projected.getStates().size() == 1);
+
+        VehicleLocation.State locationState =
+                (VehicleLocation.State) projected.getStates().get(0).getValue();
+        assertTrue(locationState.getCoordinates().getValue().getLatitude() == 52.520008);
+        assertTrue(locationState.getHeading().getValue() != null);
+        assertTrue(locationState.getAltitude().getValue() == null);
+
+        // a capability that is not in the projection keeps no properties
+        Command projectedHood = CommandResolver.resolve(hood.getByteArray(), projection);
+        assertTrue(projectedHood.equals(COMMAND_HEADER + "006701"));
+    }
+
+    @Test public void findsSetterClass() {
+        CommandResolver resolver = CommandResolver.forRuntime(CommandResolver.RunTime.JAVA);
+
+        byte[] endParking = new ParkingTicket.EndParking().getByteArray();
+        assertTrue(resolver.getSetterClass(endParking) == ParkingTicket.EndParking.class);
+        assertTrue(resolver.parse(endParking) instanceof ParkingTicket.EndParking);
+
+        // the first matching setter is resolved
+        byte[] getTrips = new Historical.GetTrips(null, null).getByteArray();
+        assertTrue(resolver.getSetterClass(getTrips) == resolver.parse(getTrips).getClass());
+
+        // an unknown discriminator value
+        byte[] controlMode = new Bytes(COMMAND_HEADER + "002701" + "01000401000103").getByteArray();
+        assertTrue(resolver.getSetterClass(controlMode) == null);
+
+        // no signatures for states or single setters
+        assertTrue(CommandResolver.forRuntime(CommandResolver.RunTime.ANDROID).getSetterClass(endParking) == null);
+        assertTrue(resolver.getSetterClass(new WakeUp.WakeUpCommand().getByteArray()) == null);
     }
 
     @Test public void handlesIncorrectAutoApiVersion() {
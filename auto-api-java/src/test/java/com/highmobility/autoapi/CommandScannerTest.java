@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.value.Bytes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandScannerTest extends BaseTest {
+    Bytes fueling = new Bytes(COMMAND_HEADER + "004001" +
+            "02000401000103" + // gas flap lock
+            "03000F" + "01000101" + "020008000001598938e788" + // position with a timestamp
+            "0400090100020102" // truncated property
+    );
+
+    @Test public void scansComponents() {
+        ArrayList<String> visited = new ArrayList<>();
+
+        CommandScanner.scan(fueling.getByteArray(), new PropertyVisitor() {
+            @Override public void visitProperty(byte propertyIdentifier, byte[] bytes,
+                                                int offset, int length) {
+                visited.add("p" + propertyIdentifier + ":" + length);
+            }
+
+            @Override public void visitComponent(byte propertyIdentifier,
+                                                 byte componentIdentifier, byte[] bytes,
+                                                 int offset, int length) {
+                visited.add("c" + propertyIdentifier + "." + componentIdentifier + ":" +
+                        offset + ":" + length);
+            }
+        });
+
+        assertTrue(visited.size() == 5);
+        assertTrue(visited.get(0).equals("p2:4"));
+        assertTrue(visited.get(1).equals("c2.1:10:1"));
+        assertTrue(visited.get(2).equals("p3:15"));
+        assertTrue(visited.get(3).equals("c3.1:17:1"));
+        assertTrue(visited.get(4).equals("c3.2:21:8"));
+    }
+
+    @Test public void scansAtOffset() {
+        Bytes bytes = new Bytes("AABB").concat(fueling);
+        int[] valueComponents = new int[1];
+
+        assertTrue(CommandScanner.getIdentifier(bytes.getByteArray(), 2) == Identifier.FUELING);
+        assertTrue(CommandScanner.getType(bytes.getByteArray(), 2) == Type.SET);
+
+        CommandScanner.scan(bytes.getByteArray(), 2, fueling.getLength(),
+                (propertyIdentifier, componentIdentifier, b, offset, length) -> {
+                    if (componentIdentifier == 0x01) valueComponents[0]++;
+                });
+
+        assertTrue(valueComponents[0] == 2);
+    }
+
+    @Test public void iteratesNestedCommands() {
+        Bytes hood = new Bytes(COMMAND_HEADER + "006701" + "01000401000101");
+        Bytes vehicleStatus = new Bytes(COMMAND_HEADER + "001101" +
+                "99000E01000B" + hood +
+                "99" + String.format("%04X", fueling.getLength() + 3) +
+                "01" + String.format("%04X", fueling.getLength()) + fueling);
+
+        ArrayList<NestedCommand> nested = new ArrayList<>();
+        for (NestedCommand command : CommandScanner.nestedCommands(vehicleStatus.getByteArray())) {
+            nested.add(command);
+        }
+
+        assertTrue(nested.size() == 2);
+        assertTrue(nested.get(0).getIdentifier() == Identifier.HOOD);
+        assertTrue(nested.get(0).getPropertyIdentifier() == VehicleStatus.PROPERTY_STATES);
+        assertTrue(new Bytes(nested.get(0).getByteArray()).equals(hood));
+        assertTrue(nested.get(1).getIdentifier() == Identifier.FUELING);
+        assertTrue(nested.get(1).getType() == Type.SET);
+
+        Command resolved = nested.get(0).resolve();
+        assertTrue(resolved instanceof Hood.State);
+        assertTrue(nested.get(0).resolve() == resolved);
+
+        assertTrue(CommandScanner.nestedCommands(fueling.getByteArray()).iterator().hasNext() == false);
+    }
+
+    @Test public void doesNotScanGetCommands() {
+        Bytes get = new Bytes(COMMAND_HEADER + "004000" + "0203");
+        CommandScanner.scan(get.getByteArray(), (propertyIdentifier, componentIdentifier, b,
+                                                 offset, length) -> {
+            throw new IllegalStateException();
+        });
+    }
+}
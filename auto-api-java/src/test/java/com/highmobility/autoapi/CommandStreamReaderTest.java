@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.value.Bytes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandStreamReaderTest extends BaseTest {
+    // Charging state with the 0x0C property, that starts with the version byte
+    Bytes charging = new Bytes(COMMAND_HEADER + "002301" +
+            "0B0004010001010C00040100010113000601000300112113000601000301" +
+            "0C3414000D01000A17014043333333333333");
+    Bytes getCharging = new Bytes(COMMAND_HEADER + "002300" + "0B0C13");
+    Bytes getDoors = new Bytes(COMMAND_HEADER + "002000");
+    Bytes doors = new Bytes(COMMAND_HEADER + "002001" +
+            "02000501000200010600040100010004000501000205000500040100010106000401000100");
+
+    @Test public void readsCommands() throws IOException {
+        Bytes stream = charging.concat(getCharging).concat(getDoors).concat(doors);
+        CommandStreamReader reader = new CommandStreamReader(new ByteArrayInputStream(stream.getByteArray()));
+
+        Command first = reader.read();
+        assertTrue(first instanceof Charging.State);
+        assertTrue(first.equals(charging));
+        assertTrue(((Charging.State) first).getChargeMode().getValue() == Charging.ChargeMode.TIMER_BASED);
+
+        Command second = reader.read();
+        assertTrue(second instanceof Charging.GetState);
+        assertTrue(second.equals(getCharging));
+
+        Command third = reader.read();
+        assertTrue(third instanceof Doors.GetState);
+        assertTrue(third.equals(getDoors));
+
+        Command fourth = reader.read();
+        assertTrue(fourth instanceof Doors.State);
+        assertTrue(fourth.equals(doors));
+
+        assertTrue(reader.read() == null);
+    }
+
+    @Test public void handlesPartialReads() {
+        Bytes stream = doors.concat(charging).concat(getCharging).concat(doors);
+
+        // the stream returns one byte per read and the buffer has to grow
+        InputStream input = new FilterInputStream(new ByteArrayInputStream(stream.getByteArray())) {
+            @Override public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        ArrayList<Command> commands = new ArrayList<>();
+        new CommandStreamReader(Channels.newChannel(input), 4).forEachRemaining(commands::add);
+
+        assertTrue(commands.size() == 4);
+        assertTrue(commands.get(0).equals(doors));
+        assertTrue(commands.get(1).equals(charging));
+        assertTrue(commands.get(2).equals(getCharging));
+        assertTrue(commands.get(3).equals(doors));
+    }
+
+    @Test public void returnsTruncatedCommandAtTheEnd() throws IOException {
+        Bytes truncated = new Bytes(COMMAND_HEADER + "00200102000501");
+        Bytes stream = doors.concat(truncated);
+        CommandStreamReader reader = new CommandStreamReader(new ByteArrayInputStream(stream.getByteArray()));
+
+        assertTrue(reader.read().equals(doors));
+        assertTrue(reader.read().equals(truncated));
+        assertTrue(reader.read() == null);
+    }
+
+    @Test public void rejectsNonBlockingChannels() throws IOException {
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+
+        assertThrows(IllegalArgumentException.class, () -> new CommandStreamReader(pipe.source()));
+
+        pipe.source().close();
+        pipe.sink().close();
+    }
+
+    @Test public void failsWhenChannelReadsNothing() {
+        // a channel that behaves like a non-blocking one with no data available
+        ReadableByteChannel channel = new ReadableByteChannel() {
+            @Override public int read(ByteBuffer dst) {
+                return 0;
+            }
+
+            @Override public boolean isOpen() {
+                return true;
+            }
+
+            @Override public void close() {
+            }
+        };
+
+        CommandStreamReader reader = new CommandStreamReader(channel);
+        assertThrows(IOException.class, reader::read);
+    }
+}
@@ -27,11 +27,15 @@ import com.highmobility.autoapi.property.Property;
 import com.highmobility.autoapi.value.ActiveState;
 import com.highmobility.autoapi.value.Brand;
 import com.highmobility.autoapi.value.DashboardLight;
+import com.highmobility.autoapi.value.LockState;
+import com.highmobility.autoapi.value.Position;
 import com.highmobility.utils.ByteUtils;
 import com.highmobility.value.Bytes;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -65,6 +69,59 @@ public class CommandTest extends BaseTest {
         });
     }
 
+    @Test public void invalidEnumByteIsNotThrown() {
+        // the unknown byte is decoded to null without a parse exception, so there is no warning
+        warningLogExpected(0, () -> {
+            Fueling.State state = (Fueling.State) CommandResolver.resolve(
+                    new Bytes(COMMAND_HEADER + "00400102000401000103"));
+            assertTrue(state.getGasFlapLock().getValue() == null);
+            assertTrue(state.getGasFlapLock().getValueComponent().getValueClass() == LockState.class);
+        });
+    }
+
+    @Test public void lazyDecoding() {
+        CommandResolver.setLazyDecoding(true);
+
+        try {
+            Bytes bytes = new Bytes(COMMAND_HEADER + "004001" +
+                    "02000401000103" + // 3 is invalid gasflap lock state
+                    "03000401000101");
+
+            // the values are not decoded on resolve
+            debugLogExpected(0, () -> {
+                Fueling.State state = (Fueling.State) CommandResolver.resolve(bytes);
+                assertTrue(state.getGasFlapLock().getValueComponent() != null);
+            });
+
+            Fueling.State state = (Fueling.State) CommandResolver.resolve(bytes);
+            debugLogExpected(() -> {
+                assertTrue(state.getGasFlapLock().getValue() == null);
+                assertTrue(state.getGasFlapPosition().getValue() == Position.OPEN);
+                // the failed value is only decoded once
+                assertTrue(state.getGasFlapLock().getValue() == null);
+            });
+        } finally {
+            CommandResolver.setLazyDecoding(false);
+        }
+    }
+
+    @Test public void lazyDecodingCopiesIntegers() {
+        CommandResolver.setLazyDecoding(true);
+
+        try {
+            FailureMessage.State state = (FailureMessage.State) CommandResolver.resolve(
+                    new Bytes(COMMAND_HEADER + "000201" + "0100050100020067"));
+
+            // the builder copies the integer before it has been decoded
+            FailureMessage.State copy = new FailureMessage.State.Builder()
+                    .setFailedMessageID(state.getFailedMessageID()).build();
+            assertTrue(copy.getFailedMessageID().getValue() == 103);
+            assertTrue(copy.getFailedMessageID().getIntValue() == 103);
+        } finally {
+            CommandResolver.setLazyDecoding(false);
+        }
+    }
+
     @Test public void basePropertiesArrayObjectReplaced() {
         Bytes bytes = new Bytes(COMMAND_HEADER + "006101" +
                 "010006010003000000" +
@@ -95,7 +152,9 @@ public class CommandTest extends BaseTest {
         Bytes bytes = new Bytes(parkingBrakeCommand + "A2000B01000800000160E0EA1388");
         String expectedDate = "2018-01-10T16:32:05";
         ParkingBrake.State command = (ParkingBrake.State) CommandResolver.resolve(bytes);
+        assertTrue(command.getTimestampMillis() == 1515601925000L);
         assertTrue(dateIsSame(command.getTimestamp(), expectedDate));
+        assertTrue(command.getStatus().getTimestampMillis() == Property.NO_TIMESTAMP);
 
         Calendar calendar = TestUtils.getUTCCalendar(expectedDate);
         ParkingBrake.State.Builder builder = new ParkingBrake.State.Builder();
@@ -153,6 +212,23 @@ public class CommandTest extends BaseTest {
         assertTrue(command.getBrand().equals(Brand.BMW));
     }
 
+    @Test public void writesBuilderBytes() {
+        Bytes bytes = new Bytes(parkingBrakeCommand + "A4000401000105");
+        ParkingBrake.State.Builder builder = new ParkingBrake.State.Builder();
+        builder.setStatus(new Property(ActiveState.ACTIVE));
+        builder.setBrand(Brand.BMW);
+
+        assertTrue(builder.getCommandLength() == bytes.getLength());
+        assertTrue(new Bytes(builder.toByteArray()).equals(bytes));
+
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.getLength() + 2);
+        buffer.put((byte) 0xFF);
+        builder.writeTo(buffer);
+        assertTrue(buffer.position() == bytes.getLength() + 1);
+        assertTrue(new Bytes(Arrays.copyOfRange(buffer.array(), 1, buffer.position())).equals(bytes));
+        assertThrows(BufferOverflowException.class, () -> builder.writeTo(buffer));
+    }
+
     @Test public void signedBytes() {
         Command command = getCommandWithSignature();
         Bytes signedBytes = command.getSignedBytes();
@@ -226,6 +302,34 @@ public class CommandTest extends BaseTest {
         assertTrue(resolved2.getPropertyIdentifiers().equals("0102"));
     }
 
+    @Test public void indexedLookups() {
+        Command fueling = CommandResolver.resolve(COMMAND_HEADER + "004001" +
+                "02000401000103" +
+                "03000401000101" +
+                "03000401000100");
+
+        assertTrue(fueling.getProperty((byte) 0x02).getPropertyIdentifier() == 0x02);
+        // the first of the repeated properties
+        assertTrue(fueling.getProperty((byte) 0x03) == fueling.getProperties()[1]);
+        assertTrue(fueling.getProperty((byte) 0x04) == null);
+
+        Capabilities.State capabilities = (Capabilities.State) CommandResolver.resolve(COMMAND_HEADER + "001001" +
+                "01000C01000900200005020304050601000A01000700230003020811");
+        assertTrue(capabilities.getSupported(Identifier.DOORS, (byte) 0x06));
+        assertTrue(capabilities.getSupported(Identifier.CHARGING, (byte) 0x11));
+        assertTrue(capabilities.getSupported(Identifier.CHARGING, (byte) 0x03) == false);
+        assertTrue(capabilities.getSupported(Identifier.HOOD, (byte) 0x01) == false);
+        assertTrue(capabilities.getSupported(0x1234, (byte) 0x01) == false);
+
+        FailureMessage.State failure = (FailureMessage.State) CommandResolver.resolve(
+                COMMAND_HEADER + "000201" + "0100050100020150" + "0200040100010103000401000101" +
+                        "0500050100020102");
+        assertTrue(failure.getCommandFailed(0x0150, 1));
+        assertTrue(failure.getCommandFailed(0x0150, 0) == false);
+        assertTrue(failure.getPropertyFailed(0x0150, (byte) 0x02));
+        assertTrue(failure.getPropertyFailed(0x0150, (byte) 0x03) == false);
+    }
+
     @Test public void invalidAvailabilityThrows() {
         assertThrows(CommandParseException.class, () -> {
             // invalid type
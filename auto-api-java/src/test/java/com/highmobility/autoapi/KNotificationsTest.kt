@@ -127,7 +127,7 @@ class KNotificationsTest : BaseTest() {
     
         setRuntime(CommandResolver.RunTime.JAVA)
     
-        debugLogExpected { 
+        debugLogExpected(0) { 
             val resolved = CommandResolver.resolve(bytes)
             assertTrue(resolved is Command)
         }
@@ -149,7 +149,7 @@ class KParkingTicketTest : BaseTest() {
     
         setRuntime(CommandResolver.RunTime.JAVA)
     
-        debugLogExpected(2) { 
+        debugLogExpected(0) { 
             val resolved = CommandResolver.resolve(bytes)
             assertTrue(resolved is Command)
         }
@@ -175,7 +175,7 @@ class KParkingTicketTest : BaseTest() {
     
         setRuntime(CommandResolver.RunTime.JAVA)
     
-        debugLogExpected(2) { 
+        debugLogExpected(0) { 
             val resolved = CommandResolver.resolve(bytes)
             assertTrue(resolved is Command)
         }
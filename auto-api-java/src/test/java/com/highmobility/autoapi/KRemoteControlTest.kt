@@ -114,7 +114,7 @@ class KRemoteControlTest : BaseTest() {
     
         setRuntime(CommandResolver.RunTime.JAVA)
     
-        debugLogExpected(2) { 
+        debugLogExpected(0) { 
             val resolved = CommandResolver.resolve(bytes)
             assertTrue(resolved is Command)
         }
@@ -140,7 +140,7 @@ class KRemoteControlTest : BaseTest() {
     
         setRuntime(CommandResolver.RunTime.JAVA)
     
-        debugLogExpected(2) { 
+        debugLogExpected(0) { 
             val resolved = CommandResolver.resolve(bytes)
             assertTrue(resolved is Command)
         }
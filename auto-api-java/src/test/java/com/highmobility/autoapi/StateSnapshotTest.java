@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.autoapi.property.Property;
+import com.highmobility.value.Bytes;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StateSnapshotTest extends BaseTest {
+    // hood position with a timestamp, and the command timestamp
+    Bytes hood = new Bytes(COMMAND_HEADER + "006701" +
+            "01000F" + "01000101" + "0200080000017000000100" +
+            "A2000B0100080000017000000000");
+
+    Bytes fueling = new Bytes(COMMAND_HEADER + "004001" +
+            "02000401000103" + // gas flap lock
+            "03000F" + "01000101" + "020008000001598938e788" + // position with a timestamp
+            "0400090100020102" // truncated property
+    );
+
+    @Test public void roundTripsCommands() {
+        byte[] record = StateSnapshot.encode(CommandResolver.resolve(hood));
+        assertTrue(record.length < hood.getLength());
+        assertTrue(new Bytes(StateSnapshot.toAutoApiBytes(record)).equals(hood));
+
+        Command decoded = StateSnapshot.decode(record);
+        assertTrue(decoded instanceof Hood.State);
+        assertTrue(((Hood.State) decoded).getPosition().getValue() == Hood.Position.OPEN);
+
+        // the invalid bytes are kept
+        record = StateSnapshot.encode(CommandResolver.resolve(fueling));
+        assertTrue(new Bytes(StateSnapshot.toAutoApiBytes(record)).equals(fueling));
+    }
+
+    @Test public void keepsValuesThatDoNotEncode() {
+        // a timestamp too far from the base timestamp for a delta
+        Bytes farTimestamp = new Bytes(COMMAND_HEADER + "006701" +
+                "01000F" + "01000101" + "0200084000000000000000");
+        byte[] record = StateSnapshot.encode(CommandResolver.resolve(farTimestamp));
+        assertTrue(new Bytes(StateSnapshot.toAutoApiBytes(record)).equals(farTimestamp));
+
+        // a value that would be longer than the property when encoded
+        byte[] largeProperty = new byte[4 + 3 + 0xFFFF];
+        System.arraycopy(new Bytes(COMMAND_HEADER + "006701" + "01FFFF" + "01FFFC").getByteArray(),
+                0, largeProperty, 0, 10);
+        record = StateSnapshot.encode(CommandResolver.resolve(largeProperty));
+        assertTrue(Arrays.equals(StateSnapshot.toAutoApiBytes(record), largeProperty));
+    }
+
+    @Test public void readsSnapshot() {
+        Command get = CommandResolver.resolve(COMMAND_HEADER + "006700");
+        byte[] snapshot = StateSnapshot.write(Arrays.asList(CommandResolver.resolve(hood),
+                CommandResolver.resolve(fueling), get));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(snapshot.length + 2);
+        buffer.put(new byte[2]).put(snapshot).position(2);
+        StateSnapshot reader = new StateSnapshot(buffer);
+
+        assertTrue(reader.getCommandCount() == 3);
+        assertTrue(reader.getIdentifier(0) == Identifier.FUELING);
+        assertTrue(new Bytes(reader.getCommandBytes(0)).equals(fueling));
+
+        Command state = reader.getState(Identifier.HOOD);
+        assertTrue(state instanceof Hood.State);
+        assertTrue(state.equals(hood));
+
+        Property position = reader.getProperty(Identifier.HOOD, Hood.PROPERTY_POSITION);
+        assertTrue(position.getValue() == Hood.Position.OPEN);
+        assertTrue(position.getTimestampMillis() == 0x17000000100L);
+        assertTrue(reader.getProperties(Identifier.FUELING, (byte) 0x02).size() == 1);
+
+        assertTrue(reader.getState(Identifier.DOORS) == null);
+        assertTrue(reader.getProperty(Identifier.HOOD, (byte) 0x05) == null);
+    }
+
+    @Test public void readsLittleEndianBuffers() {
+        byte[] snapshot = StateSnapshot.write(Arrays.asList(CommandResolver.resolve(hood),
+                CommandResolver.resolve(fueling)));
+
+        // the caller's byte order doesn't change how the snapshot is read
+        ByteBuffer buffer = ByteBuffer.wrap(snapshot).order(ByteOrder.LITTLE_ENDIAN);
+        StateSnapshot reader = new StateSnapshot(buffer);
+
+        assertTrue(reader.getCommandCount() == 2);
+        assertTrue(reader.getState(Identifier.HOOD).equals(hood));
+        assertTrue(new Bytes(reader.getCommandBytes(0)).equals(fueling));
+        assertTrue(buffer.order() == ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Test public void throwsForInvalidSnapshots() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StateSnapshot(ByteBuffer.wrap(new byte[]{1, 2, 3})));
+        assertThrows(IllegalArgumentException.class,
+                () -> StateSnapshot.toAutoApiBytes(new byte[]{0x0C, 0x00}));
+    }
+}
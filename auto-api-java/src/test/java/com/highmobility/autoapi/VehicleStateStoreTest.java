@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi;
+
+import com.highmobility.autoapi.property.Property;
+import com.highmobility.value.Bytes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VehicleStateStoreTest extends BaseTest {
+    static final String VIN = "JF2SHBDC7CH451869";
+    static final String VIN_PROPERTY = "A300140100114A46325348424443374348343531383639";
+
+    // hood position with a timestamp component
+    String hood(String position, String timestamp) {
+        return COMMAND_HEADER + "006701" + "01000F" + "010001" + position + "020008" + timestamp;
+    }
+
+    // door position with a timestamp component
+    String door(String location, String timestamp) {
+        return "040010" + "010002" + location + "01" + "020008" + timestamp;
+    }
+
+    Command doors(String... positions) {
+        return CommandResolver.resolve(COMMAND_HEADER + "002001" + String.join("", positions));
+    }
+
+    @Test public void newerPropertiesWin() {
+        VehicleStateStore store = new VehicleStateStore();
+
+        assertTrue(store.update(CommandResolver.resolve(hood("01", "0000017000000000") + VIN_PROPERTY)) == 1);
+        assertTrue(store.getProperty(VIN, Identifier.HOOD, Hood.PROPERTY_POSITION).getValue() == Hood.Position.OPEN);
+
+        // an older state is ignored
+        assertTrue(store.update(CommandResolver.resolve(hood("00", "0000016000000000") + VIN_PROPERTY)) == 0);
+        assertTrue(store.getProperty(VIN, Identifier.HOOD, Hood.PROPERTY_POSITION).getValue() == Hood.Position.OPEN);
+
+        assertTrue(store.update(CommandResolver.resolve(hood("00", "0000018000000000") + VIN_PROPERTY)) == 1);
+        Property position = store.getProperty(VIN, Identifier.HOOD, Hood.PROPERTY_POSITION);
+        assertTrue(position.getValue() == Hood.Position.CLOSED);
+        assertTrue(position.getTimestampMillis() == 0x18000000000L);
+
+        assertTrue(store.getProperties(VIN, Identifier.HOOD).size() == 1);
+        assertTrue(store.getProperty(VIN, Identifier.DOORS, (byte) 0x01) == null);
+        assertTrue(store.getProperty("other", Identifier.HOOD, Hood.PROPERTY_POSITION) == null);
+        assertTrue(store.getVins().size() == 1);
+    }
+
+    @Test public void replacesRepeatedPropertiesAsGroup() {
+        String older = "0000016000000000";
+        String stored = "0000017000000000";
+        String newer = "0000018000000000";
+
+        // the newest timestamp of the group decides, in either order
+        for (boolean reversed : new boolean[]{false, true}) {
+            VehicleStateStore store = new VehicleStateStore();
+            assertTrue(store.update(VIN, doors(door("00", stored), door("01", stored))) == 2);
+
+            String olderDoor = door("02", older);
+            String newerDoor = door("03", newer);
+            Command update = reversed ? doors(newerDoor, olderDoor) : doors(olderDoor, newerDoor);
+            assertTrue(store.update(VIN, update) == 2);
+
+            Property[] positions = store.getProperties(VIN, Identifier.DOORS, Doors.PROPERTY_POSITIONS);
+            assertTrue(positions.length == 2);
+            assertTrue(positions[reversed ? 1 : 0].getTimestampMillis() == 0x16000000000L);
+            assertTrue(positions[reversed ? 0 : 1].getTimestampMillis() == 0x18000000000L);
+
+            // an older group is ignored as a whole
+            assertTrue(store.update(VIN, doors(door("00", older), door("01", older))) == 0);
+            assertTrue(store.getProperties(VIN, Identifier.DOORS, Doors.PROPERTY_POSITIONS).length == 2);
+        }
+    }
+
+    @Test public void mergesNestedStates() {
+        VehicleStateStore store = new VehicleStateStore();
+        Bytes hood = new Bytes(hood("01", "0000017000000000"));
+
+        Command vehicleStatus = CommandResolver.resolve(COMMAND_HEADER + "001101" +
+                "99" + String.format("%04X", hood.getLength() + 3) +
+                "01" + String.format("%04X", hood.getLength()) + hood + VIN_PROPERTY);
+
+        assertTrue(store.update(vehicleStatus) == 1);
+        assertTrue(store.getProperty(VIN, Identifier.HOOD, Hood.PROPERTY_POSITION).getValue() == Hood.Position.OPEN);
+        assertTrue(store.getProperties(VIN, Identifier.VEHICLE_STATUS).size() == 0);
+    }
+
+    @Test public void throwsWithoutVin() {
+        VehicleStateStore store = new VehicleStateStore();
+        Command hood = CommandResolver.resolve(hood("01", "0000017000000000"));
+
+        assertThrows(IllegalArgumentException.class, () -> store.update(hood));
+        assertTrue(store.update("vin", hood) == 1);
+        store.remove("vin");
+        assertTrue(store.getVins().isEmpty());
+    }
+}
@@ -24,7 +24,9 @@
 package com.highmobility.autoapi.permissions;
 
 import com.highmobility.autoapi.Identifier;
+import com.highmobility.autoapi.Trunk;
 import com.highmobility.autoapi.certificate.PermissionLocation;
+import com.highmobility.autoapi.value.LockState;
 import com.highmobility.value.BitLocation;
 
 import org.junit.jupiter.api.Test;
@@ -168,6 +170,28 @@ public class AutoApiPermissionsTest {
         assertTrue(locationIs(location, 9, 6));
     }
 
+    @Test public void checksPermissions() {
+        // trunk read (2, 7) and windows read (7, 1)
+        byte[] permissions = new byte[16];
+        permissions[2] = (byte) 0x80;
+        permissions[7] = 0x02;
+
+        assertTrue(PermissionLocation.isAllowed(permissions, Identifier.TRUNK,
+                PermissionLocation.Type.READ));
+        assertTrue(PermissionLocation.isAllowed(permissions, Identifier.TRUNK,
+                PermissionLocation.Type.WRITE) == false);
+        assertTrue(PermissionLocation.isAllowed(permissions, Identifier.WINDOWS,
+                PermissionLocation.Type.READ));
+        assertTrue(PermissionLocation.isAllowed(permissions, Identifier.GRAPHICS,
+                PermissionLocation.Type.READ) == false);
+        assertTrue(PermissionLocation.isAllowed(new byte[2], Identifier.TRUNK,
+                PermissionLocation.Type.READ) == false);
+
+        assertTrue(PermissionLocation.isAllowed(permissions, new Trunk.GetState()));
+        assertTrue(PermissionLocation.isAllowed(permissions,
+                new Trunk.ControlTrunk(LockState.UNLOCKED, null)) == false);
+    }
+
     boolean locationIs(BitLocation location, int byteLocation, int bitLocation) {
         return location.getByteLocation() == byteLocation && location.getBitLocation() ==
                 bitLocation;
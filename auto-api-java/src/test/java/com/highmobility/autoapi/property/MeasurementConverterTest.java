@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.property;
+
+import com.highmobility.autoapi.value.measurement.FuelEfficiency;
+import com.highmobility.autoapi.value.measurement.Length;
+import com.highmobility.autoapi.value.measurement.Temperature;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MeasurementConverterTest {
+    static boolean isClose(double expected, double actual) {
+        return Math.abs(expected - actual) <= 1e-12 * Math.max(1, Math.abs(expected));
+    }
+
+    @Test public void convertsArrays() {
+        MeasurementConverter converter = MeasurementConverter.forUnit(Length.Unit.class);
+        double[] values = new double[]{0, 1.5, -20, 432.1};
+        double[] kilometers = new double[values.length + 1];
+
+        converter.convert(values, 0, kilometers, 1, values.length,
+                Length.Unit.MILES, Length.Unit.KILOMETERS);
+
+        for (int i = 0; i < values.length; i++) {
+            assertTrue(isClose(Length.convert(values[i], Length.Unit.MILES,
+                    Length.Unit.KILOMETERS), kilometers[i + 1]));
+        }
+
+        assertTrue(kilometers[0] == 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convert(values, 1,
+                kilometers, 0, values.length, Length.Unit.MILES, Length.Unit.KILOMETERS));
+    }
+
+    @Test public void convertsOffsetsAndReciprocals() {
+        MeasurementConverter temperature = MeasurementConverter.forUnit(Temperature.Unit.class);
+        double[] values = new double[]{-40, 0, 36.6};
+        double[] fahrenheit = values.clone();
+        temperature.convert(fahrenheit, Temperature.Unit.CELSIUS, Temperature.Unit.FAHRENHEIT);
+
+        for (int i = 0; i < values.length; i++) {
+            assertTrue(isClose(Temperature.convert(values[i], Temperature.Unit.CELSIUS,
+                    Temperature.Unit.FAHRENHEIT), fahrenheit[i]));
+        }
+
+        MeasurementConverter efficiency = MeasurementConverter.forUnit(FuelEfficiency.Unit.class);
+        double mpg = efficiency.convert(6.5, FuelEfficiency.Unit.LITERS_PER_100_KILOMETERS,
+                FuelEfficiency.Unit.MILES_PER_GALLON);
+        assertTrue(isClose(FuelEfficiency.convert(6.5, FuelEfficiency.Unit.LITERS_PER_100_KILOMETERS,
+                FuelEfficiency.Unit.MILES_PER_GALLON), mpg));
+    }
+
+    @Test public void convertsMixedUnits() {
+        MeasurementConverter converter = MeasurementConverter.forUnit(Length.Unit.class);
+        double[] values = new double[]{1, 1000};
+        byte[] units = new byte[]{Length.Unit.KILOMETERS.getId(), Length.Unit.METERS.getId()};
+
+        converter.convert(values, units, Length.Unit.METERS);
+        assertTrue(isClose(1000, values[0]));
+        assertTrue(isClose(1000, values[1]));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                converter.convert(values, new byte[]{(byte) 0xFF, 0}, Length.Unit.METERS));
+        assertThrows(IllegalArgumentException.class, () ->
+                converter.convert(1, Temperature.Unit.CELSIUS, Length.Unit.METERS));
+        assertThrows(IllegalArgumentException.class, () ->
+                MeasurementConverter.forUnit(Thread.State.class));
+    }
+}
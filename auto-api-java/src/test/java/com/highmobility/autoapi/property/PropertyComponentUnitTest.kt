@@ -28,6 +28,7 @@ import com.highmobility.autoapi.HonkHornFlashLights
 import com.highmobility.autoapi.value.Light
 import com.highmobility.autoapi.value.measurement.*
 import com.highmobility.value.Bytes
+import org.junit.jupiter.api.Assertions.assertThrows
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import java.lang.String.format
@@ -128,6 +129,29 @@ class PropertyComponentUnitTest : BaseTest() {
         assertTrue(mpgToLp100 == "6.5")
     }
 
+    @Test
+    fun convertsFromValueBytes() {
+        val temperature = Property(Temperature::class.java, 0)
+        temperature.update(Property<Temperature>(Bytes("00000D" + "01000A17024012000000000000").byteArray))
+
+        assertTrue(temperature.getValueIn(Temperature.Unit.CELSIUS) == temperature.getValue()!!.inCelsius())
+        assertTrue(temperature.getValueIn(Temperature.Unit.FAHRENHEIT) == temperature.getValue()!!.inFahrenheit())
+        assertTrue(Temperature.convert(4.5, Temperature.Unit.FAHRENHEIT, Temperature.Unit.KELVIN) ==
+                temperature.getValue()!!.inKelvin())
+
+        // the unit has to be of the value's measurement type
+        assertThrows(IllegalStateException::class.java) {
+            temperature.getValueIn(Length.Unit.METERS)
+        }
+
+        // an unknown unit in the value bytes
+        val unknownUnit = Property(Temperature::class.java, 0)
+        unknownUnit.update(Property<Temperature>(Bytes("00000D" + "01000A17FF4012000000000000").byteArray))
+        assertThrows(IllegalStateException::class.java) {
+            unknownUnit.getValueIn(Temperature.Unit.CELSIUS)
+        }
+    }
+
     @Test
     fun testBytesCtor() {
         val valueClass = Light::class.java
@@ -28,7 +28,10 @@ import com.highmobility.autoapi.Charging
 import com.highmobility.autoapi.Charging.ChargeMode
 import com.highmobility.autoapi.CommandParseException
 import com.highmobility.autoapi.CommandResolver
+import com.highmobility.autoapi.value.Brand
+import com.highmobility.autoapi.value.measurement.Length
 import com.highmobility.value.Bytes
+import org.junit.jupiter.api.Assertions.assertThrows
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 
@@ -50,6 +53,55 @@ class PropertyTest : BaseTest() {
         testValueComponent(property, 1, ChargeMode.IMMEDIATE)
     }
 
+    @Test
+    fun parseWithValueDecoders() {
+        // Brand has no static fromByte, so it could not be created with reflection
+        val brand: Property<Brand> = Property(Brand::class.java, 0)
+        brand.update(Property<Any?>(Bytes("000004" + "01000129").byteArray))
+        assertTrue(brand.getValue() == Brand.VOLVO)
+
+        val length: Property<Length> = Property(Length::class.java, 0)
+        length.update(Property<Any?>(Bytes("00000D" + "01000A" + "12043FF0000000000000").byteArray))
+        assertTrue(length.getValue()!!.unit == Length.Unit.KILOMETERS)
+        assertTrue(length.getValue()!!.inMeters() == 1000.0)
+    }
+
+    @Test
+    fun primitiveValues() {
+        val doubleProperty: Property<Double> = Property(Double::class.javaObjectType, 0)
+        doubleProperty.update(Property<Any?>(Bytes("00000B" + "0100083FE8000000000000").byteArray))
+        assertTrue(doubleProperty.doubleValue == 0.75)
+
+        val booleanProperty: Property<Boolean> = Property(Boolean::class.javaObjectType, 0)
+        booleanProperty.update(Property<Any?>(Bytes("000004" + "01000101").byteArray))
+        assertTrue(booleanProperty.booleanValue)
+
+        val signedProperty = PropertyInteger(0, true)
+        signedProperty.update(Property<Any?>(Bytes("000005" + "010002FF38").byteArray))
+        assertTrue(signedProperty.intValue == -200)
+
+        val emptyProperty = PropertyInteger(0, false)
+        emptyProperty.update(Property<Any?>(Bytes("000000").byteArray))
+        assertThrows(IllegalStateException::class.java) { emptyProperty.intValue }
+    }
+
+    @Test
+    fun parseValuesInPlace() {
+        // values are read from the component bytes, value bytes are created on request
+        val stringProperty: Property<String> = Property(String::class.java, 0)
+        stringProperty.update(Property<Any?>(Bytes("000008" + "0100054175746f20").byteArray))
+        assertTrue(stringProperty.getValue() == "Auto ")
+        assertTrue(stringProperty.valueComponent!!.getValueBytes() == Bytes("4175746f20"))
+
+        val signedProperty = PropertyInteger(0, true)
+        signedProperty.update(Property<Any?>(Bytes("000005" + "010002FF38").byteArray))
+        assertTrue(signedProperty.getValue() == -200)
+
+        val unsignedProperty = PropertyInteger(0, false)
+        unsignedProperty.update(Property<Any?>(Bytes("000005" + "010002FF38").byteArray))
+        assertTrue(unsignedProperty.getValue() == 65336)
+    }
+
     @Test
     @Throws(CommandParseException::class)
     fun parseValueWithTimestamp() {
@@ -162,6 +214,7 @@ class PropertyTest : BaseTest() {
         assertTrue(dateIsSame(property.timestampComponent!!.calendar, timestamp))
         // test that bytes are set in component
         assertTrue(Property.getLong(property.timestampComponent!!.getValueBytes().byteArray) == 1515601925000L)
+        assertTrue(property.timestampMillis == 1515601925000L)
     }
 
     private fun testFailureComponent(property: Property<*>, expectedBytes: Bytes) {
@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2014- High-Mobility GmbH (https://high-mobility.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.highmobility.autoapi.property;
+
+import com.highmobility.autoapi.CommandResolver;
+import com.highmobility.value.Bytes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StringCacheTest {
+    // "JF2SHABC6CH456789" and "ß" in utf-8
+    final byte[] vin = new Bytes("4A463253484142433643483435363738390000").getByteArray();
+    final byte[] sharpS = new Bytes("C39F").getByteArray();
+
+    @AfterEach public void tearDown() {
+        CommandResolver.setStringCache(null);
+    }
+
+    @Test public void sharesStrings() {
+        StringCache cache = new StringCache(8, 32);
+        String first = cache.get(vin, 0, 17);
+        String second = cache.get(vin.clone(), 0, 17);
+
+        assertTrue(first.equals("JF2SHABC6CH456789"));
+        assertTrue(first == second);
+        assertTrue(cache.get(sharpS, 0, 2).equals("ß"));
+        assertTrue(cache.getHits() == 1);
+        assertTrue(cache.getMisses() == 2);
+
+        cache.clear();
+        assertTrue(cache.getHits() == 0);
+        assertTrue(cache.get(vin, 0, 17) != first);
+    }
+
+    @Test public void skipsLongStrings() {
+        StringCache cache = new StringCache(8, 16);
+        assertTrue(cache.get(vin, 0, 17) != cache.get(vin, 0, 17));
+        assertTrue(cache.getMisses() == 0);
+        assertTrue(cache.getCapacity() == 8);
+    }
+
+    @Test public void usedForPropertyStrings() {
+        StringCache cache = new StringCache();
+        CommandResolver.setStringCache(cache);
+
+        assertTrue(Property.getString(vin, 0, 17) == Property.getString(vin, 0, 17));
+        assertTrue(cache.getHits() == 1);
+
+        CommandResolver.setStringCache(null);
+        assertTrue(Property.getString(vin, 0, 17) != Property.getString(vin, 0, 17));
+    }
+}
@@ -26,6 +26,8 @@ package com.highmobility.autoapi.property;
 import com.highmobility.autoapi.CommandParseException;
 import com.highmobility.autoapi.value.Acceleration;
 import com.highmobility.autoapi.value.AddressComponent;
+import com.highmobility.autoapi.value.Brand;
+import com.highmobility.autoapi.value.LockState;
 import com.highmobility.value.Bytes;
 import org.junit.jupiter.api.Test;
 
@@ -57,5 +59,29 @@ public class ValueTest {
             new Acceleration(tooLittleBytes);
         });
     }
+
+    @Test
+    public void writesIntoDestination() {
+        byte[] destination = new byte[12];
+        Property.writeInt(destination, 1, 0x0123, 3);
+        Property.writeDouble(destination, 4, 1.5);
+        assertTrue(new Bytes(destination).equals("00000123" + "3FF8000000000000"));
+
+        assertTrue(new Bytes(Property.intToBytes(-2, 2)).equals("00FE"));
+        assertTrue(new Bytes(Property.intToBytes(300, 1)).equals("2C"));
+        assertTrue(new Bytes(Property.floatToBytes(1.5f)).equals("3FC00000"));
+        assertThrows(IllegalArgumentException.class, () -> Property.intToBytes(0x8000, 2));
+    }
+
+    @Test
+    public void byteEnumLookup() throws CommandParseException {
+        assertTrue(LockState.fromByte((byte) 0x01) == LockState.LOCKED);
+        assertTrue(LockState.fromByteOrNull((byte) 0x00) == LockState.UNLOCKED);
+        assertTrue(LockState.fromByteOrNull((byte) 0xFF) == null);
+        assertThrows(CommandParseException.class, () -> LockState.fromByte((byte) 0x02));
+
+        assertTrue(Brand.fromByteOrNull((byte) 0x29) == Brand.VOLVO);
+        assertTrue(Brand.fromByteOrNull((byte) 0x80) == null);
+    }
 }
 